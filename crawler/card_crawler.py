@@ -7,6 +7,7 @@ from selenium.webdriver.support import expected_conditions as EC
 from selenium.webdriver.common.by import By
 from selenium.common.exceptions import TimeoutException
 import json
+import sys
 
 # Chrome 옵션 설정
 chrome_options = Options()
@@ -103,8 +104,8 @@ df = pd.DataFrame({
 # DataFrame을 리스트-딕셔너리 형태로 변환
 json_data = df.to_dict(orient="records")  # orient="records"는 각 행을 딕셔너리로 변환
 
-# Volume에 저장할 경로
-output_path = "/shared/card_data.json"
+# 저장할 경로 (스케줄러가 임시 파일 경로를 인자로 전달, 없으면 Volume 경로)
+output_path = sys.argv[1] if len(sys.argv) > 1 else "/shared/card_data.json"
 
 # JSON 파일로 저장
 with open(output_path, "w", encoding="utf-8") as json_file:
@@ -0,0 +1,109 @@
+package com.example.backend.util.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 지역/카테고리 지출 평균, 카드 절약 금액 집계: BigDecimal + Map 박싱 방식 vs long 누산기 방식
+// 할당량 비교: ./gradlew jmh -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyAggregationBenchmark {
+
+    private static final String[] CATEGORIES = {"재료비", "인건비", "물류비", "임대료", "통신비", "유지보수비", "공과금"};
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private BigDecimal[] amounts;
+    private String[] categories;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new BigDecimal[rows];
+        categories = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = BigDecimal.valueOf(1_000L + random.nextInt(5_000_000));
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> regionAverageBigDecimal() {
+        // 기존 AccountService.getAccountHistoryByRegion 방식 (행마다 Map 생성 후 BigDecimal 로 reduce)
+        List<Map<String, Object>> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("amount", amounts[i]);
+            map.put("category", categories[i]);
+            records.add(map);
+        }
+
+        BigDecimal total = records.stream()
+                .map(record -> (BigDecimal) record.get("amount"))
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        Map<String, List<BigDecimal>> categoryMap = records.stream()
+                .collect(Collectors.groupingBy(
+                        record -> (String) record.get("category"),
+                        Collectors.mapping(record -> (BigDecimal) record.get("amount"), Collectors.toList())
+                ));
+
+        Map<String, BigDecimal> result = new HashMap<>();
+        categoryMap.forEach((category, values) -> result.put(category,
+                values.stream().reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(3), RoundingMode.HALF_UP)));
+        result.put("_total", total.divide(BigDecimal.valueOf(3), RoundingMode.HALF_UP));
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> regionAverageLong() {
+        CategoryMoneyAccumulator accumulator = new CategoryMoneyAccumulator();
+        for (int i = 0; i < rows; i++) {
+            accumulator.add(categories[i], Money.toWon(amounts[i]));
+        }
+        Map<String, BigDecimal> result = accumulator.toAverageMap(3);
+        result.put("_total", Money.toBigDecimal(Money.divideHalfUp(accumulator.total(), 3)));
+        return result;
+    }
+
+    @Benchmark
+    public BigDecimal cardSavingsBigDecimal() {
+        // 기존 CardService.recommendCards 방식
+        BigDecimal discountRate = BigDecimal.valueOf(10);
+        BigDecimal totalSavings = BigDecimal.ZERO;
+        for (int i = 0; i < rows; i++) {
+            BigDecimal savings = amounts[i].multiply(discountRate).divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP);
+            totalSavings = totalSavings.add(savings);
+        }
+        return totalSavings;
+    }
+
+    @Benchmark
+    public BigDecimal cardSavingsLong() {
+        long totalSavings = 0L;
+        for (int i = 0; i < rows; i++) {
+            totalSavings = Money.add(totalSavings, Money.percentOf(Money.toWon(amounts[i]), 10));
+        }
+        return Money.toBigDecimal(totalSavings);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 카드 크롤러 실행 전용 스레드 - 외부 프로세스 대기가 스케줄러 스레드를 점유하지 않도록 분리 (동시에 한 번만 실행)
+@Configuration
+public class CrawlerExecutorConfig {
+
+    @Bean(name = "crawlerExecutor")
+    public ThreadPoolTaskExecutor crawlerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("crawler-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+//////////// report 유니크 제약(uk_report_business_month_type) 추가 전 중복 행 정리
+/// 1. ddl-auto update 는 EntityManagerFactory 를 만들 때 제약을 추가하는데, 이전 버전에서 쌓인 중복 행이 있으면 추가에 실패함
+/// 2. 그래서 EntityManagerFactory 보다 먼저 (사업자, 월, 유형)마다 report_id 가 가장 큰(최신) 행만 남기고 삭제
+/// 3. 테이블이 아직 없거나(첫 실행) 중복이 없으면 아무것도 지우지 않음 (제약 추가 후에는 인덱스로 바로 끝남)
+@Configuration
+public class ReportDeduplicationConfig {
+
+    static final String BEAN_NAME = "reportDuplicateCleaner";
+
+    // EntityManagerFactory 가 정리 작업 이후에 만들어지도록 의존 관계 추가
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor reportDuplicateCleanerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(BEAN_NAME);
+    }
+
+    @Bean(BEAN_NAME)
+    public ReportDuplicateCleaner reportDuplicateCleaner(DataSource dataSource) {
+        return new ReportDuplicateCleaner(dataSource);
+    }
+
+    @RequiredArgsConstructor
+    @Slf4j
+    public static class ReportDuplicateCleaner implements InitializingBean {
+
+        private static final String DELETE_DUPLICATES = """
+                DELETE older FROM report older
+                JOIN report newer
+                  ON newer.business_registration_id = older.business_registration_id
+                 AND newer.report_month = older.report_month
+                 AND newer.report_type = older.report_type
+                 AND newer.report_id > older.report_id
+                """;
+
+        private final DataSource dataSource;
+
+        @Override
+        public void afterPropertiesSet() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!reportTableExists(connection)) {
+                    return;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    int deleted = statement.executeUpdate(DELETE_DUPLICATES);
+                    if (deleted > 0) {
+                        log.warn("중복 리포트 정리 - 최신 행만 남기고 {}건 삭제", deleted);
+                    }
+                }
+            }
+        }
+
+        private boolean reportTableExists(Connection connection) throws SQLException {
+            try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "report", new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 리포트(LLM) 생성 전용 스레드 풀 - 느린 외부 호출이 Tomcat 요청 스레드 / DB 커넥션을 점유하지 않도록 분리
+@Configuration
+public class ReportExecutorConfig {
+
+    @Bean(name = "reportExecutor")
+    public ThreadPoolTaskExecutor reportExecutor(
+            @Value("${report.executor.core-size:4}") int coreSize,
+            @Value("${report.executor.max-size:8}") int maxSize,
+            @Value("${report.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 리포트 SSE 스트리밍 전용 스레드 풀 - 연결마다 최대 report.stream.timeout-seconds 동안 스레드를 잡으므로
+    // 작업 큐(reportExecutor)와 분리하고 동시 연결 수를 제한 (넘치면 바로 거절, 큐에 쌓아 두지 않음)
+    @Bean(name = "reportStreamExecutor")
+    public ThreadPoolTaskExecutor reportStreamExecutor(
+            @Value("${report.stream.max-concurrent:16}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("report-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 월초 리포트 일괄 생성 전용 스레드 - 수 시간 걸릴 수 있어 스케줄러 스레드 / 기동 스레드를 점유하지 않도록 분리
+    // (동시에 한 번만 실행, 실행 중 요청은 ScheduledJobGuard 가 건너뛰므로 대기 큐 없음)
+    @Bean(name = "pregenerateExecutor")
+    public ThreadPoolTaskExecutor pregenerateExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("report-pregenerate-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
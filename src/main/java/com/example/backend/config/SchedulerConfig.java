@@ -1,9 +1,46 @@
 package com.example.backend.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
 
+// @Scheduled 작업 전용 스레드 풀 - 기본 스케줄러는 스레드 1개라 느린 작업(크롤러 / 은행 호출)이 POS 수집을 막음
+// 풀 크기는 등록된 작업 수 이상으로 두고, 작업별 중복 실행은 ScheduledJobGuard 가 막음 -> 한 작업이 다른 작업을 굶기지 않음
+// (크롤러 / 리포트 일괄 생성처럼 오래 걸리는 작업은 전용 executor 로 넘기고 스케줄러 스레드는 바로 반환)
 @Configuration
 @EnableScheduling
+@Slf4j
 public class SchedulerConfig {
+
+    @Value("${scheduler.pool-size:10}")
+    private int poolSize;
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setErrorHandler(e -> log.error("스케줄 작업 오류: {}", e.getMessage(), e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    // 기동 시 풀 크기 검증 - 등록된 @Scheduled 작업보다 스레드가 적으면 느린 작업끼리 겹칠 때 다른 작업이 밀리므로 기동 실패
+    @EventListener
+    public void validatePoolSize(ContextRefreshedEvent event) {
+        int jobs = event.getApplicationContext().getBeanProvider(ScheduledTaskHolder.class).stream()
+                .mapToInt(holder -> holder.getScheduledTasks().size())
+                .sum();
+        if (poolSize < jobs) {
+            throw new IllegalStateException("scheduler.pool-size(" + poolSize + ") 가 등록된 스케줄 작업 수(" + jobs + ") 보다 작습니다.");
+        }
+        log.info("스케줄 작업 {}개, 스케줄러 스레드 {}개", jobs, poolSize);
+    }
 }
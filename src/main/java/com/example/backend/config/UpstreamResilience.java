@@ -0,0 +1,73 @@
+package com.example.backend.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+//////////// 외부 호출(WebClient) 공통 장애 격리
+/// 1. 업스트림별 연결 / 응답 / 읽기 타임아웃 (upstream.{name}.*)
+/// 2. 업스트림별 서킷 브레이커 + 동시 호출 제한(bulkhead) (resilience4j.*.instances.{name})
+///    -> 한 업스트림이 느려져도 빠르게 실패하고 나머지 스레드는 영향 없음
+/// 3. 5xx 응답과 타임아웃은 실패로 기록, 4xx 는 정상 응답으로 취급
+/// 4. 서킷 / bulkhead 상태는 actuator 메트릭(resilience4j.circuitbreaker.*, resilience4j.bulkhead.*)으로 노출
+@Component
+@RequiredArgsConstructor
+public class UpstreamResilience {
+
+    private final Environment environment;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public WebClient.Builder apply(WebClient.Builder builder, String upstream) {
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient(upstream)))
+                .filter(resilienceFilter(upstream));
+    }
+
+    private HttpClient httpClient(String upstream) {
+        int connectTimeoutMs = property(upstream, "connect-timeout-ms", 3000);
+        int responseTimeoutMs = property(upstream, "response-timeout-ms", 10000);
+        int readTimeoutMs = property(upstream, "read-timeout-ms", 10000);
+
+        return HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+    }
+
+    private ExchangeFilterFunction resilienceFilter(String upstream) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(upstream);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(upstream);
+
+        // 호출부는 모두 retrieve() 를 사용하므로 5xx 를 여기서 예외로 바꿔도 동작은 같음
+        return (request, next) -> next.exchange(request)
+                .flatMap(response -> response.statusCode().is5xxServerError()
+                        ? response.createException().flatMap(Mono::error)
+                        : Mono.just(response))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    private int property(String upstream, String name, int defaultValue) {
+        return environment.getProperty("upstream." + upstream + "." + name, Integer.class, defaultValue);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +8,10 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
+
+    private final UpstreamResilience upstreamResilience;
 	
 	@Value("${bank.api.url}")
     private String bankUrl;
@@ -18,16 +22,16 @@ public class WebClientConfig {
 	@Value("${br.api.url}")
 	private String brUrl;
 
-    // 공통 버퍼 크기 설정 메서드
-    private WebClient.Builder configureBuilder(WebClient.Builder builder, int bufferSize) {
-        return builder
+    // 공통 버퍼 크기 + 업스트림별 타임아웃 / 서킷 브레이커 / bulkhead 설정 메서드
+    private WebClient.Builder configureBuilder(WebClient.Builder builder, int bufferSize, String upstream) {
+        return upstreamResilience.apply(builder, upstream)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(bufferSize));
     }
   
     // localhost:8081에 연결하는 WebClient
     @Bean(name = "webClient8081")
     public WebClient webClient8081(WebClient.Builder builder) {
-        return configureBuilder(builder, 10 * 1024 * 1024) // 10MB 버퍼 크기
+        return configureBuilder(builder, 10 * 1024 * 1024, "bank") // 10MB 버퍼 크기
                 .baseUrl(bankUrl)
                 .build();
     }
@@ -35,7 +39,7 @@ public class WebClientConfig {
     // localhost:8083에 연결하는 WebClient
     @Bean(name = "webClient8083")
     public WebClient webClient8083(WebClient.Builder builder) {
-        return configureBuilder(builder, 10 * 1024 * 1024) // 10MB 버퍼 크기
+        return configureBuilder(builder, 10 * 1024 * 1024, "pos") // 10MB 버퍼 크기
                 .baseUrl(posUrl)
                 .build();
     }
@@ -44,7 +48,7 @@ public class WebClientConfig {
     @Primary
     @Bean(name = "webClient8084")
     public WebClient webClient8084(WebClient.Builder builder) {
-        return configureBuilder(builder, 2 * 1024 * 1024) // 2MB 버퍼 크기
+        return configureBuilder(builder, 2 * 1024 * 1024, "business-registry") // 2MB 버퍼 크기
                 .baseUrl(brUrl)
                 .build();
     }
@@ -0,0 +1,83 @@
+package com.example.backend.controller.BUSINESS;
+
+import com.example.backend.dto.report.EconomicIndicatorDTO;
+import com.example.backend.dto.report.MarketPromptDTO;
+import com.example.backend.service.BUSINESS.MarketDataStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 관리자용 경제 지표 / 시장 이슈·트렌드 프롬프트 관리 (X-Admin-Token 헤더 필요, 토큰 미설정 시 사용 불가)
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/admin/market-data")
+@Tag(name = "시장 데이터 관리", description = "시장 동향 보고서용 경제 지표 / 프롬프트 관리 API")
+public class MarketDataController {
+
+    private final MarketDataStore marketDataStore;
+
+    @Value("${market-data.admin-token:}")
+    private String adminToken;
+
+    @Operation(summary = "경제 지표 등록/수정", description = "월별 BSI / CPI 지표를 등록하거나 수정합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "등록/수정 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치")
+    })
+    @PutMapping("/indicators")
+    public ResponseEntity<EconomicIndicatorDTO> upsertIndicator(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token,
+            @RequestBody EconomicIndicatorDTO request
+    ) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(marketDataStore.upsertIndicator(request));
+    }
+
+    @Operation(summary = "시장 이슈 / 트렌드 등록/수정", description = "월별 시장 이슈(issue) / 트렌드(trend) 프롬프트를 등록하거나 수정합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "등록/수정 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치")
+    })
+    @PutMapping("/prompts")
+    public ResponseEntity<MarketPromptDTO> upsertPrompt(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token,
+            @RequestBody MarketPromptDTO request
+    ) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(marketDataStore.upsertPrompt(request));
+    }
+
+    @Operation(summary = "시장 데이터 다시 읽기", description = "DB 를 직접 수정한 경우 메모리 인덱스를 다시 만듭니다.")
+    @PostMapping("/reload")
+    public ResponseEntity<Void> reload(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        marketDataStore.reload();
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean isAdmin(String token) {
+        if (adminToken == null || adminToken.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.backend.controller.BUSINESS;
 
+import com.example.backend.dto.report.ReportJobResponseDTO;
+import com.example.backend.model.BUSINESS.ReportJob;
+import com.example.backend.service.BUSINESS.ReportJobService;
 import com.example.backend.service.BUSINESS.ReportService;
+import com.example.backend.service.BUSINESS.ReportStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.YearMonth;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +30,8 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final ReportStreamService reportStreamService;
 
     @Operation(summary = "시장 동향 보고서 생성", description = "경제 지표를 활용하여 시장 동향 보고서를 생성합니다.")
     @ApiResponses({
@@ -61,20 +71,42 @@ public class ReportController {
         }
     }
 
-    @Operation(summary = "모든 보고서 조회", description = "특정 월에 대한 모든 보고서를 조회합니다.")
+    @Operation(summary = "동종 업계 비교 분석 보고서 스트리밍 생성", description = "보고서 필드를 생성되는 대로 SSE 로 전달합니다. (field: 필드 조각, done: 전체 보고서, error: 오류)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트리밍 시작"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    @GetMapping(value = "/industry-comparison/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIndustryComparison(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam YearMonth month
+    ) {
+        return reportStreamService.streamIndustryComparison(memberId, month);
+    }
+
+    @Operation(summary = "모든 보고서 조회", description = "특정 월에 대한 모든 보고서를 조회합니다. 아직 생성되지 않았으면 생성 작업을 요청하고 작업 ID를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "모든 보고서 조회 성공"),
+            @ApiResponse(responseCode = "202", description = "보고서 생성 작업 요청됨 (jobId 로 상태 조회)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/all")
-    public ResponseEntity<Map<String, Object>> getAllReport(
+    public ResponseEntity<?> getAllReport(
             @AuthenticationPrincipal Long memberId,
             @RequestParam YearMonth month
     ) {
         try {
-            Map<String, Map<String, Object>> reports = reportService.getAllReports(memberId, month);
-            return ResponseEntity.ok(Map.of("reports", reports));
+            // 저장된 JSON 을 그대로 응답 본문으로 사용 (파싱 / 재직렬화 없음)
+            Optional<byte[]> reports = reportService.findAllReportsJson(memberId, month);
+            if (reports.isPresent()) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(reports.get());
+            }
+            ReportJob job = reportJobService.submit(memberId, month);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of("jobId", job.getReportJobId(), "status", job.getStatus()));
         } catch (IllegalArgumentException e) {
             log.error("잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.<String, Object>of("error", "잘못된 요청: " + e.getMessage()));
@@ -84,6 +116,34 @@ public class ReportController {
         }
     }
 
+    @Operation(summary = "보고서 생성 작업 요청", description = "MARKET_REPORT / INDUSTRY_REPORT 생성 작업을 요청하고 작업 ID를 바로 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "보고서 생성 작업 요청 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    @PostMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> createReportJob(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam YearMonth month
+    ) {
+        ReportJob job = reportJobService.submit(memberId, month);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("jobId", job.getReportJobId(), "status", job.getStatus()));
+    }
+
+    @Operation(summary = "보고서 생성 작업 상태 조회", description = "작업 상태를 조회합니다. 완료된 경우 보고서를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "작업 상태 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 작업")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportJobResponseDTO> getReportJob(
+            @AuthenticationPrincipal Long memberId,
+            @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(reportJobService.getJob(memberId, jobId));
+    }
+
     @Operation(summary = "지난 달 보고서 존재 여부 확인", description = "사용자의 지난 달 보고서가 존재하는지 확인합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "지난 달 보고서 존재 여부 확인 성공"),
@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.card.CardRecommendationDTO;
+import com.example.backend.dto.card.CardSavingsSimulationDTO;
 import com.example.backend.service.CardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,7 +18,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.YearMonth;
 import java.util.List;
-import java.util.Map;
 
 
 @RestController
@@ -35,13 +36,31 @@ public class CardController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/recommend")
-    public ResponseEntity<List<Map<String, Object>>> cardRecommend(
+    public ResponseEntity<List<CardRecommendationDTO>> cardRecommend(
             @RequestParam("month") String month,
             @AuthenticationPrincipal Long memberId) {
         YearMonth yearMonth = YearMonth.parse(month);
 
-        List<Map<String, Object>> recommends = cardService.recommendCards(yearMonth, memberId);
+        List<CardRecommendationDTO> recommends = cardService.recommendCards(yearMonth, memberId);
 
         return ResponseEntity.ok(recommends);
     }
+
+    @Operation(summary = "연간 카드 절약 시뮬레이션", description = "기준 월까지 최근 12개월 소비 내역으로 모든 카드의 월별 절약 금액을 계산합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시뮬레이션 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/simulation")
+    public ResponseEntity<CardSavingsSimulationDTO> cardSimulation(
+            @RequestParam("month") String month,
+            @AuthenticationPrincipal Long memberId) {
+        YearMonth yearMonth = YearMonth.parse(month);
+
+        CardSavingsSimulationDTO simulation = cardService.simulateAnnualSavings(yearMonth, memberId);
+
+        return ResponseEntity.ok(simulation);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.backend.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryChannelExpenseDTO {
+
+    // 지출 카테고리
+    private String category;
+
+    // 온라인 결제 여부 (note 에 "온라인" 포함)
+    private boolean online;
+
+    // 카테고리 + 결제 방식별 이번 달 지출 합계
+    private BigDecimal amount;
+}
@@ -2,12 +2,14 @@ package com.example.backend.dto.account;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.Map;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class ExpenseDTO {
 
     // 달별 지출 합계
@@ -3,6 +3,7 @@ package com.example.backend.dto.account;
 import com.example.backend.model.enumSet.TransactionMeansEnum;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.util.Map;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class ExpenseDetailDTO {
 
     // 달별 지출 합계
@@ -24,6 +26,7 @@ public class ExpenseDetailDTO {
 
     @Data
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class ExpenseDetail {
         // 거래일
         private LocalDateTime transactionDate;
@@ -2,11 +2,13 @@ package com.example.backend.dto.account;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class ExpenseWeekDTO {
     // 1주차
     private BigDecimal week1;
@@ -0,0 +1,46 @@
+package com.example.backend.dto.card;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 추천 카드 한 장 (캐시에서 읽어도 계산 결과와 같은 타입으로 복원되도록 Map 대신 DTO 사용)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardRecommendationDTO {
+    private String cardName;
+    private String corporateName;
+
+    // 지출 항목별 절약 금액의 합 (항목별 원 단위 반올림)
+    private BigDecimal totalSaving;
+
+    private int ranking;
+    private String imageURL;
+    private List<String> benefits;
+
+    // 지출 항목별 절약 내역
+    private List<SavingDetail> savingDetails;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SavingDetail {
+        private String category;
+        private String storeName;
+        private String note;
+
+        // 이 지출에 해당하는 카드 혜택
+        private List<String> benefit;
+
+        private BigDecimal amount;
+
+        // 적용 할인율 ("5%")
+        private String discountRate;
+
+        private BigDecimal saving;
+    }
+}
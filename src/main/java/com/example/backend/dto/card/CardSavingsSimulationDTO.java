@@ -0,0 +1,36 @@
+package com.example.backend.dto.card;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardSavingsSimulationDTO {
+
+    // 시뮬레이션 기간 (오래된 달 -> 최근 달, "yyyy-MM")
+    private List<String> months;
+
+    // 카드별 월별 절약 금액 (기간 합계 내림차순 -> 랭킹 오름차순)
+    private List<CardSavingsCurve> cards;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CardSavingsCurve {
+        private String cardName;
+        private String corporateName;
+        private String imageURL;
+        private int ranking;
+
+        // 기간 전체 절약 금액
+        private BigDecimal totalSaving;
+
+        // months 와 같은 순서의 월별 절약 금액
+        private List<BigDecimal> monthlySavings;
+    }
+}
@@ -2,12 +2,14 @@ package com.example.backend.dto.goals;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class GoalYearlyResponseDTO {
 
     private int goalMonth; // 목표 월
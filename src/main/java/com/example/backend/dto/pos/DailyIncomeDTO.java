@@ -2,6 +2,7 @@ package com.example.backend.dto.pos;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.cglib.core.Local;
 
 import java.math.BigDecimal;
@@ -12,6 +13,7 @@ import java.util.Map;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class DailyIncomeDTO {
 
     private LocalDate date; // 특정 일자
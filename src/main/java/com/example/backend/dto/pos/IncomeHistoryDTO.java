@@ -2,11 +2,13 @@ package com.example.backend.dto.pos;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class IncomeHistoryDTO {
 
     private BigDecimal totalIncome2Ago; // 2개월 전 총 매출
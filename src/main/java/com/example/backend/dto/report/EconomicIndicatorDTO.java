@@ -0,0 +1,19 @@
+package com.example.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EconomicIndicatorDTO {
+
+    private YearMonth month; // 지표 기준 월
+    private String bsiIndex; // BSI 지수 (예: 75.9)
+    private String bsiDescription; // BSI 설명
+    private String cpiIndex; // CPI 지수 (예: 114.65)
+    private String cpiDescription; // CPI 설명
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketPromptDTO {
+
+    private YearMonth month; // 대상 월
+    private String type; // issue(시장 이슈) / trend(트렌드)
+    private String contents; // 프롬프트 내용
+}
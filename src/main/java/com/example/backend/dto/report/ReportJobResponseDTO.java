@@ -0,0 +1,19 @@
+package com.example.backend.dto.report;
+
+import com.example.backend.model.enumSet.ReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ReportJobResponseDTO {
+
+    private Long jobId; // 작업 ID
+    private YearMonth month; // 레포트 대상 월
+    private ReportJobStatus status; // 작업 상태
+    private String errorMessage; // 실패 사유
+    private Map<String, Map<String, Object>> reports; // 완료 시 MARKET_REPORT / INDUSTRY_REPORT
+}
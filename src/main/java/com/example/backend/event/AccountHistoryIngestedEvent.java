@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import com.example.backend.model.BANK.AccountHistory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 은행 거래 내역 동기화로 새 거래가 저장되었을 때 발행
+@Getter
+@AllArgsConstructor
+public class AccountHistoryIngestedEvent {
+    private final List<AccountHistory> accountHistories;
+}
@@ -0,0 +1,20 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+// 목표 진행률이 설정된 기준(%)을 넘었을 때 발행 (알림 등에서 구독)
+@Getter
+@AllArgsConstructor
+public class GoalThresholdCrossedEvent {
+
+    public enum Metric { REVENUE, EXPENSE }
+
+    private final Long businessRegistrationId;
+    private final YearMonth goalMonth;
+    private final Metric metric;
+    private final int threshold;
+    private final int percent;
+}
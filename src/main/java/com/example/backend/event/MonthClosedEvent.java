@@ -0,0 +1,13 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+// 월 마감 스냅샷이 만들어졌을 때 발행 (해당 월의 인메모리 추적 데이터 정리 등)
+@Getter
+@AllArgsConstructor
+public class MonthClosedEvent {
+    private final YearMonth month;
+}
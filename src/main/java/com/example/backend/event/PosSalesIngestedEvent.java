@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import com.example.backend.model.POS.PosSales;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// POS 주문 동기화로 새 매출이 저장되었을 때 발행
+@Getter
+@AllArgsConstructor
+public class PosSalesIngestedEvent {
+    private final List<PosSales> posSales;
+}
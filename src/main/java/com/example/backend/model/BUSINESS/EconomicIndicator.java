@@ -0,0 +1,40 @@
+package com.example.backend.model.BUSINESS;
+
+import com.example.backend.model.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 월별 경제 지표 (시장 동향 보고서 프롬프트에 사용)
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "economic_indicator")
+public class EconomicIndicator extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "economic_indicator_id")
+    private Long economicIndicatorId;
+
+    // 지표 기준 월 (해당 월 1일)
+    @Column(name = "indicator_month", nullable = false, unique = true)
+    private LocalDate indicatorMonth;
+
+    // 소상공인 전망 BSI 지수 / 설명
+    @Column(name = "bsi_index", length = 20)
+    private String bsiIndex;
+
+    @Column(name = "bsi_description")
+    private String bsiDescription;
+
+    // 소비자물가지수(CPI) / 설명
+    @Column(name = "cpi_index", length = 20)
+    private String cpiIndex;
+
+    @Column(name = "cpi_description")
+    private String cpiDescription;
+}
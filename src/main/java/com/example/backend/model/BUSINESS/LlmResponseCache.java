@@ -0,0 +1,29 @@
+package com.example.backend.model.BUSINESS;
+
+import com.example.backend.model.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+// LLM 응답 캐시 (Redis 유실 시 대비용 영구 저장소)
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "llm_response_cache")
+public class LlmResponseCache extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "llm_response_cache_id")
+    private Long llmResponseCacheId;
+
+    // 정규화한 요청 본문의 SHA-256 (hex)
+    @Column(name = "request_hash", nullable = false, unique = true, length = 64)
+    private String requestHash;
+
+    // 파싱된 function_call arguments (JSON 형태)
+    @Lob
+    @Column(name = "response", nullable = false, columnDefinition = "JSON")
+    private String response;
+}
@@ -0,0 +1,31 @@
+package com.example.backend.model.BUSINESS;
+
+import com.example.backend.model.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 시장 동향 보고서 (월 단위로 하나만 생성해서 모든 사업자가 공유)
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "market_report")
+public class MarketReport extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "market_report_id")
+    private Long marketReportId;
+
+    // 레포트 대상 월 (해당 월 1일)
+    @Column(name = "report_month", nullable = false, unique = true)
+    private LocalDate reportMonth;
+
+    // 보고서 내용 (JSON 형태)
+    @Lob
+    @Column(name = "content", nullable = false, columnDefinition = "JSON")
+    private String content;
+}
@@ -0,0 +1,54 @@
+package com.example.backend.model.BUSINESS;
+
+import com.example.backend.model.BaseTime;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 월초 리포트 일괄 생성 진행 상황 (재시작 시 lastMemberId 이후부터 이어서 실행)
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_batch")
+public class ReportBatch extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "report_batch_id")
+    private Long reportBatchId;
+
+    // 레포트 대상 월
+    @Column(name = "report_month", nullable = false, unique = true)
+    private LocalDate reportMonth;
+
+    // 진행 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    // 처리 완료된 마지막 회원 ID (체크포인트)
+    @Column(name = "last_member_id", nullable = false)
+    private Long lastMemberId;
+
+    // 처리 건수 / 실패 건수
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    // 실패한 회원만 다시 생성한 횟수 (report.pregenerate.retry-attempts 까지)
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
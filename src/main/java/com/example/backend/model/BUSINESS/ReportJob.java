@@ -0,0 +1,61 @@
+package com.example.backend.model.BUSINESS;
+
+import com.example.backend.model.BaseTime;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_job", uniqueConstraints = @UniqueConstraint(
+        name = "uk_report_job_active",
+        columnNames = {"active_key"}))
+public class ReportJob extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "report_job_id")
+    private Long reportJobId;
+
+    // 요청한 회원
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 레포트 대상 월
+    @Column(name = "report_month", nullable = false)
+    private LocalDate reportMonth;
+
+    // 작업 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    // 실패 사유
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    // 요청 시각
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    // 완료(성공/실패) 시각
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 진행 중인 동안만 "회원ID:대상월" (끝나면 null) -> 같은 회원/월의 진행 중 작업은 하나만 저장됨
+    @Column(name = "active_key", length = 40)
+    private String activeKey;
+
+    // 작업을 실행 중인 서버와 임대 만료 시각 (만료된 작업만 다른 서버가 가져가서 다시 실행)
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
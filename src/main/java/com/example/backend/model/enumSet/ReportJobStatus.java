@@ -0,0 +1,8 @@
+package com.example.backend.model.enumSet;
+
+public enum ReportJobStatus {
+    PENDING, // 대기
+    RUNNING, // 생성 중
+    COMPLETED, // 완료
+    FAILED // 실패
+}
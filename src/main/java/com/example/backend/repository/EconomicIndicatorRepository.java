@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.EconomicIndicator;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface EconomicIndicatorRepository extends JpaRepository<EconomicIndicator, Long> {
+    Optional<EconomicIndicator> findByIndicatorMonth(LocalDate indicatorMonth);
+}
@@ -3,5 +3,10 @@ package com.example.backend.repository;
 import com.example.backend.model.BUSINESS.Goals;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.YearMonth;
+import java.util.Optional;
+
 public interface GoalsRepository extends JpaRepository<Goals, Long> {
+
+    Optional<Goals> findByBusinessRegistration_BusinessRegistrationIdAndGoalMonth(Long businessRegistrationId, YearMonth goalMonth);
 }
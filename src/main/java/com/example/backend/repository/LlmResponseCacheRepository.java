@@ -0,0 +1,10 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.LlmResponseCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCache, Long> {
+    Optional<LlmResponseCache> findByRequestHash(String requestHash);
+}
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.MarketReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface MarketReportRepository extends JpaRepository<MarketReport, Long> {
+    Optional<MarketReport> findByReportMonth(LocalDate reportMonth);
+}
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.Prompt;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+public interface PromptRepository extends JpaRepository<Prompt, Long> {
+    Optional<Prompt> findFirstByMonthAndType(YearMonth month, String type);
+}
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.ReportBatch;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportBatchRepository extends JpaRepository<ReportBatch, Long> {
+    Optional<ReportBatch> findByReportMonth(LocalDate reportMonth);
+
+    List<ReportBatch> findByStatus(ReportJobStatus status);
+}
@@ -0,0 +1,45 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.ReportJob;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+    Optional<ReportJob> findFirstByMemberIdAndReportMonthAndStatusIn(Long memberId, LocalDate reportMonth, Collection<ReportJobStatus> statuses);
+
+    List<ReportJob> findByStatusIn(Collection<ReportJobStatus> statuses);
+
+    // 임대가 없거나 만료된 진행 중 작업을 가져감 (조건부 UPDATE -> 여러 서버 중 한 곳만 1 을 받음)
+    @Transactional
+    @Modifying
+    @Query("update ReportJob j set j.owner = :owner, j.leaseUntil = :leaseUntil " +
+            "where j.reportJobId = :jobId and j.status in :statuses and (j.leaseUntil is null or j.leaseUntil < :now)")
+    int claimExpired(@Param("jobId") Long jobId, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("now") LocalDateTime now, @Param("statuses") Collection<ReportJobStatus> statuses);
+
+    // 재시작한 서버가 자기 이름으로 잡혀 있던 작업을 다시 가져감 (이전 프로세스는 이미 종료됨)
+    @Transactional
+    @Modifying
+    @Query("update ReportJob j set j.leaseUntil = :leaseUntil " +
+            "where j.reportJobId = :jobId and j.status in :statuses and j.owner = :owner")
+    int reclaimOwn(@Param("jobId") Long jobId, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("statuses") Collection<ReportJobStatus> statuses);
+
+    // 실행 시작 / 진행 중 임대 연장 (임대를 가진 서버만)
+    @Transactional
+    @Modifying
+    @Query("update ReportJob j set j.status = :running, j.leaseUntil = :leaseUntil " +
+            "where j.reportJobId = :jobId and j.owner = :owner and j.status in :statuses")
+    int heartbeat(@Param("jobId") Long jobId, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil,
+                  @Param("running") ReportJobStatus running, @Param("statuses") Collection<ReportJobStatus> statuses);
+}
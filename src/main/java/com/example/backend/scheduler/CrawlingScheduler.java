@@ -1,43 +1,123 @@
 package com.example.backend.scheduler;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.backend.service.CardCatalog;
+
+import lombok.extern.log4j.Log4j2;
+
+//////////// 카드 크롤러 실행
+/// 1. 스케줄러 스레드는 crawlerExecutor 에 작업만 넘기고 바로 반환 (이미 실행 중이면 건너뜀)
+/// 2. 제한 시간(card.crawler.timeout-minutes)을 넘기면 프로세스 종료 -> 응답 없으면 강제 종료
+/// 3. 크롤러 출력은 마지막 N줄만 보관 (card.crawler.log-lines), 실패 시에만 경고 로그로 남김
+/// 4. 크롤러는 card_data.json 옆 임시 파일에 쓰고, CardCatalog.publish() 가 검증 후 원자적으로 교체 + 다시 읽음
 @Component
+@Log4j2
 public class CrawlingScheduler {
+	private final TaskExecutor crawlerExecutor;
+	private final CardCatalog cardCatalog;
+	private final ScheduledJobGuard scheduledJobGuard;
+
 	@Value("${card.py.file.path:/crawler/card_crawler.py}")
 	private String pythonScriptPath; // Pythen 파일 경로
-	private String pythonCommand = "python"; // 시스템에 설치된 Python 실행 경로
+	@Value("${card.py.data.path}")
+	private String jsonFilePath; // 크롤링 결과가 최종적으로 놓일 경로
+	@Value("${card.crawler.command:python}")
+	private String pythonCommand; // 시스템에 설치된 Python 실행 경로
+	@Value("${card.crawler.timeout-minutes:10}")
+	private long timeoutMinutes;
+	@Value("${card.crawler.log-lines:200}")
+	private int logLines;
+
+	public CrawlingScheduler(@Qualifier("crawlerExecutor") TaskExecutor crawlerExecutor, CardCatalog cardCatalog,
+			ScheduledJobGuard scheduledJobGuard) {
+		this.crawlerExecutor = crawlerExecutor;
+		this.cardCatalog = cardCatalog;
+		this.scheduledJobGuard = scheduledJobGuard;
+	}
 
 	@Scheduled(cron = "0 0 9 * * MON") // 매주 월요일 오전 9시
 	public void runPythonScript() {
-		
+		// 이미 실행 중이면 ScheduledJobGuard 가 건너뛰고 scheduler.job.skipped 로 집계
+		scheduledJobGuard.submit("card-crawler", crawlerExecutor, this::crawl);
+	}
+
+	// 스케줄러를 거치지 않고 호출한 스레드에서 바로 실행 (끝날 때까지 대기)
+	// 새 카드 데이터가 반영되었으면 true, 이미 실행 중이거나 실패했으면 false
+	public boolean crawlNow() {
+		AtomicBoolean published = new AtomicBoolean(false);
+		scheduledJobGuard.run("card-crawler", () -> published.set(crawl()));
+		return published.get();
+	}
+
+	// 크롤러 실행 후 결과 반영, 반영 성공 여부 반환
+	private boolean crawl() {
+		Path target = Path.of(jsonFilePath).toAbsolutePath();
+		// 원자적 이동이 가능하도록 같은 디렉토리에 임시 파일
+		Path output = target.resolveSibling(target.getFileName() + "." + System.currentTimeMillis() + ".tmp");
+		OutputTail tail = new OutputTail(logLines);
+		long startedAt = System.nanoTime();
+		Process process = null;
+
 		try {
-			ProcessBuilder processBuilder = new ProcessBuilder(pythonCommand, pythonScriptPath);
+			ProcessBuilder processBuilder = new ProcessBuilder(pythonCommand, pythonScriptPath, output.toString());
 			processBuilder.redirectErrorStream(true);
-			
-			Process process = processBuilder.start();
-			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-			String line;
-			
-			System.out.println("Python 스크립트 실행 중...");
-			while((line = reader.readLine()) != null) {
-				System.out.println(line); // Python 스크립트의 출력 로그를 Spring 로그에 표
+
+			log.info("카드 크롤러 실행 - {} -> {}", pythonScriptPath, output);
+			process = processBuilder.start();
+
+			// 출력 버퍼가 차서 프로세스가 멈추지 않도록 별도 스레드에서 계속 읽음
+			Process started = process;
+			Thread reader = new Thread(() -> tail.drain(started.getInputStream()), "crawler-output");
+			reader.setDaemon(true);
+			reader.start();
+
+			if (!process.waitFor(timeoutMinutes, TimeUnit.MINUTES)) {
+				log.error("카드 크롤러가 {}분 안에 끝나지 않아 종료합니다. 최근 출력:\n{}", timeoutMinutes, tail);
+				process.destroy();
+				if (!process.waitFor(10, TimeUnit.SECONDS)) {
+					process.destroyForcibly();
+				}
+				return false;
 			}
-			
-			int exitCode = process.waitFor();
-			if (exitCode == 0) {
-				System.out.println("Python 스크립트가 성공적으로 실행되었습니다.");
-			} else {
-				System.err.println("Python 스크립트 실행 실패. 종료 코드: " + exitCode);
+			reader.join(TimeUnit.SECONDS.toMillis(5));
+
+			int exitCode = process.exitValue();
+			if (exitCode != 0) {
+				log.error("카드 크롤러 실행 실패. 종료 코드: {}, 최근 출력:\n{}", exitCode, tail);
+				return false;
+			}
+			if (!Files.exists(output)) {
+				log.error("카드 크롤러가 결과 파일을 만들지 않았습니다: {}", output);
+				return false;
+			}
+
+			cardCatalog.publish(output);
+			log.info("카드 크롤러 완료 - {}초", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("카드 크롤러 대기 중 인터럽트, 프로세스를 종료합니다.");
+			process.destroyForcibly();
+		} catch (IOException | RuntimeException e) {
+			log.error("카드 크롤러 실행 / 결과 반영 실패, 기존 카드 데이터 유지 - {}", e.getMessage());
+		} finally {
+			try {
+				Files.deleteIfExists(output);
+			} catch (IOException e) {
+				log.warn("크롤러 임시 파일 삭제 실패: {}", output);
 			}
-		} catch (IOException | InterruptedException e) {
-			e.printStackTrace();
 		}
+		return false;
 	}
 }
@@ -0,0 +1,150 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.event.MonthClosedEvent;
+import com.example.backend.model.BANK.QAccountHistory;
+import com.example.backend.model.POS.QPosSales;
+import com.example.backend.model.QMember;
+import com.example.backend.service.BANK.AccountService;
+import com.example.backend.service.POS.PosService;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 월 마감 작업: 정산이 끝난 지난 달 집계를 회원별로 계산해 스냅샷으로 고정
+// 스냅샷 파일은 서버별 snapshot.dir 에 있으므로 각 서버가 기동 시 / 정기 실행 시 DB 에서 직접 고정
+// (마감된 월의 DB 데이터는 바뀌지 않아 서버마다 같은 내용, 공유 볼륨 불필요)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthCloseScheduler {
+
+    private final JPAQueryFactory queryFactory;
+    private final PosService posService;
+    private final AccountService accountService;
+    private final MonthSnapshotStore monthSnapshotStore;
+    private final ScheduledJobGuard scheduledJobGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Scheduled(cron = "${snapshot.close.cron:0 0 4 3 * *}") // 기본값: 매월 3일 오전 4시 (은행/POS 정산 이후)
+    public void closePreviousMonth() {
+        scheduledJobGuard.run("month-close", this::closeUnclosedMonths);
+    }
+
+    // 기동 시 마감되지 않은 지난 월 모두 마감 (배포 이전 월 / 서버가 내려가 있어 놓친 마감)
+    // 같은 "month-close" 가드로 실행하므로 정기 실행과 겹쳐도 스케줄러 스레드는 하나만 사용
+    @EventListener(ApplicationReadyEvent.class)
+    public void closeMissedMonths() {
+        scheduledJobGuard.submit("month-close", taskScheduler, this::closeUnclosedMonths);
+    }
+
+    // 데이터가 있는 첫 월부터 지난 달까지 마감되지 않은 월을 차례로 마감
+    // MonthClosedEvent 는 지난 달에만 발행 (이전 월까지 발행하면 지난 모든 월의 리포트 일괄 생성이 시작됨)
+    public void closeUnclosedMonths() {
+        YearMonth previous = YearMonth.now().minusMonths(1);
+        YearMonth first = firstDataMonth();
+        if (first != null) {
+            for (YearMonth month = first; month.isBefore(previous); month = month.plusMonths(1)) {
+                if (!monthSnapshotStore.isClosed(month)) {
+                    log.info("누락된 월 마감 실행 - month: {}", month);
+                    freeze(month);
+                }
+            }
+        }
+        closeMonth(previous);
+    }
+
+    public void closeMonth(YearMonth month) {
+        if (!month.isBefore(YearMonth.now())) {
+            log.warn("진행 중인 월은 마감할 수 없습니다: {}", month);
+            return;
+        }
+        if (monthSnapshotStore.isClosed(month)) {
+            return;
+        }
+        if (freeze(month)) {
+            eventPublisher.publishEvent(new MonthClosedEvent(month));
+        }
+    }
+
+    // POS 매출 / 계좌 지출 중 가장 이른 거래의 월 (데이터가 없으면 null)
+    private YearMonth firstDataMonth() {
+        LocalDateTime firstSale = queryFactory
+                .select(QPosSales.posSales.orderTime.min())
+                .from(QPosSales.posSales)
+                .fetchOne();
+        LocalDateTime firstExpense = queryFactory
+                .select(QAccountHistory.accountHistory.transactionDate.min())
+                .from(QAccountHistory.accountHistory)
+                .fetchOne();
+        if (firstSale == null && firstExpense == null) {
+            return null;
+        }
+        if (firstSale == null || (firstExpense != null && firstExpense.isBefore(firstSale))) {
+            return YearMonth.from(firstExpense);
+        }
+        return YearMonth.from(firstSale);
+    }
+
+    // 회원별 집계를 스냅샷 파일로 고정, 새로 마감했으면 true
+    private boolean freeze(YearMonth month) {
+        QMember qMember = QMember.member;
+        List<Long> memberIds = queryFactory
+                .select(qMember.memberId)
+                .from(qMember)
+                .where(qMember.businessRegistration.isNotNull())
+                .fetch();
+
+        Map<Long, Map<SnapshotKind, Object>> aggregates = new HashMap<>();
+        for (Long memberId : memberIds) {
+            Map<SnapshotKind, Object> values = new EnumMap<>(SnapshotKind.class);
+            collect(values, SnapshotKind.MONTHLY_INCOME, () -> posService.getMonthlyIncomeSummary(memberId, month));
+            collect(values, SnapshotKind.INCOME_HISTORY, () -> posService.getIncomeHistory(memberId, month));
+            collect(values, SnapshotKind.MONTHLY_REVENUE, () -> posService.calculateMonthlyRevenue(memberId, month));
+            collect(values, SnapshotKind.TOTAL_EXPENSE, () -> accountService.calculateTotalExpenses(month, memberId));
+            collect(values, SnapshotKind.EXPENSE_DETAIL, () -> accountService.showDetailExpense(memberId, month));
+            collect(values, SnapshotKind.EXPENSE_WEEK, () -> accountService.showWeekExpense(memberId, month));
+            collect(values, SnapshotKind.NET_PROFIT, () -> accountService.showNetProfit(memberId, month));
+            collect(values, SnapshotKind.PROFIT_DETAIL, () -> accountService.showProfitDetail(memberId, month));
+            if (!values.isEmpty()) {
+                aggregates.put(memberId, values);
+            }
+        }
+
+        try {
+            return monthSnapshotStore.freeze(month, aggregates);
+        } catch (IOException e) {
+            log.error("월 마감 스냅샷 저장 실패: {}", month, e);
+            return false;
+        }
+    }
+
+    // 포스/계좌가 연결되지 않은 회원 등 계산이 불가능한 항목은 스냅샷에서 제외 (조회 시 DB로 계산)
+    private void collect(Map<SnapshotKind, Object> values, SnapshotKind kind, Supplier<Object> aggregate) {
+        try {
+            Object value = aggregate.get();
+            if (value != null) {
+                values.put(kind, value);
+            }
+        } catch (Exception e) {
+            log.debug("스냅샷 항목 제외 - kind: {}, 사유: {}", kind, e.getMessage());
+        }
+    }
+}
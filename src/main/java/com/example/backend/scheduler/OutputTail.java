@@ -0,0 +1,51 @@
+package com.example.backend.scheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+import lombok.extern.log4j.Log4j2;
+
+//////////// 외부 프로세스 출력의 마지막 N줄 (한 줄은 최대 500자)
+/// 출력 전체를 메모리에 쌓지 않고 실패 시 로그에 남길 최근 줄만 보관
+@Log4j2
+public class OutputTail {
+	static final int MAX_LINE_LENGTH = 500;
+
+	private final int capacity;
+	private final ArrayDeque<String> lines;
+
+	public OutputTail(int capacity) {
+		this.capacity = Math.max(1, capacity);
+		this.lines = new ArrayDeque<>(this.capacity);
+	}
+
+	// 스트림이 닫힐 때까지 읽음 (프로세스 출력 버퍼가 차서 멈추지 않도록 별도 스레드에서 호출)
+	public void drain(InputStream output) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(output, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				log.debug("[process] {}", line);
+				add(line);
+			}
+		} catch (IOException ignored) {
+			// 프로세스 종료로 스트림이 닫힘
+		}
+	}
+
+	public synchronized void add(String line) {
+		if (lines.size() == capacity) {
+			lines.pollFirst();
+		}
+		lines.addLast(line.length() > MAX_LINE_LENGTH ? line.substring(0, MAX_LINE_LENGTH) + "..." : line);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.join("\n", new ArrayList<>(lines));
+	}
+}
@@ -0,0 +1,337 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.event.MonthClosedEvent;
+import com.example.backend.model.BUSINESS.QBusinessRegistration;
+import com.example.backend.model.BUSINESS.ReportBatch;
+import com.example.backend.model.QMember;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import com.example.backend.repository.ReportBatchRepository;
+import com.example.backend.service.BUSINESS.MarketReportService;
+import com.example.backend.service.BUSINESS.ReportCatalog;
+import com.example.backend.service.BUSINESS.ReportService;
+import com.example.backend.service.RedisService;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.util.ratelimit.TokenBucket;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//////////// 월초 리포트 일괄 생성
+/// 1. 지난 달이 마감(MonthClosedEvent)된 뒤 INDUSTRY_REPORT 를 모든 사업자에 대해 미리 생성 (MARKET_REPORT 는 월 단위 공유라 한 번만)
+///    cron(기본 매월 3일 오전 5시, 마감 1시간 뒤)은 이벤트를 놓친 경우의 보완, 마감되지 않은 월은 건너뜀
+/// 2. 동시 실행 수(concurrency)와 LLM 호출 속도(토큰 버킷)를 설정으로 제한
+/// 3. chunk 마다 ReportCatalog.missing 으로 리포트가 없는 사업자만 골라 생성 (Redis 장애 시 DB 한 번 조회)
+/// 4. 회원 ID 순으로 chunk 단위 처리 후 report_batch 에 체크포인트 저장 -> 재시작 시 이어서 실행
+/// 5. 실패한 회원이 있으면 retry-delay-seconds 후 처음부터 다시 훑어 없는 리포트만 생성 (retry-attempts 회), 그래도 남으면 FAILED
+/// 6. 여러 서버 중 한 곳만 실행하도록 월별 Redis 락 (chunk 마다 연장, 잃으면 중단)
+/// 7. 실행은 pregenerateExecutor 에서 (스케줄러 / 기동 스레드를 점유하지 않음), 중복 실행은 ScheduledJobGuard 가 막음
+@Component
+@Slf4j
+public class ReportPregenerationScheduler {
+
+    private static final String INDUSTRY_REPORT = "INDUSTRY_REPORT";
+    private static final String LOCK_PREFIX = "lock:report-pregenerate:";
+
+    private final JPAQueryFactory queryFactory;
+    private final ReportService reportService;
+    private final MarketReportService marketReportService;
+    private final ReportBatchRepository reportBatchRepository;
+    private final ReportCatalog reportCatalog;
+    private final ScheduledJobGuard scheduledJobGuard;
+    private final MonthSnapshotStore monthSnapshotStore;
+    private final RedisService redisService;
+    private final TaskExecutor pregenerateExecutor;
+
+    @Value("${report.pregenerate.concurrency:4}")
+    private int concurrency;
+
+    @Value("${report.pregenerate.rate-per-minute:30}")
+    private long ratePerMinute;
+
+    @Value("${report.pregenerate.burst:5}")
+    private long burst;
+
+    @Value("${report.pregenerate.retry-attempts:2}")
+    private int retryAttempts;
+
+    @Value("${report.pregenerate.retry-delay-seconds:300}")
+    private long retryDelaySeconds;
+
+    @Value("${report.pregenerate.lock-ttl-minutes:30}")
+    private long lockTtlMinutes;
+
+    public ReportPregenerationScheduler(JPAQueryFactory queryFactory,
+                                        ReportService reportService,
+                                        MarketReportService marketReportService,
+                                        ReportBatchRepository reportBatchRepository,
+                                        ReportCatalog reportCatalog,
+                                        ScheduledJobGuard scheduledJobGuard,
+                                        MonthSnapshotStore monthSnapshotStore,
+                                        RedisService redisService,
+                                        @Qualifier("pregenerateExecutor") TaskExecutor pregenerateExecutor) {
+        this.queryFactory = queryFactory;
+        this.reportService = reportService;
+        this.marketReportService = marketReportService;
+        this.reportBatchRepository = reportBatchRepository;
+        this.reportCatalog = reportCatalog;
+        this.scheduledJobGuard = scheduledJobGuard;
+        this.monthSnapshotStore = monthSnapshotStore;
+        this.redisService = redisService;
+        this.pregenerateExecutor = pregenerateExecutor;
+    }
+
+    @Scheduled(cron = "${report.pregenerate.cron:0 0 5 3 * *}") // 기본값: 매월 3일 오전 5시 (월 마감 이후, 지난 달 리포트)
+    public void pregeneratePreviousMonth() {
+        start(YearMonth.now().minusMonths(1));
+    }
+
+    // 월 마감 직후 바로 시작
+    @EventListener
+    public void onMonthClosed(MonthClosedEvent event) {
+        start(event.getMonth());
+    }
+
+    // 재시작 시 끝나지 않은 일괄 생성 이어서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        reportBatchRepository.findByStatus(ReportJobStatus.RUNNING).forEach(batch -> {
+            YearMonth month = YearMonth.from(batch.getReportMonth());
+            log.info("미완료 리포트 일괄 생성 재개 - month: {}, lastMemberId: {}", month, batch.getLastMemberId());
+            start(month);
+        });
+    }
+
+    // pregenerateExecutor 에 넘기고 바로 반환
+    // 이미 실행 중이면 ScheduledJobGuard 가 건너뛰고 scheduler.job.skipped 로 집계
+    // (건너뛴 월은 월 마감 이후의 정기 실행 / 재시작 시 RUNNING 배치 재개에서 다시 시작됨)
+    public void start(YearMonth month) {
+        scheduledJobGuard.submit("report-pregenerate", pregenerateExecutor, () -> pregenerate(month));
+    }
+
+    private void pregenerate(YearMonth month) {
+        if (!monthSnapshotStore.isClosed(month)) {
+            log.warn("마감되지 않은 월이라 리포트 일괄 생성을 건너뜁니다 (마감 후 실행) - month: {}", month);
+            return;
+        }
+        String lockKey = LOCK_PREFIX + month;
+        String token = UUID.randomUUID().toString();
+        if (!acquireLock(lockKey, token, month)) {
+            return;
+        }
+        try {
+            ReportBatch batch = reportBatchRepository.findByReportMonth(month.atDay(1)).orElseGet(() -> {
+                ReportBatch created = new ReportBatch();
+                created.setReportMonth(month.atDay(1));
+                created.setStatus(ReportJobStatus.RUNNING);
+                created.setLastMemberId(0L);
+                created.setStartedAt(LocalDateTime.now());
+                return reportBatchRepository.save(created);
+            });
+            if (batch.getStatus() == ReportJobStatus.COMPLETED) {
+                return;
+            }
+            if (batch.getStatus() == ReportJobStatus.FAILED) {
+                // 이전 실행에서 재시도까지 실패한 회원 -> 다시 요청되면 재시도 횟수를 초기화하고 한 번 더
+                batch.setRetryCount(0);
+                restartPass(batch);
+                batch = reportBatchRepository.save(batch);
+            }
+            run(batch, month, lockKey, token);
+        } finally {
+            release(lockKey, token);
+        }
+    }
+
+    private void run(ReportBatch batch, YearMonth month, String lockKey, String token) {
+        TokenBucket rateLimiter = new TokenBucket(burst, ratePerMinute);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "report-pregenerate-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            // 시장 동향 보고서는 월 단위 공유이므로 먼저 한 번만 생성
+            try {
+                rateLimiter.acquire();
+                marketReportService.getOrCreate(month);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("시장 동향 보고서 사전 생성 실패 - month: {}, 사유: {}", month, e.getMessage());
+            }
+
+            while (true) {
+                batch = runPass(batch, month, rateLimiter, executor, lockKey, token);
+                if (batch == null) {
+                    return; // 중단됨 (락 상실 / 인터럽트) -> RUNNING 체크포인트에서 이어서 실행
+                }
+                if (batch.getFailedCount() == 0) {
+                    batch.setStatus(ReportJobStatus.COMPLETED);
+                    batch.setFinishedAt(LocalDateTime.now());
+                    reportBatchRepository.save(batch);
+                    log.info("리포트 일괄 생성 완료 - month: {}, 처리 {}건, 재시도 {}회", month, batch.getProcessedCount(), batch.getRetryCount());
+                    return;
+                }
+                if (batch.getRetryCount() >= retryAttempts) {
+                    batch.setStatus(ReportJobStatus.FAILED);
+                    batch.setFinishedAt(LocalDateTime.now());
+                    reportBatchRepository.save(batch);
+                    log.error("리포트 일괄 생성 실패 - month: {}, 처리 {}건, 실패 {}건 (재시도 {}회)",
+                            month, batch.getProcessedCount(), batch.getFailedCount(), batch.getRetryCount());
+                    return;
+                }
+
+                log.warn("리포트 사전 생성 실패 {}건, {}초 후 재시도 - month: {}", batch.getFailedCount(), retryDelaySeconds, month);
+                try {
+                    TimeUnit.SECONDS.sleep(retryDelaySeconds);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                batch.setRetryCount(batch.getRetryCount() + 1);
+                restartPass(batch);
+                batch = reportBatchRepository.save(batch);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 체크포인트부터 끝까지 한 번 훑음 (중단되면 null)
+    private ReportBatch runPass(ReportBatch batch, YearMonth month, TokenBucket rateLimiter, ExecutorService executor,
+                                String lockKey, String token) {
+        int chunkSize = concurrency * 4;
+        AtomicInteger processed = new AtomicInteger(batch.getProcessedCount());
+        AtomicInteger failed = new AtomicInteger(batch.getFailedCount());
+
+        while (true) {
+            List<Tuple> chunk = nextChunk(batch.getLastMemberId(), chunkSize);
+            if (chunk.isEmpty()) {
+                return batch;
+            }
+
+            QMember qMember = QMember.member;
+            QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+            // 이미 생성된 리포트는 카탈로그 비트맵 한 번 조회로 걸러냄 (LLM 호출 없이 처리 완료)
+            Set<Long> missing = new HashSet<>(reportCatalog.missing(month, INDUSTRY_REPORT,
+                    chunk.stream().map(tuple -> tuple.get(qBusinessRegistration.businessRegistrationId)).toList()));
+            processed.addAndGet(chunk.size() - missing.size());
+
+            CompletableFuture<?>[] tasks = chunk.stream()
+                    .filter(tuple -> missing.contains(tuple.get(qBusinessRegistration.businessRegistrationId)))
+                    .map(tuple -> CompletableFuture.runAsync(() -> generate(
+                            tuple.get(qMember.memberId), month, rateLimiter, processed, failed), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+
+            // chunk 가 모두 끝난 뒤 체크포인트 저장
+            batch.setLastMemberId(chunk.get(chunk.size() - 1).get(qMember.memberId));
+            batch.setProcessedCount(processed.get());
+            batch.setFailedCount(failed.get());
+            batch = reportBatchRepository.save(batch);
+
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            if (!extendLock(lockKey, token)) {
+                log.warn("리포트 일괄 생성 락을 잃어 중단합니다 - month: {}, lastMemberId: {}", month, batch.getLastMemberId());
+                return null;
+            }
+        }
+    }
+
+    // 재시도: 처음부터 다시 훑되 이미 생성된 리포트는 카탈로그로 걸러냄
+    private static void restartPass(ReportBatch batch) {
+        batch.setStatus(ReportJobStatus.RUNNING);
+        batch.setLastMemberId(0L);
+        batch.setProcessedCount(0);
+        batch.setFailedCount(0);
+        batch.setFinishedAt(null);
+    }
+
+    private Duration lockTtl() {
+        return Duration.ofMinutes(lockTtlMinutes).plusSeconds(retryDelaySeconds);
+    }
+
+    // 여러 서버 중 한 곳만 실행
+    private boolean acquireLock(String lockKey, String token, YearMonth month) {
+        try {
+            if (redisService.setIfAbsent(lockKey, token, lockTtl())) {
+                return true;
+            }
+            log.info("다른 서버에서 리포트 일괄 생성 중 - month: {}", month);
+        } catch (Exception e) {
+            // 락 없이 실행하면 여러 서버가 같은 LLM 호출을 반복하므로 다음 실행으로 미룸
+            log.warn("Redis 락 획득 실패로 리포트 일괄 생성을 건너뜁니다 - month: {}, 사유: {}", month, e.getMessage());
+        }
+        return false;
+    }
+
+    private boolean extendLock(String lockKey, String token) {
+        try {
+            return redisService.extendIfValue(lockKey, token, lockTtl());
+        } catch (Exception e) {
+            // Redis 일시 장애: 락이 TTL 로 살아 있는 동안은 계속 진행
+            log.warn("Redis 락 연장 실패 - key: {}, 사유: {}", lockKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisService.deleteIfValue(lockKey, token);
+        } catch (Exception e) {
+            log.warn("Redis 락 해제 실패 (TTL 로 만료됨) - key: {}, 사유: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private void generate(Long memberId, YearMonth month, TokenBucket rateLimiter, AtomicInteger processed, AtomicInteger failed) {
+        try {
+            rateLimiter.acquire();
+            reportService.getOrCreateReport(memberId, month, INDUSTRY_REPORT);
+            processed.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("리포트 사전 생성 실패 - memberId: {}, month: {}, 사유: {}", memberId, month, e.getMessage());
+        }
+    }
+
+    // 체크포인트 이후 사업자 등록된 회원 (회원 ID 순)
+    private List<Tuple> nextChunk(Long lastMemberId, int chunkSize) {
+        QMember qMember = QMember.member;
+        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+
+        return queryFactory
+                .select(qMember.memberId, qBusinessRegistration.businessRegistrationId)
+                .from(qMember)
+                .join(qMember.businessRegistration, qBusinessRegistration)
+                .where(qMember.memberId.gt(lastMemberId))
+                .orderBy(qMember.memberId.asc())
+                .limit(chunkSize)
+                .fetch();
+    }
+}
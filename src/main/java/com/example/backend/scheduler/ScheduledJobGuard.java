@@ -0,0 +1,91 @@
+package com.example.backend.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//////////// @Scheduled 작업 실행 가드
+/// 1. 같은 작업의 이전 실행이 아직 끝나지 않았으면 이번 실행은 건너뜀 (느린 작업이 스케줄러 스레드를 여러 개 점유하지 않음)
+/// 2. 작업별 실행 시간 Timer: scheduler.job.duration{job, outcome=success|failure}
+/// 3. 건너뛴 횟수 Counter: scheduler.job.skipped{job}
+/// 4. 작업에서 난 예외는 로그만 남기고 삼킴 (다음 주기 실행은 계속됨)
+/// 5. 전용 executor 로 넘기는 작업은 submit() 사용 -> 중복 실행 판단은 여기 한 곳에서만 (작업 쪽에 별도 플래그 두지 않음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobGuard {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+
+    // 실행했으면 true, 이전 실행이 끝나지 않아 건너뛰었으면 false
+    public boolean run(String job, Runnable body) {
+        AtomicBoolean flag = acquire(job);
+        if (flag == null) {
+            return false;
+        }
+        execute(job, flag, body);
+        return true;
+    }
+
+    // 전용 executor 에 넘기고 바로 반환 (오래 걸리는 작업이 스케줄러 스레드를 점유하지 않음)
+    // 실행 중 표시는 넘기는 시점부터 작업이 끝날 때까지 유지 -> 대기 / 실행 중이면 건너뜀, executor 가 거절해도 건너뜀으로 집계
+    public boolean submit(String job, Executor executor, Runnable body) {
+        AtomicBoolean flag = acquire(job);
+        if (flag == null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> execute(job, flag, body));
+            return true;
+        } catch (RejectedExecutionException e) {
+            flag.set(false);
+            log.warn("스케줄 작업 [{}] 실행 요청이 거절되어 건너뜁니다: {}", job, e.getMessage());
+            skipped(job);
+            return false;
+        }
+    }
+
+    private AtomicBoolean acquire(String job) {
+        AtomicBoolean flag = running.computeIfAbsent(job, key -> new AtomicBoolean(false));
+        if (!flag.compareAndSet(false, true)) {
+            log.warn("스케줄 작업 [{}] 이전 실행이 아직 진행 중이라 건너뜁니다.", job);
+            skipped(job);
+            return null;
+        }
+        return flag;
+    }
+
+    private void skipped(String job) {
+        Counter.builder("scheduler.job.skipped").tag("job", job).register(meterRegistry).increment();
+    }
+
+    private void execute(String job, AtomicBoolean flag, Runnable body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("스케줄 작업 [{}] 실패: {}", job, e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("scheduler.job.duration").tag("job", job).tag("outcome", outcome).register(meterRegistry));
+            flag.set(false);
+        }
+    }
+
+    public boolean isRunning(String job) {
+        AtomicBoolean flag = running.get(job);
+        return flag != null && flag.get();
+    }
+}
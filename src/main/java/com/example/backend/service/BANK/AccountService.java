@@ -9,10 +9,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import com.example.backend.dto.account.*;
+import com.example.backend.event.AccountHistoryIngestedEvent;
 import com.example.backend.model.BANK.Account;
 import com.example.backend.model.BANK.AccountHistory;
 import com.example.backend.model.BANK.QAccount;
@@ -23,14 +25,28 @@ import com.example.backend.model.POS.QPosSales;
 import com.example.backend.model.QMember;
 import com.example.backend.repository.AccountHistoryRepository;
 import com.example.backend.repository.AccountRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import com.example.backend.service.cache.AnalyticsCacheService;
+import com.example.backend.service.hotstore.CurrentMonthHotStore;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import com.example.backend.exception.base_exceptions.BadRequestException;
 
+import com.example.backend.util.money.CategoryMoneyAccumulator;
+import com.example.backend.util.money.Money;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -45,6 +61,11 @@ public class AccountService {
     private final JPAQueryFactory queryFactory;
     private final AccountHistoryRepository accountHistoryRepository;
     private final AccountRepository accountRepository;
+    private final MonthSnapshotStore monthSnapshotStore;
+    private final AnalyticsCacheService analyticsCacheService;
+    private final CurrentMonthHotStore currentMonthHotStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledJobGuard scheduledJobGuard;
 
     // 로그인한 유저의 accountId를 가져오는 로직
     private Long getAccountIdByMemberId(Long memberId) {
@@ -110,6 +131,11 @@ public class AccountService {
 //     @Scheduled(fixedRate = 10000)	// 1000ms * 10 = 10초
     @Scheduled(cron = "10 * * * * *")
     public void updateAccountAndHistory() {
+        // 은행 응답이 느려 이전 실행이 끝나지 않았으면 건너뜀
+        scheduledJobGuard.run("bank-account-sync", this::pullAccountAndHistory);
+    }
+
+    private void pullAccountAndHistory() {
         try {
             // 외부 API에서 데이터 가져오기
             sendToMainDTO fetchedData = fetchAccountAndHistoryFromBank();
@@ -137,6 +163,7 @@ public class AccountService {
 
             // AccountHistory 저장
             List<AccountHistory> accountHistories = fetchedData.getAccountHistory();
+            List<AccountHistory> savedHistories = new ArrayList<>();
             for (AccountHistory history : accountHistories) {
                 // QueryDSL로 중복 확인
                 boolean exists = queryFactory.selectOne()
@@ -147,13 +174,16 @@ public class AccountService {
                         .fetchFirst() != null;
 
                 if (!exists) {
-                    accountHistoryRepository.save(history);
+                    savedHistories.add(accountHistoryRepository.save(history));
 //                    log.info("새로운 AccountHistory 저장: {}", history);
                 } else {
 //                    log.info("이미 존재하는 AccountHistory, 저장하지 않음: {}", history);
                 }
             }
 
+            if (!savedHistories.isEmpty()) {
+                eventPublisher.publishEvent(new AccountHistoryIngestedEvent(savedHistories));
+            }
             log.info("Account 및 AccountHistory 업데이트 완료");
         } catch (Exception e) {
             log.error("Error during updateAccountAndHistory: {}", e.getMessage(), e);
@@ -163,6 +193,17 @@ public class AccountService {
 
     // 월별 지출 합계 구하는 함수
     public BigDecimal calculateTotalExpenses(YearMonth month, Long memberId) {
+        // 마감된 월은 스냅샷에서 바로 반환
+        Optional<BigDecimal> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+        // 이번 달은 인메모리 저장소에서 집계
+        Optional<BigDecimal> current = currentMonthHotStore.totalExpenses(memberId, month);
+        if (current.isPresent()) {
+            return current.get();
+        }
+
         Long accountId = getAccountIdByMemberId(memberId);
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
@@ -196,6 +237,11 @@ public class AccountService {
 
     // 월별 카테고리별 지출 합계 구하는 함수
     public Map<String, BigDecimal> calculateCategoryWiseExpenses(YearMonth month, Long memberId) {
+        Optional<Map<String, BigDecimal>> current = currentMonthHotStore.categoryExpenses(memberId, month);
+        if (current.isPresent()) {
+            return current.get();
+        }
+
         Long accountId = getAccountIdByMemberId(memberId);
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
@@ -216,6 +262,64 @@ public class AccountService {
                 ));
     }
 
+    // 월별 카테고리 + 결제 방식(온라인 / 오프라인)별 지출 합계 구하는 함수 (카드 추천 점수 계산용)
+    public List<CategoryChannelExpenseDTO> calculateCategoryChannelExpenses(YearMonth month, Long memberId) {
+        Long accountId = getAccountIdByMemberId(memberId);
+        QAccountHistory accountHistory = QAccountHistory.accountHistory;
+        NumberExpression<Integer> online = new CaseBuilder()
+                .when(accountHistory.note.contains("온라인")).then(1)
+                .otherwise(0);
+
+        return queryFactory
+                .select(accountHistory.category, online, accountHistory.amount.sum())
+                .from(accountHistory)
+                .where(accountHistory.account.accountId.eq(accountId)
+                        .and(accountHistory.transactionType.eq("EXPENSE"))
+                        .and(accountHistory.transactionDate.between(
+                                month.atDay(1).atStartOfDay(),
+                                month.atEndOfMonth().atTime(23, 59, 59))))
+                .groupBy(accountHistory.category, online)
+                .fetch()
+                .stream()
+                .map(tuple -> new CategoryChannelExpenseDTO(
+                        tuple.get(accountHistory.category),
+                        Integer.valueOf(1).equals(tuple.get(online)),
+                        tuple.get(accountHistory.amount.sum())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    // 기간(from ~ to 월) 동안 월 + 카테고리 + 결제 방식별 지출 합계 구하는 함수 (한 번의 쿼리, 카드 절약 시뮬레이션용)
+    public Map<YearMonth, List<CategoryChannelExpenseDTO>> calculateMonthlyCategoryChannelExpenses(YearMonth from, YearMonth to, Long memberId) {
+        Long accountId = getAccountIdByMemberId(memberId);
+        QAccountHistory accountHistory = QAccountHistory.accountHistory;
+        NumberExpression<Integer> online = new CaseBuilder()
+                .when(accountHistory.note.contains("온라인")).then(1)
+                .otherwise(0);
+        NumberExpression<Integer> year = accountHistory.transactionDate.year();
+        NumberExpression<Integer> monthValue = accountHistory.transactionDate.month();
+
+        Map<YearMonth, List<CategoryChannelExpenseDTO>> result = new TreeMap<>();
+        queryFactory
+                .select(year, monthValue, accountHistory.category, online, accountHistory.amount.sum())
+                .from(accountHistory)
+                .where(accountHistory.account.accountId.eq(accountId)
+                        .and(accountHistory.transactionType.eq("EXPENSE"))
+                        .and(accountHistory.transactionDate.between(
+                                from.atDay(1).atStartOfDay(),
+                                to.atEndOfMonth().atTime(23, 59, 59))))
+                .groupBy(year, monthValue, accountHistory.category, online)
+                .fetch()
+                .forEach(tuple -> result
+                        .computeIfAbsent(YearMonth.of(tuple.get(year), tuple.get(monthValue)), key -> new ArrayList<>())
+                        .add(new CategoryChannelExpenseDTO(
+                                tuple.get(accountHistory.category),
+                                Integer.valueOf(1).equals(tuple.get(online)),
+                                tuple.get(accountHistory.amount.sum())
+                        )));
+        return result;
+    }
+
     // 오늘 지출 합계 구하는 함수
     private BigDecimal calculateTodayExpense(Long memberId) {
         Long accountId = getAccountIdByMemberId(memberId);
@@ -235,6 +339,30 @@ public class AccountService {
 
     // 월별 상세 지출 정보 가져오는 함수
     public List<ExpenseDetailDTO.ExpenseDetail> getExpenseDetails(YearMonth month, Long memberId) {
+        return fetchExpenseDetails(month, memberId, null);
+    }
+
+    // 월별 상세 지출 중 주어진 카테고리 + 결제 방식 그룹에 속한 항목만 가져오는 함수 (카드 추천 절약 내역용)
+    public List<ExpenseDetailDTO.ExpenseDetail> getExpenseDetails(YearMonth month, Long memberId, List<CategoryChannelExpenseDTO> groups) {
+        if (groups.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QAccountHistory accountHistory = QAccountHistory.accountHistory;
+        // 결제 방식 구분은 calculateCategoryChannelExpenses 와 같은 기준 (note 에 "온라인" 포함, note 가 없으면 오프라인)
+        BooleanExpression online = accountHistory.note.contains("온라인");
+        BooleanExpression offline = accountHistory.note.isNull().or(online.not());
+
+        BooleanBuilder groupFilter = new BooleanBuilder();
+        for (CategoryChannelExpenseDTO group : groups) {
+            BooleanExpression category = group.getCategory() == null
+                    ? accountHistory.category.isNull()
+                    : accountHistory.category.eq(group.getCategory());
+            groupFilter.or(category.and(group.isOnline() ? online : offline));
+        }
+        return fetchExpenseDetails(month, memberId, groupFilter);
+    }
+
+    private List<ExpenseDetailDTO.ExpenseDetail> fetchExpenseDetails(YearMonth month, Long memberId, Predicate filter) {
         Long accountId = getAccountIdByMemberId(memberId);
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
@@ -244,7 +372,8 @@ public class AccountService {
                         .and(accountHistory.transactionType.eq("EXPENSE"))
                         .and(accountHistory.transactionDate.between(
                                 month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
+                                month.atEndOfMonth().atTime(23, 59, 59))),
+                        filter)
                 .orderBy(accountHistory.transactionDate.desc())
                 .fetch()
                 .stream()
@@ -262,6 +391,12 @@ public class AccountService {
 
     ///////// 지출 요약
     public ExpenseDTO showSimpleExpense(Long memberId, YearMonth month) {
+        // 오늘 지출이 포함되므로 날짜도 캐시 키에 포함
+        return analyticsCacheService.getOrLoad(memberId, "simple-expense", month + ":" + LocalDate.now(), ExpenseDTO.class,
+                () -> loadSimpleExpense(memberId, month));
+    }
+
+    private ExpenseDTO loadSimpleExpense(Long memberId, YearMonth month) {
         BigDecimal monthlyExpenses = calculateTotalExpenses(month, memberId);
         Map<String, BigDecimal> categoryExpenses = calculateCategoryWiseExpenses(month, memberId);
         BigDecimal todayExpense = calculateTodayExpense(memberId);
@@ -275,6 +410,11 @@ public class AccountService {
 
     ////// 지출 상세 정보
     public ExpenseDetailDTO showDetailExpense(Long memberId, YearMonth month) {
+        Optional<ExpenseDetailDTO> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.EXPENSE_DETAIL, ExpenseDetailDTO.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+
         BigDecimal monthlyExpenses = calculateTotalExpenses(month, memberId);
         Map<String, BigDecimal> categoryTotalExpenses = calculateCategoryWiseExpenses(month, memberId);
         List<ExpenseDetailDTO.ExpenseDetail> expenseDetails = getExpenseDetails(month, memberId);
@@ -289,6 +429,11 @@ public class AccountService {
     ///////////////////////////////////
     ////// 순 이익 (총수익 - 총지출)
     public BigDecimal showNetProfit(Long memberId, YearMonth month) {
+        Optional<BigDecimal> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.NET_PROFIT, BigDecimal.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+
         // 총수익 계산
         BigDecimal totalRevenue = calculateTotalRevenue(month, memberId);
         if (totalRevenue == null) totalRevenue = BigDecimal.ZERO;
@@ -317,6 +462,15 @@ public class AccountService {
 
     /////// 순이익 상세
     public ProfitDetailDTO showProfitDetail(Long memberId, YearMonth month) {
+        Optional<ProfitDetailDTO> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.PROFIT_DETAIL, ProfitDetailDTO.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+        return analyticsCacheService.getOrLoad(memberId, "profit-detail", month, ProfitDetailDTO.class,
+                () -> loadProfitDetail(memberId, month));
+    }
+
+    private ProfitDetailDTO loadProfitDetail(Long memberId, YearMonth month) {
         Long accountId = getAccountIdByMemberId(memberId);
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
@@ -420,6 +574,11 @@ public class AccountService {
 
     /////// 주차별 지출
     public ExpenseWeekDTO showWeekExpense(Long memberId, YearMonth month) {
+        Optional<ExpenseWeekDTO> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.EXPENSE_WEEK, ExpenseWeekDTO.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+
         List<Map<String, String>> weeks = calculateWeeksInMonth(month);
 
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
@@ -478,7 +637,9 @@ public class AccountService {
         QAccountHistory qAccountHistory = QAccountHistory.accountHistory;
         QAccount qAccount = QAccount.account;
 
-        List<Map<String, Object>> accountHistoryList = queryFactory.selectFrom(qAccountHistory)
+        List<Tuple> accountHistoryList = queryFactory
+                .select(qAccountHistory.amount, qAccountHistory.category)
+                .from(qAccountHistory)
                 .join(qAccount).on(qAccount.accountId.eq(qAccountHistory.account.accountId)) // 명확히 연결
                 .join(qBusinessRegistration).on(qBusinessRegistration.account.accountId.eq(qAccount.accountId)) // 명확히 연결
                 .where(qBusinessRegistration.address.contains(region)
@@ -486,15 +647,7 @@ public class AccountService {
                         .and(qAccountHistory.transactionDate.between(
                                 month.atDay(1).atStartOfDay(),
                                 month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetch()
-                .stream()
-                .map(record -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("amount", record.getAmount());
-                    map.put("category", record.getCategory());
-                    return map;
-                })
-                .collect(Collectors.toList());
+                .fetch();
 
 
         // 4. 데이터가 없는 경우 기본값 반환
@@ -506,30 +659,20 @@ public class AccountService {
             return result;
         }
 
-        // 5. 총합 및 평균 계산
-        BigDecimal totalExpense = accountHistoryList.stream()
-                .map(record -> (BigDecimal) record.get("amount"))
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 5. 총합 및 카테고리별 합계 계산 (원 단위 long 으로 누적)
+        CategoryMoneyAccumulator expenses = new CategoryMoneyAccumulator();
+        for (Tuple record : accountHistoryList) {
+            BigDecimal amount = record.get(qAccountHistory.amount);
+            if (amount != null) {
+                expenses.add(record.get(qAccountHistory.category), Money.toWon(amount));
+            }
+        }
 
-        BigDecimal averageExpense = totalExpense.divide(BigDecimal.valueOf(3), RoundingMode.HALF_UP);
+        BigDecimal averageExpense = Money.toBigDecimal(Money.divideHalfUp(expenses.total(), 3));
         log.info("!!!!!!!!!!!!!!!!!!!!!!!!!!"+averageExpense);
 
         // 6. 카테고리별 평균 계산
-        Map<String, List<BigDecimal>> categoryMap = accountHistoryList.stream()
-                .filter(record -> record.get("category") != null && record.get("amount") != null)
-                .collect(Collectors.groupingBy(
-                        record -> (String) record.get("category"),
-                        Collectors.mapping(record -> (BigDecimal) record.get("amount"), Collectors.toList())
-                ));
-
-        Map<String, BigDecimal> averageExpenseByCategory = new HashMap<>();
-        categoryMap.forEach((category, amounts) -> {
-            BigDecimal total = amounts.stream()
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal average = total.divide(BigDecimal.valueOf(3), RoundingMode.HALF_UP);
-            averageExpenseByCategory.put(category, average);
-        });
+        Map<String, BigDecimal> averageExpenseByCategory = expenses.toAverageMap(3);
 
         // 7. 결과 반환
         Map<String, Object> result = new HashMap<>();
@@ -0,0 +1,145 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.util.money.Money;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// 사업자 + 목표월 단위의 목표 진행 상황 (실제 매출/지출은 원 단위 long 으로 누적)
+// 합계에 반영한 행 ID 를 기억해서, 초기 적재와 수집 이벤트가 어떤 순서로 오더라도 같은 행을 두 번 더하지 않음
+// 반영된 행(또는 집계 값)이 없으면 실제 금액은 null
+public class GoalProgress {
+
+    // 초기 적재 결과: 행 ID -> 원 단위 금액, 목표 금액
+    record Loaded(Map<Long, Long> revenueRows, Map<Long, Long> expenseRows, long revenueGoal, long expenseGoal) {
+    }
+
+    // 한 번의 반영 전후 달성률 (같은 잠금 안에서 계산 -> 동시에 들어온 이벤트가 같은 기준을 중복 발행하지 않음)
+    record Change(int before, int after) {
+    }
+
+    private long actualRevenue;
+    private long actualExpense;
+    private long revenueGoal;
+    private long expenseGoal;
+    private boolean hasRevenue;
+    private boolean hasExpense;
+
+    private final Set<Long> countedPosSalesIds = new HashSet<>();
+    private final Set<Long> countedAccountHistoryIds = new HashSet<>();
+
+    private boolean loaded;
+    private long loadedAt;
+    private final Object loadLock = new Object();
+
+    GoalProgress() {
+    }
+
+    // 합계만 있는 월 (스냅샷 / DB 집계, 추적하지 않으므로 행 ID 를 기억하지 않음), 데이터가 없으면 null
+    static GoalProgress closed(Long actualRevenue, Long actualExpense, long revenueGoal, long expenseGoal) {
+        GoalProgress progress = new GoalProgress();
+        progress.hasRevenue = actualRevenue != null;
+        progress.hasExpense = actualExpense != null;
+        progress.actualRevenue = actualRevenue != null ? actualRevenue : 0L;
+        progress.actualExpense = actualExpense != null ? actualExpense : 0L;
+        progress.revenueGoal = revenueGoal;
+        progress.expenseGoal = expenseGoal;
+        progress.loaded = true;
+        progress.loadedAt = System.currentTimeMillis();
+        return progress;
+    }
+
+    public synchronized BigDecimal getActualRevenue() {
+        return hasRevenue ? Money.toBigDecimal(actualRevenue) : null;
+    }
+
+    public synchronized BigDecimal getActualExpense() {
+        return hasExpense ? Money.toBigDecimal(actualExpense) : null;
+    }
+
+    public synchronized int getRevenuePercent() {
+        return percent(actualRevenue, revenueGoal);
+    }
+
+    public synchronized int getExpensePercent() {
+        return percent(actualExpense, expenseGoal);
+    }
+
+    // 아직 적재되지 않았으면 적재 (동시에 조회해도 DB 조회는 한 번, 그동안 들어온 이벤트는 행 ID 로 합쳐짐)
+    void ensureLoaded(Supplier<Loaded> loader) {
+        if (isLoaded()) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (isLoaded()) {
+                return;
+            }
+            initialize(loader.get());
+        }
+    }
+
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    // 적재 후 ttl 이 지났으면 다시 읽어야 함 (다른 서버에서 수집된 행 / 목표 수정 반영)
+    synchronized boolean isExpired(long now, long ttlMillis) {
+        return loaded && now - loadedAt > ttlMillis;
+    }
+
+    private synchronized void initialize(Loaded data) {
+        data.revenueRows().forEach((id, won) -> {
+            if (countedPosSalesIds.add(id)) {
+                hasRevenue = true;
+                actualRevenue = Money.add(actualRevenue, won);
+            }
+        });
+        data.expenseRows().forEach((id, won) -> {
+            if (countedAccountHistoryIds.add(id)) {
+                hasExpense = true;
+                actualExpense = Money.add(actualExpense, won);
+            }
+        });
+        revenueGoal = data.revenueGoal();
+        expenseGoal = data.expenseGoal();
+        loaded = true;
+        loadedAt = System.currentTimeMillis();
+    }
+
+    // 매출 반영, 이미 반영된 행이거나 아직 적재 전이면 null (기준 도달 판단 안 함)
+    synchronized Change addRevenue(long posSalesId, long won) {
+        if (!countedPosSalesIds.add(posSalesId)) {
+            return null;
+        }
+        int before = percent(actualRevenue, revenueGoal);
+        hasRevenue = true;
+        actualRevenue = Money.add(actualRevenue, won);
+        return loaded ? new Change(before, percent(actualRevenue, revenueGoal)) : null;
+    }
+
+    // 지출 반영
+    synchronized Change addExpense(long accountHistoryId, long won) {
+        if (!countedAccountHistoryIds.add(accountHistoryId)) {
+            return null;
+        }
+        int before = percent(actualExpense, expenseGoal);
+        hasExpense = true;
+        actualExpense = Money.add(actualExpense, won);
+        return loaded ? new Change(before, percent(actualExpense, expenseGoal)) : null;
+    }
+
+    synchronized void updateGoals(long revenueGoal, long expenseGoal) {
+        this.revenueGoal = revenueGoal;
+        this.expenseGoal = expenseGoal;
+    }
+
+    private static int percent(long actual, long goal) {
+        if (goal <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Money.divideHalfUp(Math.multiplyExact(actual, 100L), goal));
+    }
+}
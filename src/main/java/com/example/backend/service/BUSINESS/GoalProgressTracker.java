@@ -0,0 +1,278 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.event.AccountHistoryIngestedEvent;
+import com.example.backend.event.GoalThresholdCrossedEvent;
+import com.example.backend.event.MonthClosedEvent;
+import com.example.backend.event.PosSalesIngestedEvent;
+import com.example.backend.model.BANK.AccountHistory;
+import com.example.backend.model.BANK.QAccountHistory;
+import com.example.backend.model.BUSINESS.BusinessRegistration;
+import com.example.backend.model.BUSINESS.Goals;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.POS.QPosSales;
+import com.example.backend.repository.GoalsRepository;
+import com.example.backend.service.hotstore.CurrentMonthHotStore;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
+import com.example.backend.util.money.Money;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+//////////// 사업자 + 목표월 단위 목표 진행 상황 추적
+/// 1. 마감된 월은 월 마감 스냅샷에서 바로 응답 (변하지 않으므로 추적하지 않음)
+/// 2. 마감 전이지만 이번 달이 아닌 월은 DB SUM 집계로 응답 (행을 읽어 두거나 추적하지 않음)
+/// 3. 이번 달만 처음 조회할 때 행(ID, 금액)을 한 번 읽어 둠 (인메모리 저장소, 오래됐으면 DB)
+/// 4. 이후 POS / 은행 수집 이벤트로 들어온 행만 더해서 갱신, 행 ID 로 중복 제거 -> 적재 도중 들어온 이벤트도 빠지지 않음
+/// 5. 달성률이 goal.progress.thresholds 기준을 넘으면 GoalThresholdCrossedEvent 발행 (전후 달성률은 같은 잠금 안에서 계산)
+/// 6. 수집 이벤트는 수집을 실행한 서버에서만 받으므로, 적재 후 goal.progress.ttl-minutes 가 지나면 다시 읽음
+///    (인메모리 저장소는 hotstore.refresh-ms 마다 DB 에서 다른 서버의 행을 받아 옴)
+/// 7. 월 마감(MonthClosedEvent) 시 해당 월 이전 항목은 정리
+/// 8. 데이터가 없는 항목은 실제 금액 null (기존 calculateMonthlyRevenue / calculateTotalExpenses 와 동일)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GoalProgressTracker {
+
+    private static final String EXPENSE = "EXPENSE";
+
+    private final JPAQueryFactory queryFactory;
+    private final GoalsRepository goalsRepository;
+    private final MonthSnapshotStore monthSnapshotStore;
+    private final CurrentMonthHotStore currentMonthHotStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${goal.progress.thresholds:50,80,100}")
+    private int[] thresholds;
+
+    @Value("${goal.progress.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    private final Map<ProgressKey, GoalProgress> progresses = new ConcurrentHashMap<>();
+    // 수집 이벤트의 posId / accountId -> 사업자 ID (추적 중인 사업자만)
+    private final Map<Long, Long> businessIdByPosId = new ConcurrentHashMap<>();
+    private final Map<Long, Long> businessIdByAccountId = new ConcurrentHashMap<>();
+
+    private record ProgressKey(Long businessRegistrationId, YearMonth goalMonth) {
+    }
+
+    // 진행 상황 조회 (없거나 오래됐으면 다시 읽어서 등록)
+    public GoalProgress get(Long memberId, BusinessRegistration business, YearMonth goalMonth) {
+        Long businessId = business.getBusinessRegistrationId();
+        Long posId = business.getPos() != null ? business.getPos().getPosId() : null;
+        Long accountId = business.getAccount() != null ? business.getAccount().getAccountId() : null;
+        ProgressKey key = new ProgressKey(businessId, goalMonth);
+
+        if (monthSnapshotStore.isClosed(goalMonth)) {
+            progresses.remove(key);
+            return closedProgress(memberId, key, posId, accountId);
+        }
+        if (!goalMonth.equals(YearMonth.now())) {
+            progresses.remove(key);
+            return aggregatedProgress(key, sumRevenue(posId, goalMonth), sumExpense(accountId, goalMonth));
+        }
+
+        if (posId != null) {
+            businessIdByPosId.put(posId, businessId);
+        }
+        if (accountId != null) {
+            businessIdByAccountId.put(accountId, businessId);
+        }
+        // 자리만 먼저 등록하고 적재는 밖에서 -> 적재 중 들어온 이벤트도 이 객체에 쌓임
+        long now = System.currentTimeMillis();
+        long ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        GoalProgress progress = progresses.compute(key,
+                (k, existing) -> existing == null || existing.isExpired(now, ttlMillis) ? new GoalProgress() : existing);
+        progress.ensureLoaded(() -> load(key, posId, accountId));
+        return progress;
+    }
+
+    // 목표 설정/수정 시 추적 중인 목표 금액 갱신
+    public void updateGoals(Long businessRegistrationId, YearMonth goalMonth, BigDecimal revenueGoal, BigDecimal expenseGoal) {
+        GoalProgress progress = progresses.get(new ProgressKey(businessRegistrationId, goalMonth));
+        if (progress != null) {
+            progress.updateGoals(Money.toWon(revenueGoal), Money.toWon(expenseGoal));
+        }
+    }
+
+    @EventListener
+    public void onPosSalesIngested(PosSalesIngestedEvent event) {
+        for (PosSales sale : event.getPosSales()) {
+            if (sale.getPosId() == null || sale.getPosSalesId() == null || sale.getOrderTime() == null) {
+                continue;
+            }
+            Long businessId = businessIdByPosId.get(sale.getPosId().getPosId());
+            if (businessId == null) {
+                continue;
+            }
+            YearMonth month = YearMonth.from(sale.getOrderTime());
+            GoalProgress progress = progresses.get(new ProgressKey(businessId, month));
+            if (progress == null) {
+                continue; // 아직 조회되지 않은 월은 처음 조회할 때 읽음
+            }
+            GoalProgress.Change change = progress.addRevenue(sale.getPosSalesId(), Money.toWon(sale.getTotalPrice()));
+            publishIfCrossed(businessId, month, GoalThresholdCrossedEvent.Metric.REVENUE, change);
+        }
+    }
+
+    @EventListener
+    public void onAccountHistoryIngested(AccountHistoryIngestedEvent event) {
+        for (AccountHistory history : event.getAccountHistories()) {
+            if (history.getAccount() == null || history.getAccountHistoryId() == null || history.getTransactionDate() == null
+                    || !EXPENSE.equals(history.getTransactionType())) {
+                continue;
+            }
+            Long businessId = businessIdByAccountId.get(history.getAccount().getAccountId());
+            if (businessId == null) {
+                continue;
+            }
+            YearMonth month = YearMonth.from(history.getTransactionDate());
+            GoalProgress progress = progresses.get(new ProgressKey(businessId, month));
+            if (progress == null) {
+                continue;
+            }
+            GoalProgress.Change change = progress.addExpense(history.getAccountHistoryId(), Money.toWon(history.getAmount()));
+            publishIfCrossed(businessId, month, GoalThresholdCrossedEvent.Metric.EXPENSE, change);
+        }
+    }
+
+    // 마감된 월과 그 이전 월은 스냅샷에서 응답하므로 추적 중인 항목 정리
+    @EventListener
+    public void onMonthClosed(MonthClosedEvent event) {
+        int before = progresses.size();
+        progresses.keySet().removeIf(key -> !key.goalMonth().isAfter(event.getMonth()));
+        log.info("월 마감으로 목표 추적 항목 정리 - month: {}, {}건 -> {}건", event.getMonth(), before, progresses.size());
+    }
+
+    private void publishIfCrossed(Long businessId, YearMonth month, GoalThresholdCrossedEvent.Metric metric, GoalProgress.Change change) {
+        if (change == null) {
+            return;
+        }
+        for (int threshold : thresholds) {
+            if (change.before() < threshold && change.after() >= threshold) {
+                log.info("목표 달성률 기준 도달 - businessId: {}, month: {}, {}: {}% (기준 {}%)", businessId, month, metric, change.after(), threshold);
+                eventPublisher.publishEvent(new GoalThresholdCrossedEvent(businessId, month, metric, threshold, change.after()));
+            }
+        }
+    }
+
+    // 마감된 월: 스냅샷 값 사용 (스냅샷에서 빠진 항목만 DB 집계)
+    private GoalProgress closedProgress(Long memberId, ProgressKey key, Long posId, Long accountId) {
+        YearMonth month = key.goalMonth();
+        Optional<BigDecimal> revenue = monthSnapshotStore.find(memberId, month, SnapshotKind.MONTHLY_REVENUE, BigDecimal.class);
+        Optional<BigDecimal> expense = monthSnapshotStore.find(memberId, month, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class);
+        return aggregatedProgress(key,
+                revenue.map(Money::toWon).orElseGet(() -> sumRevenue(posId, month)),
+                expense.map(Money::toWon).orElseGet(() -> sumExpense(accountId, month)));
+    }
+
+    // 합계만 있는 진행 상황 (추적하지 않음)
+    private GoalProgress aggregatedProgress(ProgressKey key, Long actualRevenue, Long actualExpense) {
+        Goals goal = findGoal(key);
+        return GoalProgress.closed(
+                actualRevenue,
+                actualExpense,
+                goal != null ? Money.toWon(goal.getRevenueGoal()) : 0L,
+                goal != null ? Money.toWon(goal.getExpenseGoal()) : 0L
+        );
+    }
+
+    private GoalProgress.Loaded load(ProgressKey key, Long posId, Long accountId) {
+        Goals goal = findGoal(key);
+        return new GoalProgress.Loaded(
+                loadRevenueRows(posId, key.goalMonth()),
+                loadExpenseRows(accountId, key.goalMonth()),
+                goal != null ? Money.toWon(goal.getRevenueGoal()) : 0L,
+                goal != null ? Money.toWon(goal.getExpenseGoal()) : 0L
+        );
+    }
+
+    private Goals findGoal(ProgressKey key) {
+        return goalsRepository.findByBusinessRegistration_BusinessRegistrationIdAndGoalMonth(key.businessRegistrationId(), key.goalMonth())
+                .orElse(null);
+    }
+
+    // 이번 달 매출 행 ID -> 원 (인메모리 저장소, 사용할 수 없으면 DB)
+    private Map<Long, Long> loadRevenueRows(Long posId, YearMonth month) {
+        Map<Long, Long> rows = new HashMap<>();
+        if (posId == null || currentMonthHotStore.scanSales(posId, month, rows::put)) {
+            return rows;
+        }
+        QPosSales qPosSales = QPosSales.posSales;
+        for (Tuple sale : queryFactory
+                .select(qPosSales.posSalesId, qPosSales.totalPrice)
+                .from(qPosSales)
+                .where(qPosSales.posId.posId.eq(posId)
+                        .and(qPosSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
+                .fetch()) {
+            rows.put(sale.get(qPosSales.posSalesId), Money.toWon(sale.get(qPosSales.totalPrice)));
+        }
+        return rows;
+    }
+
+    // 이번 달 지출 행 ID -> 원
+    private Map<Long, Long> loadExpenseRows(Long accountId, YearMonth month) {
+        Map<Long, Long> rows = new HashMap<>();
+        if (accountId == null || currentMonthHotStore.scanExpenses(accountId, month, rows::put)) {
+            return rows;
+        }
+        QAccountHistory qAccountHistory = QAccountHistory.accountHistory;
+        for (Tuple expense : queryFactory
+                .select(qAccountHistory.accountHistoryId, qAccountHistory.amount)
+                .from(qAccountHistory)
+                .where(expenseOf(qAccountHistory, accountId, month))
+                .fetch()) {
+            rows.put(expense.get(qAccountHistory.accountHistoryId), Money.toWon(expense.get(qAccountHistory.amount)));
+        }
+        return rows;
+    }
+
+    // 월 매출 합계 (행이 없으면 null)
+    private Long sumRevenue(Long posId, YearMonth month) {
+        if (posId == null) {
+            return null;
+        }
+        QPosSales qPosSales = QPosSales.posSales;
+        BigDecimal total = queryFactory
+                .select(qPosSales.totalPrice.sum())
+                .from(qPosSales)
+                .where(qPosSales.posId.posId.eq(posId)
+                        .and(qPosSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
+                .fetchOne();
+        return total != null ? Money.toWon(total) : null;
+    }
+
+    // 월 지출 합계 (행이 없으면 null)
+    private Long sumExpense(Long accountId, YearMonth month) {
+        if (accountId == null) {
+            return null;
+        }
+        QAccountHistory qAccountHistory = QAccountHistory.accountHistory;
+        BigDecimal total = queryFactory
+                .select(qAccountHistory.amount.sum())
+                .from(qAccountHistory)
+                .where(expenseOf(qAccountHistory, accountId, month))
+                .fetchOne();
+        return total != null ? Money.toWon(total) : null;
+    }
+
+    private static BooleanExpression expenseOf(QAccountHistory qAccountHistory, Long accountId, YearMonth month) {
+        return qAccountHistory.account.accountId.eq(accountId)
+                .and(qAccountHistory.transactionType.eq(EXPENSE))
+                .and(qAccountHistory.transactionDate.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59)));
+    }
+}
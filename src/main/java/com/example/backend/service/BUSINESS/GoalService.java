@@ -6,8 +6,9 @@ import com.example.backend.model.BUSINESS.BusinessRegistration;
 import com.example.backend.model.BUSINESS.Goals;
 import com.example.backend.model.BUSINESS.QGoals;
 import com.example.backend.repository.GoalsRepository;
-import com.example.backend.service.BANK.AccountService;
-import com.example.backend.service.POS.PosService;
+import com.example.backend.service.cache.AnalyticsCacheService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +26,11 @@ import java.util.List;
 public class GoalService {
 
     private final JPAQueryFactory queryFactory;
-    private final AccountService accountService;
-    private final PosService posService;
     private final BusinessService businessService;
     private final GoalsRepository goalsRepository;
+    private final AnalyticsCacheService analyticsCacheService;
+    private final ObjectMapper objectMapper;
+    private final GoalProgressTracker goalProgressTracker;
 
     // 목표 설정하기
     public void setGoal(Long memberId, GoalRequestDTO requestDTO) {
@@ -62,6 +64,9 @@ public class GoalService {
 
             goalsRepository.save(existingGoal);
             log.info("Updated existing goal: {}", existingGoal);
+            goalProgressTracker.updateGoals(business.getBusinessRegistrationId(), existingGoal.getGoalMonth(),
+                    existingGoal.getRevenueGoal(), existingGoal.getExpenseGoal());
+            analyticsCacheService.bumpVersion(memberId);
         } else {
             Goals goal = new Goals(
                     null,
@@ -72,6 +77,9 @@ public class GoalService {
             );
             goalsRepository.save(goal);
             log.info("Created new goal: {}", goal);
+            goalProgressTracker.updateGoals(business.getBusinessRegistrationId(), goal.getGoalMonth(),
+                    goal.getRevenueGoal(), goal.getExpenseGoal());
+            analyticsCacheService.bumpVersion(memberId);
         }
     }
 
@@ -107,11 +115,15 @@ public class GoalService {
 
         goalsRepository.save(existingGoal);
         log.info("Updated goal: {}", existingGoal);
+        goalProgressTracker.updateGoals(business.getBusinessRegistrationId(), existingGoal.getGoalMonth(),
+                existingGoal.getRevenueGoal(), existingGoal.getExpenseGoal());
+        analyticsCacheService.bumpVersion(memberId);
 
-        BigDecimal monthlyRevenue = posService.calculateMonthlyRevenue(memberId, requestDTO.getGoalMonth());
+        GoalProgress progress = goalProgressTracker.get(memberId, business, requestDTO.getGoalMonth());
+        BigDecimal monthlyRevenue = progress.getActualRevenue();
         log.info("Monthly revenue for memberId: {}, month: {}, revenue: {}", memberId, requestDTO.getGoalMonth(), monthlyRevenue);
 
-        BigDecimal monthlyExpense = accountService.calculateTotalExpenses(requestDTO.getGoalMonth(), memberId);
+        BigDecimal monthlyExpense = progress.getActualExpense();
         log.info("Monthly expense for memberId: {}, month: {}, expense: {}", memberId, requestDTO.getGoalMonth(), monthlyExpense);
 
         return new GoalResponseDTO(
@@ -139,7 +151,7 @@ public class GoalService {
                 )
                 .fetchOne();
 
-        BigDecimal currentMonthRevenue = posService.calculateMonthlyRevenue(memberId, goalMonth);
+        BigDecimal currentMonthRevenue = goalProgressTracker.get(memberId, business, goalMonth).getActualRevenue();
         log.info("Current month revenue for memberId: {}, goalMonth: {}, revenue: {}", memberId, goalMonth, currentMonthRevenue);
 
         YearMonth oneMonthAgo = goalMonth.minusMonths(1);
@@ -163,9 +175,9 @@ public class GoalService {
         return new RevenueGoalResponseDTO(
                 currentGoal != null ? currentGoal.getGoalMonth() : YearMonth.now(),
                 twoMonthGoal != null ? twoMonthGoal.getRevenueGoal() : BigDecimal.ZERO,
-                posService.calculateMonthlyRevenue(memberId, twoMonthsAgo),
+                goalProgressTracker.get(memberId, business, twoMonthsAgo).getActualRevenue(),
                 oneMonthGoal != null ? oneMonthGoal.getRevenueGoal() : BigDecimal.ZERO,
-                posService.calculateMonthlyRevenue(memberId, oneMonthAgo),
+                goalProgressTracker.get(memberId, business, oneMonthAgo).getActualRevenue(),
                 currentGoal != null ? currentGoal.getRevenueGoal() : BigDecimal.ZERO,
                 currentMonthRevenue
         );
@@ -187,7 +199,7 @@ public class GoalService {
                 )
                 .fetchOne();
 
-        BigDecimal currentMonthExpense = accountService.calculateTotalExpenses(goalMonth, memberId);
+        BigDecimal currentMonthExpense = goalProgressTracker.get(memberId, business, goalMonth).getActualExpense();
         log.info("Current month expense for memberId: {}, month: {}, expense: {}", memberId, goalMonth, currentMonthExpense);
 
         YearMonth oneMonthAgo = goalMonth.minusMonths(1);
@@ -222,6 +234,12 @@ public class GoalService {
     // 연간 목표 조회
     public List<GoalYearlyResponseDTO> getYearlyGoals(Long memberId, Year goalYear) {
         log.info("Fetching yearly goals for memberId: {}, goalYear: {}", memberId, goalYear);
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, GoalYearlyResponseDTO.class);
+        return analyticsCacheService.getOrLoad(memberId, "yearly-goals", goalYear, listType,
+                () -> loadYearlyGoals(memberId, goalYear));
+    }
+
+    private List<GoalYearlyResponseDTO> loadYearlyGoals(Long memberId, Year goalYear) {
         BusinessRegistration business = businessService.getBusinessIdByMemberID(memberId);
         log.info("Fetched businessRegistration for memberId: {}, businessId: {}", memberId, business.getBusinessRegistrationId());
 
@@ -239,7 +257,8 @@ public class GoalService {
                     )
                     .fetchOne();
 
-            BigDecimal realRevenue = posService.calculateMonthlyRevenue(memberId, goalMonth);
+            GoalProgress progress = goalProgressTracker.get(memberId, business, goalMonth);
+            BigDecimal realRevenue = progress.getActualRevenue();
 
             Goals expenseGoal = queryFactory
                     .selectFrom(qGoals)
@@ -249,7 +268,7 @@ public class GoalService {
                     )
                     .fetchOne();
 
-            BigDecimal realExpense = accountService.calculateTotalExpenses(goalMonth, memberId);
+            BigDecimal realExpense = progress.getActualExpense();
 
             GoalYearlyResponseDTO goalResponse = new GoalYearlyResponseDTO(
                     month,
@@ -0,0 +1,163 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.dto.report.EconomicIndicatorDTO;
+import com.example.backend.dto.report.MarketPromptDTO;
+import com.example.backend.model.BUSINESS.EconomicIndicator;
+import com.example.backend.model.BUSINESS.Prompt;
+import com.example.backend.repository.EconomicIndicatorRepository;
+import com.example.backend.repository.PromptRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+//////////// 시장 동향 보고서용 경제 지표 / 프롬프트(시장 이슈, 트렌드) 저장소
+/// 1. economic_indicator / prompt 테이블을 읽어 YearMonth 기준 불변 인덱스로 보관 -> 보고서 생성 시 DB 조회 없음
+/// 2. 관리자 등록/수정 시 DB 저장 후 인덱스를 다시 만들어 교체 (재배포 없이 새 월 추가)
+/// 3. 다른 인스턴스에서 수정한 내용은 주기적으로 다시 읽어 반영
+/// 4. economic_indicator 가 비어 있으면 기존에 코드에 있던 2024년 9~11월 지표로 채움
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MarketDataStore {
+
+    private static List<EconomicIndicator> seedIndicators() {
+        return List.of(
+                seed(YearMonth.of(2024, 9), "75.9", "9월 소상공인 전망 BSI 지수: 75.9 / 전월대비 +20.1p",
+                        "114.65", "9월 CPI 지수: 114.65 / 전월비 0.1% 상승 / 전년동월비 1.6% 상승"),
+                seed(YearMonth.of(2024, 10), "85.9", "10월 소상공인 전망 BSI 지수: 85.9 / 전월대비 +10.0p",
+                        "114.69", "10월 CPI 지수: 114.69 / 전월비 0.1% 상승 / 전년동월비 1.3% 상승"),
+                seed(YearMonth.of(2024, 11), "75.6", "11월 소상공인 전망 BSI 지수: 75.6 / 전월대비 -10.3p",
+                        "114.40", "11월 CPI 지수: 114.40 / 전월비 -0.3% 하락 / 전년동월비 1.5% 상승")
+        );
+    }
+
+    private final EconomicIndicatorRepository economicIndicatorRepository;
+    private final PromptRepository promptRepository;
+    private final ScheduledJobGuard scheduledJobGuard;
+
+    // 불변 인덱스 (교체만 함)
+    private record Index(Map<YearMonth, EconomicIndicatorDTO> indicators, Map<YearMonth, Map<String, String>> prompts) {}
+
+    private volatile Index index;
+
+    public Optional<EconomicIndicatorDTO> indicator(YearMonth month) {
+        return Optional.ofNullable(index().indicators().get(month));
+    }
+
+    // type: issue(시장 이슈) / trend(트렌드), 없으면 빈 문자열
+    public String prompt(YearMonth month, String type) {
+        return index().prompts().getOrDefault(month, Map.of()).getOrDefault(type, "");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAndLoad() {
+        if (economicIndicatorRepository.count() == 0) {
+            try {
+                List<EconomicIndicator> seeds = economicIndicatorRepository.saveAll(seedIndicators());
+                log.info("경제 지표 기본 데이터 {}건 등록", seeds.size());
+            } catch (DataIntegrityViolationException e) {
+                // 여러 서버가 동시에 기동: indicator_month unique 제약으로 한 곳만 등록됨 (saveAll 은 한 트랜잭션이라 전부 롤백)
+                log.info("다른 서버에서 경제 지표 기본 데이터를 이미 등록했습니다.");
+            }
+        }
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${market-data.refresh-ms:600000}", initialDelayString = "${market-data.refresh-ms:600000}")
+    public void scheduledReload() {
+        scheduledJobGuard.run("market-data-reload", this::reload);
+    }
+
+    public synchronized void reload() {
+        Map<YearMonth, EconomicIndicatorDTO> indicators = new HashMap<>();
+        for (EconomicIndicator indicator : economicIndicatorRepository.findAll()) {
+            YearMonth month = YearMonth.from(indicator.getIndicatorMonth());
+            indicators.put(month, new EconomicIndicatorDTO(month, indicator.getBsiIndex(), indicator.getBsiDescription(),
+                    indicator.getCpiIndex(), indicator.getCpiDescription()));
+        }
+
+        // 같은 월/종류가 여러 개면 먼저 등록된 것 사용 (기존 findFirstByMonthAndType 과 동일)
+        Map<YearMonth, Map<String, String>> prompts = new HashMap<>();
+        for (Prompt prompt : promptRepository.findAll()) {
+            if (prompt.getMonth() == null || prompt.getType() == null) {
+                continue;
+            }
+            prompts.computeIfAbsent(prompt.getMonth(), key -> new HashMap<>())
+                    .putIfAbsent(prompt.getType(), prompt.getContents() == null ? "" : prompt.getContents());
+        }
+
+        Map<YearMonth, Map<String, String>> frozenPrompts = new HashMap<>();
+        prompts.forEach((month, byType) -> frozenPrompts.put(month, Map.copyOf(byType)));
+        index = new Index(Map.copyOf(indicators), Map.copyOf(frozenPrompts));
+    }
+
+    // 관리자: 경제 지표 등록/수정
+    public EconomicIndicatorDTO upsertIndicator(EconomicIndicatorDTO request) {
+        if (request.getMonth() == null) {
+            throw new IllegalArgumentException("지표 기준 월이 필요합니다.");
+        }
+
+        EconomicIndicator indicator = economicIndicatorRepository.findByIndicatorMonth(request.getMonth().atDay(1))
+                .orElseGet(EconomicIndicator::new);
+        indicator.setIndicatorMonth(request.getMonth().atDay(1));
+        indicator.setBsiIndex(request.getBsiIndex());
+        indicator.setBsiDescription(request.getBsiDescription());
+        indicator.setCpiIndex(request.getCpiIndex());
+        indicator.setCpiDescription(request.getCpiDescription());
+        economicIndicatorRepository.save(indicator);
+
+        reload();
+        return request;
+    }
+
+    // 관리자: 시장 이슈 / 트렌드 프롬프트 등록/수정
+    public MarketPromptDTO upsertPrompt(MarketPromptDTO request) {
+        if (request.getMonth() == null || request.getType() == null) {
+            throw new IllegalArgumentException("대상 월과 종류(issue/trend)가 필요합니다.");
+        }
+
+        Prompt prompt = promptRepository.findFirstByMonthAndType(request.getMonth(), request.getType())
+                .orElseGet(Prompt::new);
+        prompt.setMonth(request.getMonth());
+        prompt.setType(request.getType());
+        prompt.setContents(request.getContents());
+        promptRepository.save(prompt);
+
+        reload();
+        return request;
+    }
+
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    reload();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private static EconomicIndicator seed(YearMonth month, String bsiIndex, String bsiDescription, String cpiIndex, String cpiDescription) {
+        EconomicIndicator indicator = new EconomicIndicator();
+        indicator.setIndicatorMonth(month.atDay(1));
+        indicator.setBsiIndex(bsiIndex);
+        indicator.setBsiDescription(bsiDescription);
+        indicator.setCpiIndex(cpiIndex);
+        indicator.setCpiDescription(cpiDescription);
+        return indicator;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.model.BUSINESS.MarketReport;
+import com.example.backend.dto.report.EconomicIndicatorDTO;
+import com.example.backend.repository.MarketReportRepository;
+import com.example.backend.service.cache.SingleFlight;
+import com.example.backend.service.llm.LlmClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+//////////// 시장 동향 보고서 (MARKET_REPORT)
+/// 보고서 내용은 월(BSI, CPI, 시장 이슈, 트렌드)에만 의존하므로 사업자별로 만들지 않고
+/// 월마다 한 번만 생성해서 market_report 에 저장하고 모든 사업자가 같은 보고서를 참조
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MarketReportService {
+
+    private final MarketReportRepository marketReportRepository;
+    private final MarketDataStore marketDataStore;
+    private final LlmClient llmClient;
+    private final ObjectMapper objectMapper;
+    private final ReportCatalog reportCatalog;
+
+    private final SingleFlight singleFlight;
+
+    // 저장된 보고서 조회
+    public Optional<String> find(YearMonth month) {
+        return marketReportRepository.findByReportMonth(month.atDay(1)).map(MarketReport::getContent);
+    }
+
+    // 해당 월 보고서 조회, 없으면 생성 후 저장 (JSON 문자열 반환)
+    // 같은 월을 동시에 요청해도(여러 인스턴스 포함) LLM 은 한 번만 호출
+    public String getOrCreate(YearMonth month) {
+        return singleFlight.execute("market-report:" + month, () -> find(month), () -> create(month));
+    }
+
+    private String create(YearMonth month) {
+        Map<String, Object> reportData = generate(month);
+        if (reportData.containsKey("error")) {
+            log.error("API 호출 오류로 시장 동향 보고서를 생성하지 못했습니다. {}", reportData.get("error"));
+            throw new RuntimeException("리포트 생성 실패: " + reportData.get("error"));
+        }
+
+        String content;
+        try {
+            content = objectMapper.writeValueAsString(reportData);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("JSON 직렬화 중 오류 발생", e);
+        }
+
+        MarketReport report = new MarketReport();
+        report.setReportMonth(month.atDay(1));
+        report.setContent(content);
+        try {
+            marketReportRepository.save(report);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우 저장된 보고서 사용
+            return find(month).orElse(content);
+        }
+        reportCatalog.markSharedMarketReport(month);
+        return content;
+    }
+
+    public String getMarketIssueByMonth(YearMonth month) {
+        // "시장 이슈" 데이터 가져오기
+        return marketDataStore.prompt(month, "issue");
+    }
+
+    public String getTrendByMonth(YearMonth month) {
+        // "트렌드" 데이터 가져오기
+        return marketDataStore.prompt(month, "trend");
+    }
+
+    //////////////////// 경제 지표 활용 시장 동향 보고서 생성 (LLM 호출)
+    public Map<String, Object> generate(YearMonth month) {
+        int currentMonth = month.getMonthValue();
+
+        // 경제 지표는 MarketDataStore 의 메모리 인덱스에서 조회 (DB 조회 없음)
+        Optional<EconomicIndicatorDTO> indicator = marketDataStore.indicator(month);
+        String bsiDescription = indicator.map(EconomicIndicatorDTO::getBsiDescription).orElse("해당 월의 BSI 데이터가 없습니다.");
+        String cpiDescription = indicator.map(EconomicIndicatorDTO::getCpiDescription).orElse("해당 월의 CPI 데이터가 없습니다.");
+        String bsiIndex = indicator.map(EconomicIndicatorDTO::getBsiIndex).orElse("데이터 없음");
+        String cpiIndex = indicator.map(EconomicIndicatorDTO::getCpiIndex).orElse("데이터 없음");
+
+        String market = getMarketIssueByMonth(month);
+        String trend = getTrendByMonth(month);
+
+//        // 기본값을 추가하여 값이 없을 경우 대체 문구 제공
+//        market = (market == null || market.isBlank()) ? "시장 이슈 데이터가 없습니다. 최신 이슈를 업데이트하세요." : market;
+//        trend = (trend == null || trend.isBlank()) ? "트렌드 데이터가 없습니다. 최신 트렌드를 업데이트하세요." : trend;
+
+        String content = String.format("""
+            다음 데이터는 현재 월 기준으로 제공된 시장 동향 데이터입니다.
+            - BSI 지수: %s
+            - BSI 설명: %s
+            - CPI 지수: %s
+            - CPI 설명: %s
+            - 시장 이슈: %s
+            - 트렌드: %s
+            """,
+                bsiIndex, bsiDescription, cpiIndex, cpiDescription, market, trend
+        );
+
+        Map<String, Object> requestBody = Map.of(
+                "model", "gpt-4o",
+                "messages", List.of(
+                        Map.of("role", "system", "content",
+                                "당신은 카페를 운영하는 사장님을 위한 시장 동향 보고서를 작성하는 AI입니다. " +
+                                        "다음 데이터는 " + currentMonth + "월 카페 운영 관련 시장 동향 정보입니다:\n" + content +
+                                        "이를 바탕으로 분석 결과와 권장 사항을 JSON 형식으로 제공해주세요. " +
+                                        "답변은 친근한 아나운서처럼 작성해주세요. 귀하 보다는 사장님 표현을 써주세요. -하는게 좋을 것 같아요. - 했어요. -해요. -하는게 어떨까요? 등의 표현을 써주세요."
+                        ),
+                        Map.of("role", "user", "content",
+                                """
+                                다음 정보를 JSON 형식으로 정리하세요:
+                                1. **month**: 해당 월
+                                2. **BSI_index**: BSI 지수
+                                3. **BSI_description**: BSI 지수에 대한 설명
+                                4. **CPI_index**: CPI 지수
+                                5. **CPI_description**: CPI 지수에 대한 설명
+                                6. **market_issue**: 시장 이슈에 대한 설명
+                                7. **trend**: 트렌드에 대한 설명
+                                8. **recommendation**: 위 데이터를 기반으로 종합적으로 고려한 권장 사항
+                                """
+                        )
+                ),
+                "functions", List.of(
+                        Map.of(
+                                "name", "generateMarketReport",
+                                "description", "BSI와 CPI 데이터를 기반으로 시장 동향 및 권장 사항을 제공합니다.",
+                                "parameters", Map.of(
+                                        "type", "object",
+                                        "properties", Map.of(
+                                                "month", Map.of("type", "integer", "description", "2024년 해당 월"),
+                                                "BSI_index", Map.of("type", "string", "description", "오늘 기준 BSI 지수"),
+                                                "BSI_description", Map.of("type", "string", "description", "오늘 기준 BSI 지수에 대한 자세한 설명"),
+                                                "CPI_index", Map.of("type", "string", "description", "오늘 기준 소비자물가지수 (CPI)"),
+                                                "CPI_description", Map.of("type", "string", "description", "오늘 기준 소비자물가지수 (CPI)에 대한 자세한 설명"),
+                                                "market_issue", Map.of("type", "string", "description", "시장 이슈에 대한 설명"),
+                                                "trend", Map.of("type", "string", "description", "트렌드에 대한 설명"),
+                                                "recommendation", Map.of("type", "string", "description", "위 정보를 종합적으로 고려한 권장 사항")
+                                        ),
+                                        "required", List.of("month", "BSI_index", "BSI_description", "CPI_index", "CPI_description", "market_issue", "trend", "recommendation")
+                                )
+                        )
+                ),
+                "function_call", Map.of("name", "generateMarketReport")
+        );
+
+        try {
+            return llmClient.callFunction(requestBody);
+        } catch (Exception e) {
+            log.error("시장 동향 보고서 생성 오류: {}", e.getMessage());
+            return Map.of("error", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.model.BUSINESS.QMarketReport;
+import com.example.backend.model.BUSINESS.QReport;
+import com.example.backend.service.RedisService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//////////// 리포트 존재 여부 인덱스 (Redis 비트맵)
+/// 1. (월, 리포트 종류)마다 비트맵 하나, businessRegistrationId 번째 비트 = 리포트 존재
+///    MARKET_REPORT 는 월 단위 공유이므로 0번 비트 = 공유 보고서 존재 (이전에 사업자별로 저장된 보고서는 사업자 비트)
+/// 2. 리포트 저장 시 비트 설정, DB 에서 ID 만 조회해 누락된 비트를 보정 (ready 키가 없거나 만료되면 재생성)
+///    보정은 임시 키에 만든 뒤 BITOP OR 로 기존 비트맵에 더함 -> 재생성 도중 markAvailable 로 설정된 비트도 유지
+///    (리포트는 삭제되지 않으므로 비트를 지울 일은 없음)
+/// 3. Redis 장애 시에는 DB 에서 존재 여부만 조회 (content 는 읽지 않음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCatalog {
+
+    private static final String KEY_PREFIX = "report:catalog:";
+    private static final String MARKET_REPORT = "MARKET_REPORT";
+    private static final String INDUSTRY_REPORT = "INDUSTRY_REPORT";
+    private static final long SHARED_BIT = 0L;
+
+    private final RedisService redisService;
+    private final JPAQueryFactory queryFactory;
+
+    // ready 키 유지 시간 (만료되면 DB 에서 다시 만들어 누락된 비트 보정)
+    @Value("${report.catalog.rebuild-hours:24}")
+    private long rebuildHours;
+
+    private final Map<YearMonth, Object> rebuildLocks = new ConcurrentHashMap<>();
+
+    public boolean isAvailable(Long businessId, YearMonth month, String reportType) {
+        try {
+            ensureReady(month);
+            String key = key(month, reportType);
+            if (MARKET_REPORT.equals(reportType) && redisService.getBit(key, SHARED_BIT)) {
+                return true;
+            }
+            return redisService.getBit(key, businessId);
+        } catch (Exception e) {
+            log.warn("리포트 카탈로그(Redis) 조회 실패, DB 조회 - month: {}, type: {}, 사유: {}", month, reportType, e.getMessage());
+            return existsInDb(businessId, month, reportType);
+        }
+    }
+
+    // 주어진 사업자 중 해당 리포트가 없는 사업자 (비트맵 한 번 조회, Redis 장애 시 DB 에서 한 번에 조회)
+    public List<Long> missing(YearMonth month, String reportType, List<Long> businessIds) {
+        byte[] bitmap;
+        try {
+            ensureReady(month);
+            bitmap = redisService.getBytes(key(month, reportType));
+        } catch (Exception e) {
+            log.warn("리포트 카탈로그(Redis) 조회 실패, DB 조회 - month: {}, type: {}, 사유: {}", month, reportType, e.getMessage());
+            return missingInDb(month, reportType, businessIds);
+        }
+        if (MARKET_REPORT.equals(reportType) && isSet(bitmap, SHARED_BIT)) {
+            return List.of();
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long businessId : businessIds) {
+            if (!isSet(bitmap, businessId)) {
+                missing.add(businessId);
+            }
+        }
+        return missing;
+    }
+
+    public void markAvailable(Long businessId, YearMonth month, String reportType) {
+        try {
+            redisService.setBit(key(month, reportType), businessId, true);
+        } catch (Exception e) {
+            // 다음 재생성 때 반영됨
+            log.warn("리포트 카탈로그(Redis) 갱신 실패 - businessId: {}, month: {}, type: {}, 사유: {}", businessId, month, reportType, e.getMessage());
+        }
+    }
+
+    public void markSharedMarketReport(YearMonth month) {
+        try {
+            redisService.setBit(key(month, MARKET_REPORT), SHARED_BIT, true);
+        } catch (Exception e) {
+            log.warn("리포트 카탈로그(Redis) 갱신 실패 - month: {}, type: {}, 사유: {}", month, MARKET_REPORT, e.getMessage());
+        }
+    }
+
+    // 기동 시 이번 달 / 지난 달 카탈로그 준비 (페이지 로드마다 호출되는 지난 달 확인용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild(YearMonth.now().minusMonths(1));
+            rebuild(YearMonth.now());
+        } catch (Exception e) {
+            log.warn("리포트 카탈로그 준비 실패: {}", e.getMessage());
+        }
+    }
+
+    // DB 의 리포트 ID 로 해당 월 비트맵에 누락된 비트 보정
+    public void rebuild(YearMonth month) {
+        synchronized (rebuildLocks.computeIfAbsent(month, key -> new Object())) {
+            rebuildType(month, INDUSTRY_REPORT, businessIdsInDb(month, INDUSTRY_REPORT));
+
+            List<Long> marketBits = new ArrayList<>(businessIdsInDb(month, MARKET_REPORT));
+            if (sharedMarketReportInDb(month)) {
+                marketBits.add(SHARED_BIT);
+            }
+            rebuildType(month, MARKET_REPORT, marketBits);
+
+            redisService.saveValue(readyKey(month), "1", Duration.ofHours(rebuildHours));
+        }
+    }
+
+    // RENAME 으로 교체하면 DB 조회 이후 설정된 비트가 사라지므로 OR 로 합침
+    private void rebuildType(YearMonth month, String reportType, List<Long> bits) {
+        if (bits.isEmpty()) {
+            return;
+        }
+        String key = key(month, reportType);
+        String tempKey = key + ":rebuild";
+        redisService.deleteValue(tempKey);
+        redisService.setBits(tempKey, bits);
+        redisService.orBits(key, tempKey);
+        redisService.deleteValue(tempKey);
+    }
+
+    private void ensureReady(YearMonth month) {
+        if (!redisService.hasKey(readyKey(month))) {
+            synchronized (rebuildLocks.computeIfAbsent(month, key -> new Object())) {
+                if (!redisService.hasKey(readyKey(month))) {
+                    rebuild(month);
+                }
+            }
+        }
+    }
+
+    private List<Long> businessIdsInDb(YearMonth month, String reportType) {
+        QReport qReport = QReport.report;
+        return queryFactory
+                .select(qReport.businessRegistration.businessRegistrationId)
+                .from(qReport)
+                .where(qReport.reportMonth.eq(month.atDay(1)), qReport.reportType.eq(reportType))
+                .fetch();
+    }
+
+    private List<Long> missingInDb(YearMonth month, String reportType, List<Long> businessIds) {
+        if (businessIds.isEmpty() || (MARKET_REPORT.equals(reportType) && sharedMarketReportInDb(month))) {
+            return List.of();
+        }
+        QReport qReport = QReport.report;
+        Set<Long> existing = new HashSet<>(queryFactory
+                .select(qReport.businessRegistration.businessRegistrationId)
+                .from(qReport)
+                .where(
+                        qReport.businessRegistration.businessRegistrationId.in(businessIds),
+                        qReport.reportMonth.eq(month.atDay(1)),
+                        qReport.reportType.eq(reportType)
+                )
+                .fetch());
+
+        List<Long> missing = new ArrayList<>();
+        for (Long businessId : businessIds) {
+            if (!existing.contains(businessId)) {
+                missing.add(businessId);
+            }
+        }
+        return missing;
+    }
+
+    private boolean sharedMarketReportInDb(YearMonth month) {
+        QMarketReport qMarketReport = QMarketReport.marketReport;
+        return queryFactory.selectOne()
+                .from(qMarketReport)
+                .where(qMarketReport.reportMonth.eq(month.atDay(1)))
+                .fetchFirst() != null;
+    }
+
+    private boolean existsInDb(Long businessId, YearMonth month, String reportType) {
+        if (MARKET_REPORT.equals(reportType) && sharedMarketReportInDb(month)) {
+            return true;
+        }
+        QReport qReport = QReport.report;
+        return queryFactory.selectOne()
+                .from(qReport)
+                .where(
+                        qReport.businessRegistration.businessRegistrationId.eq(businessId),
+                        qReport.reportMonth.eq(month.atDay(1)),
+                        qReport.reportType.eq(reportType)
+                )
+                .fetchFirst() != null;
+    }
+
+    // Redis 비트 순서: 바이트 안에서 상위 비트부터
+    private static boolean isSet(byte[] bitmap, long offset) {
+        if (bitmap == null) {
+            return false;
+        }
+        long byteIndex = offset >>> 3;
+        if (byteIndex >= bitmap.length) {
+            return false;
+        }
+        return (bitmap[(int) byteIndex] & (0x80 >>> (offset & 7))) != 0;
+    }
+
+    private static String key(YearMonth month, String reportType) {
+        return KEY_PREFIX + month + ":" + reportType;
+    }
+
+    private static String readyKey(YearMonth month) {
+        return KEY_PREFIX + month + ":ready";
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.dto.report.ReportJobResponseDTO;
+import com.example.backend.exception.base_exceptions.BadRequestException;
+import com.example.backend.model.BUSINESS.ReportJob;
+import com.example.backend.model.enumSet.ReportJobStatus;
+import com.example.backend.repository.ReportJobRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+//////////// 리포트 생성 작업 큐
+/// 1. 요청 시 작업(report_job)을 저장하고 ID 를 바로 반환 -> 클라이언트는 /api/report/jobs/{id} 로 상태 조회
+/// 2. MARKET_REPORT / INDUSTRY_REPORT 를 reportExecutor 에서 병렬로 생성
+/// 3. 같은 회원/월의 진행 중 작업은 active_key 유니크 제약으로 하나만 저장 (동시 요청은 기존 작업을 반환)
+/// 4. 작업은 실행 중인 서버 이름(owner)과 임대 만료 시각(lease_until)을 가짐 -> 각 리포트 시작 시 임대 연장
+/// 5. 재시작 시 자기 작업을, 주기적으로 임대가 만료된 작업을 조건부 UPDATE 로 가져가서 다시 실행 (여러 서버 중 한 곳만)
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private static final List<ReportJobStatus> ACTIVE = List.of(ReportJobStatus.PENDING, ReportJobStatus.RUNNING);
+    private static final List<String> REPORT_TYPES = List.of("MARKET_REPORT", "INDUSTRY_REPORT");
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportService reportService;
+    private final TaskExecutor reportExecutor;
+    private final ScheduledJobGuard scheduledJobGuard;
+
+    // 이 서버 이름 (재시작해도 같아야 자기 작업을 바로 다시 가져갈 수 있음)
+    @Value("${report.job.node-id:${HOSTNAME:${random.uuid}}}")
+    private String nodeId;
+
+    @Value("${report.job.lease-minutes:15}")
+    private long leaseMinutes;
+
+    public ReportJobService(ReportJobRepository reportJobRepository,
+                            ReportService reportService,
+                            @Qualifier("reportExecutor") TaskExecutor reportExecutor,
+                            ScheduledJobGuard scheduledJobGuard) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportService = reportService;
+        this.reportExecutor = reportExecutor;
+        this.scheduledJobGuard = scheduledJobGuard;
+    }
+
+    // 리포트 생성 작업 요청 (같은 회원/월의 진행 중인 작업이 있으면 그 작업을 반환)
+    public ReportJob submit(Long memberId, YearMonth month) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            ReportJob active = reportJobRepository
+                    .findFirstByMemberIdAndReportMonthAndStatusIn(memberId, month.atDay(1), ACTIVE)
+                    .orElse(null);
+            if (active != null) {
+                return active;
+            }
+
+            ReportJob job = new ReportJob();
+            job.setMemberId(memberId);
+            job.setReportMonth(month.atDay(1));
+            job.setStatus(ReportJobStatus.PENDING);
+            job.setRequestedAt(LocalDateTime.now());
+            job.setActiveKey(memberId + ":" + month);
+            job.setOwner(nodeId);
+            job.setLeaseUntil(leaseUntil());
+            try {
+                ReportJob saved = reportJobRepository.save(job);
+                dispatch(saved);
+                return saved;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 저장함 -> 그 작업을 조회해서 반환 (그사이 끝났으면 한 번 더 시도)
+                log.debug("같은 회원/월의 리포트 작업이 동시에 요청됨 - memberId: {}, month: {}", memberId, month);
+            }
+        }
+        throw new BadRequestException("리포트 작업 요청이 겹쳤습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    // 작업 상태 조회 (완료된 경우 리포트 포함)
+    public ReportJobResponseDTO getJob(Long memberId, Long jobId) {
+        ReportJob job = reportJobRepository.findById(jobId)
+                .filter(found -> found.getMemberId().equals(memberId))
+                .orElseThrow(() -> new BadRequestException("해당 리포트 작업이 없습니다."));
+
+        YearMonth month = YearMonth.from(job.getReportMonth());
+        Map<String, Map<String, Object>> reports = job.getStatus() == ReportJobStatus.COMPLETED
+                ? reportService.findAllReports(memberId, month).orElse(null)
+                : null;
+
+        return new ReportJobResponseDTO(job.getReportJobId(), month, job.getStatus(), job.getErrorMessage(), reports);
+    }
+
+    // 재시작 시 이 서버 이름으로 잡혀 있던 작업 + 임대가 만료된 작업 다시 실행
+    // (이미 생성된 리포트는 getOrCreateReport 에서 조회만 함)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        resume(true);
+    }
+
+    // 다른 서버가 실행 도중 종료된 작업은 임대 만료 후 가져감
+    @Scheduled(fixedDelayString = "${report.job.resume-interval-ms:300000}", initialDelayString = "${report.job.resume-interval-ms:300000}")
+    public void resumeExpiredJobs() {
+        scheduledJobGuard.run("report-job-resume", () -> resume(false));
+    }
+
+    private void resume(boolean startup) {
+        LocalDateTime now = LocalDateTime.now();
+        int resumed = 0;
+        for (ReportJob job : reportJobRepository.findByStatusIn(ACTIVE)) {
+            boolean claimed = (startup && reportJobRepository.reclaimOwn(job.getReportJobId(), nodeId, leaseUntil(), ACTIVE) == 1)
+                    || reportJobRepository.claimExpired(job.getReportJobId(), nodeId, leaseUntil(), now, ACTIVE) == 1;
+            if (claimed) {
+                job.setOwner(nodeId);
+                dispatch(job);
+                resumed++;
+            }
+        }
+        if (resumed > 0) {
+            log.info("미완료 리포트 작업 {}건 재실행 - node: {}", resumed, nodeId);
+        }
+    }
+
+    private void dispatch(ReportJob job) {
+        Long jobId = job.getReportJobId();
+        Long memberId = job.getMemberId();
+        YearMonth month = YearMonth.from(job.getReportMonth());
+
+        // 리포트 종류별로 병렬 생성, 실제로 시작할 때 RUNNING + 임대 연장, 둘 다 끝나면 작업 상태 갱신 (대기하는 스레드 없음)
+        List<CompletableFuture<?>> reports = new ArrayList<>(REPORT_TYPES.size());
+        try {
+            for (String reportType : REPORT_TYPES) {
+                reports.add(CompletableFuture.runAsync(() -> {
+                    reportJobRepository.heartbeat(jobId, nodeId, leaseUntil(), ReportJobStatus.RUNNING, ACTIVE);
+                    reportService.getOrCreateReport(memberId, month, reportType);
+                }, reportExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            // 작업 큐가 가득 참 -> PENDING/RUNNING 으로 남기지 않고 실패 처리 (다시 요청 가능)
+            updateStatus(jobId, ReportJobStatus.FAILED, "리포트 생성 요청이 많아 작업을 시작하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            log.warn("리포트 작업 실행 거절 - jobId: {}, memberId: {}, month: {}", jobId, memberId, month);
+            return;
+        }
+
+        CompletableFuture.allOf(reports.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            if (error == null) {
+                updateStatus(jobId, ReportJobStatus.COMPLETED, null);
+                log.info("리포트 작업 완료 - jobId: {}, memberId: {}, month: {}", jobId, memberId, month);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                updateStatus(jobId, ReportJobStatus.FAILED, cause.getMessage());
+                log.error("리포트 작업 실패 - jobId: {}, memberId: {}, month: {}", jobId, memberId, month, cause);
+            }
+        });
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusMinutes(leaseMinutes);
+    }
+
+    private void updateStatus(Long jobId, ReportJobStatus status, String errorMessage) {
+        reportJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setErrorMessage(errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage);
+            if (status == ReportJobStatus.COMPLETED || status == ReportJobStatus.FAILED) {
+                job.setFinishedAt(LocalDateTime.now());
+                job.setActiveKey(null);
+                job.setLeaseUntil(null);
+            }
+            reportJobRepository.save(job);
+        });
+    }
+}
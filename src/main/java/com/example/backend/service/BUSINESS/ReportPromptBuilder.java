@@ -0,0 +1,173 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.dto.account.ExpenseDTO;
+import com.example.backend.dto.pos.DailyIncomeDTO;
+import com.example.backend.dto.pos.MonthlyIncomeDTO;
+import com.example.backend.service.llm.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//////////// 동종 업계 비교 보고서 프롬프트 데이터 (고정 스키마, 토큰 예산)
+/// 1. Map / DTO toString() 대신 필요한 지표만 "키=값" 한 줄씩 (금액은 원 단위 정수)
+/// 2. 토큰 수를 로컬에서 추정해 예산(report.prompt.token-budget)을 넘으면 단계적으로 요약
+///    일별 매출 -> 주별 매출 -> 평균/최고/최저, 지출 카테고리 전체 -> 상위 8개 -> 상위 3개 + 기타
+///    -> 거래가 많은 달에도 프롬프트 길이(= LLM 지연 / 비용)가 일정
+@Component
+@Slf4j
+public class ReportPromptBuilder {
+
+    private enum Detail { DAILY, WEEKLY, SUMMARY }
+
+    @Value("${report.prompt.token-budget:400}")
+    private int tokenBudget;
+
+    public String industryComparisonData(Map<String, Object> averageIncome, Map<String, Object> averageExpense,
+                                         MonthlyIncomeDTO myIncome, ExpenseDTO myExpense) {
+        String header = header(averageIncome, averageExpense, myIncome, myExpense);
+
+        String prompt = header;
+        for (Detail detail : Detail.values()) {
+            prompt = header + categories(myExpense, detail) + dailySeries(myIncome, detail);
+            int tokens = TokenEstimator.estimate(prompt);
+            if (tokens <= tokenBudget) {
+                log.debug("리포트 프롬프트 데이터 - detail: {}, 추정 토큰: {}", detail, tokens);
+                return prompt;
+            }
+        }
+        log.info("리포트 프롬프트 데이터가 토큰 예산({})을 넘어 요약본 사용 - 추정 토큰: {}", tokenBudget, TokenEstimator.estimate(prompt));
+        return prompt;
+    }
+
+    private String header(Map<String, Object> averageIncome, Map<String, Object> averageExpense,
+                          MonthlyIncomeDTO myIncome, ExpenseDTO myExpense) {
+        // 업계 평균이 없는 달(동종 업계 데이터 없음)은 0 으로 표시
+        if (averageIncome == null) averageIncome = Map.of();
+        if (averageExpense == null) averageExpense = Map.of();
+
+        StringBuilder sb = new StringBuilder("단위: 원\n");
+        sb.append("업계평균: 매출=").append(won(averageIncome.get("averageMonthlyIncome")))
+                .append(", 카드=").append(won(averageIncome.get("averageMonthlyCardIncome")))
+                .append(", 현금=").append(won(averageIncome.get("averageMonthlyCashIncome")))
+                .append(", 지출=").append(won(averageExpense.get("averageExpense"))).append('\n');
+        sb.append("업계시간대매출: 오전=").append(won(averageIncome.get("morningSales")))
+                .append(", 오후=").append(won(averageIncome.get("afternoonSales")))
+                .append(", 저녁=").append(won(averageIncome.get("eveningSales")))
+                .append(", 피크=").append(averageIncome.getOrDefault("peakSalesPeriod", "-")).append('\n');
+        sb.append("나: 매출=").append(won(myIncome == null ? null : myIncome.getMonthlyTotalncome()))
+                .append(", 카드=").append(won(myIncome == null ? null : myIncome.getMonthlyCardIncome()))
+                .append(", 현금=").append(won(myIncome == null ? null : myIncome.getMonthlyCashIncome()))
+                .append(", 지출=").append(won(myExpense == null ? null : myExpense.getTotalMonthExpenses())).append('\n');
+        return sb.toString();
+    }
+
+    // 나의 지출 카테고리 (금액 큰 순)
+    private String categories(ExpenseDTO myExpense, Detail detail) {
+        if (myExpense == null || myExpense.getCategoryExpenses() == null || myExpense.getCategoryExpenses().isEmpty()) {
+            return "";
+        }
+
+        List<Map.Entry<String, BigDecimal>> sorted = new ArrayList<>(myExpense.getCategoryExpenses().entrySet());
+        sorted.sort(Comparator.comparing((Map.Entry<String, BigDecimal> entry) -> nonNull(entry.getValue())).reversed());
+
+        int limit = switch (detail) {
+            case DAILY -> sorted.size();
+            case WEEKLY -> 8;
+            case SUMMARY -> 3;
+        };
+
+        StringBuilder sb = new StringBuilder("나의지출카테고리: ");
+        BigDecimal others = BigDecimal.ZERO;
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<String, BigDecimal> entry = sorted.get(i);
+            if (i < limit) {
+                if (i > 0) sb.append(", ");
+                sb.append(entry.getKey()).append('=').append(won(entry.getValue()));
+            } else {
+                others = others.add(nonNull(entry.getValue()));
+            }
+        }
+        if (sorted.size() > limit) {
+            sb.append(", 기타=").append(won(others));
+        }
+        return sb.append('\n').toString();
+    }
+
+    // 나의 일별 매출 (상세도에 따라 일별 / 주별 / 요약)
+    private String dailySeries(MonthlyIncomeDTO myIncome, Detail detail) {
+        if (myIncome == null || myIncome.getDailyIncomeList() == null || myIncome.getDailyIncomeList().isEmpty()) {
+            return "";
+        }
+        List<DailyIncomeDTO> days = myIncome.getDailyIncomeList().stream()
+                .filter(day -> day.getDate() != null)
+                .sorted(Comparator.comparing(DailyIncomeDTO::getDate))
+                .toList();
+        if (days.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        switch (detail) {
+            case DAILY -> {
+                sb.append("나의일별매출(일=금액, 없는 날 0): ");
+                boolean first = true;
+                for (DailyIncomeDTO day : days) {
+                    if (nonNull(day.getTotalIncome()).signum() == 0) continue;
+                    if (!first) sb.append(", ");
+                    sb.append(day.getDate().getDayOfMonth()).append('=').append(won(day.getTotalIncome()));
+                    first = false;
+                }
+            }
+            case WEEKLY -> {
+                TreeMap<Integer, BigDecimal> weeks = new TreeMap<>();
+                for (DailyIncomeDTO day : days) {
+                    weeks.merge((day.getDate().getDayOfMonth() - 1) / 7 + 1, nonNull(day.getTotalIncome()), BigDecimal::add);
+                }
+                sb.append("나의주별매출: ");
+                weeks.forEach((week, amount) -> sb.append(week).append("주=").append(won(amount)).append(", "));
+                sb.setLength(sb.length() - 2);
+            }
+            case SUMMARY -> {
+                DailyIncomeDTO max = days.get(0);
+                DailyIncomeDTO min = days.get(0);
+                BigDecimal total = BigDecimal.ZERO;
+                int openDays = 0;
+                for (DailyIncomeDTO day : days) {
+                    BigDecimal amount = nonNull(day.getTotalIncome());
+                    total = total.add(amount);
+                    if (amount.signum() > 0) openDays++;
+                    if (amount.compareTo(nonNull(max.getTotalIncome())) > 0) max = day;
+                    if (amount.compareTo(nonNull(min.getTotalIncome())) < 0) min = day;
+                }
+                sb.append("나의일매출: 평균=").append(won(openDays == 0 ? BigDecimal.ZERO
+                                : total.divide(BigDecimal.valueOf(openDays), 0, RoundingMode.HALF_UP)))
+                        .append(", 최고=").append(won(max.getTotalIncome())).append('(').append(max.getDate().getDayOfMonth()).append("일)")
+                        .append(", 최저=").append(won(min.getTotalIncome())).append('(').append(min.getDate().getDayOfMonth()).append("일)")
+                        .append(", 영업일=").append(openDays);
+            }
+        }
+        return sb.append('\n').toString();
+    }
+
+    private static String won(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.setScale(0, RoundingMode.HALF_UP).toPlainString();
+        }
+        if (value instanceof Number number) {
+            return BigDecimal.valueOf(number.doubleValue()).setScale(0, RoundingMode.HALF_UP).toPlainString();
+        }
+        return "0";
+    }
+
+    private static BigDecimal nonNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
@@ -7,27 +7,33 @@ import com.example.backend.model.BUSINESS.*;
 import com.example.backend.service.BANK.AccountService;
 import com.example.backend.service.POS.PosService;
 import com.example.backend.service.RedisService;
+import com.example.backend.service.cache.SingleFlight;
+import com.example.backend.service.llm.LlmClient;
+import com.example.backend.service.llm.PartialJsonFieldParser;
+import com.example.backend.util.money.Money;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 
@@ -41,36 +47,28 @@ public class ReportService {
     private final JPAQueryFactory queryFactory;
     private final RedisService redisService;
     private final BusinessService businessService;
+    private final TransactionTemplate transactionTemplate;
+    private final MarketReportService marketReportService;
+    private final LlmClient llmClient;
+    private final SingleFlight singleFlight;
+    private final ReportCatalog reportCatalog;
+    private final ReportPromptBuilder reportPromptBuilder;
+
+    private static final byte[] ALL_REPORTS_PREFIX = "{\"reports\":{\"MARKET_REPORT\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALL_REPORTS_MIDDLE = ",\"INDUSTRY_REPORT\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALL_REPORTS_SUFFIX = "}}".getBytes(StandardCharsets.UTF_8);
+    // 동종 업계 비교 보고서에서 LLM 이 작성하는 필드 (금액 필드는 서버에서 계산)
+    private static final List<String> INDUSTRY_NARRATIVE_FIELDS = List.of("sale_description", "expense_description", "recommendation");
 
     @PersistenceContext
     private EntityManager em;
 
-    @Value("${OPENAI_API_KEY}")
-    private String openAiApiKey;
-
-    private WebClient webClient;
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1";
-
-    // 생성자에서 WebClient를 초기화합니다.
-    @PostConstruct
-    public void init() {
-        log.info("API 키 확인: {}", openAiApiKey);
-
-        if (openAiApiKey == null || openAiApiKey.isEmpty()) {
-            log.error("API 키가 설정되지 않았습니다.");
-            throw new IllegalStateException("API 키가 설정되지 않았습니다.");
-        }
-
-        this.webClient = WebClient.builder()
-                .baseUrl(OPENAI_API_URL)
-                .defaultHeader("Authorization", "Bearer " + openAiApiKey.trim())
-                .defaultHeader("Content-Type", "application/json")
-                .build();
-    }
-
-    @Transactional
+    // LLM 호출 동안 트랜잭션(DB 커넥션)을 잡지 않도록 저장만 별도 트랜잭션으로 처리
     public String getOrCreateReport(Long memberId, YearMonth month, String reportType) {
-
+        // 시장 동향 보고서는 사업자와 무관하게 월 단위로 공유
+        if ("MARKET_REPORT".equals(reportType)) {
+            return marketReportService.getOrCreate(month);
+        }
 
         BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
 
@@ -79,46 +77,162 @@ public class ReportService {
         }
 
         LocalDate reportMonth = month.atDay(1);
+        Long businessId = businessRegistration.getBusinessRegistrationId();
 
-        // 1. 리포트 조회
-        Report existingReport = queryFactory.selectFrom(QReport.report)
-                .where(
-                        QReport.report.businessRegistration.businessRegistrationId.eq(businessRegistration.getBusinessRegistrationId()),
-                        QReport.report.reportMonth.eq(reportMonth),
-                        QReport.report.reportType.eq(reportType)
-                )
-                .fetchOne();
-
-        // 2. 존재하면 JSON 반환
-        if (existingReport != null) {
-            return existingReport.getContent();
-        }
+        // 같은 리포트를 동시에 요청하면(더블 클릭, 여러 탭, 여러 인스턴스) 생성은 한 번만 하고 결과를 공유
+        return singleFlight.execute("report:" + businessId + ":" + reportMonth + ":" + reportType,
+                () -> Optional.ofNullable(findReport(businessId, reportMonth, reportType)).map(Report::getContent),
+                () -> createReport(businessRegistration, memberId, month, reportType));
+    }
 
-        // 3. 리포트가 없으면 GPT API 호출 및 저장
+    private String createReport(BusinessRegistration businessRegistration, Long memberId, YearMonth month, String reportType) {
+        // GPT API 호출 및 저장
         Map<String, Object> reportData = generateReportFromAPI(memberId, month, reportType);
+        return storeReport(businessRegistration, month.atDay(1), reportType, reportData);
+    }
 
+    private String storeReport(BusinessRegistration businessRegistration, LocalDate reportMonth, String reportType, Map<String, Object> reportData) {
         // API 호출이 성공적인지 검증
         if (reportData.containsKey("error")) {
             log.error("API 호출 오류로 리포트를 생성하지 못했습니다.{}", reportData.get("error"));
             throw new RuntimeException("리포트 생성 실패: " + reportData.get("error"));
         }
 
-        saveReport(businessRegistration, reportMonth, reportType, reportData);
-
-
+        // 한 번만 직렬화해서 저장과 반환에 같은 문자열 사용
+        String content;
         try {
-            String generatedContent = objectMapper.writeValueAsString(reportData); // JSON 직렬화
-            log.info("생성된 리포트 반환: {}", generatedContent);
-            return generatedContent;
+            content = objectMapper.writeValueAsString(reportData);
         } catch (JsonProcessingException e) {
             log.error("JSON 직렬화 오류: {}", e.getMessage());
             throw new RuntimeException("JSON 직렬화 중 오류 발생", e);
         }
 
+        Long businessId = businessRegistration.getBusinessRegistrationId();
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveReport(businessRegistration, reportMonth, reportType, content));
+        } catch (DataIntegrityViolationException | ConstraintViolationException e) {
+            // unique 제약 위반: 다른 요청이 먼저 저장한 리포트 반환 (그 외 오류는 그대로 전파)
+            // em.persist 는 IDENTITY 라 바로 INSERT -> 번역되지 않은 Hibernate 예외로 올라올 수 있음
+            Report saved = findReport(businessId, reportMonth, reportType);
+            if (saved == null) {
+                throw e;
+            }
+            log.info("이미 저장된 리포트 사용 - businessId: {}, month: {}, type: {}", businessId, reportMonth, reportType);
+            reportCatalog.markAvailable(businessId, YearMonth.from(reportMonth), reportType);
+            return saved.getContent();
+        }
+        // 커밋 후 카탈로그 반영
+        reportCatalog.markAvailable(businessId, YearMonth.from(reportMonth), reportType);
 
+        log.info("생성된 리포트 반환: {}", content);
+        return content;
+    }
+
+    // 동종 업계 비교 보고서 스트리밍 생성: 필드 값이 도착하는 대로 onField 로 전달하고, 완료되면 저장
+    // 이미 저장된 보고서(또는 다른 요청이 생성 중인 보고서)는 조각 없이 전체 결과만 반환
+    public Map<String, Object> streamIndustryComparisonReport(Long memberId, YearMonth month, Consumer<PartialJsonFieldParser.FieldDelta> onField) {
+        BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
+
+        if (businessRegistration == null) {
+            throw new IllegalArgumentException("Member ID: " + memberId + "에 대한 BusinessRegistration이 존재하지 않습니다.");
+        }
+
+        LocalDate reportMonth = month.atDay(1);
+        Long businessId = businessRegistration.getBusinessRegistrationId();
+
+        String content = singleFlight.execute("report:" + businessId + ":" + reportMonth + ":INDUSTRY_REPORT",
+                () -> Optional.ofNullable(findReport(businessId, reportMonth, "INDUSTRY_REPORT")).map(Report::getContent),
+                () -> {
+                    IndustryComparisonInputs inputs = loadIndustryComparisonInputs(memberId, month);
+
+                    // 금액 필드는 LLM 호출 전에 바로 전달
+                    Map<String, String> amounts = industryComparisonAmounts(inputs);
+                    amounts.forEach((field, text) -> onField.accept(new PartialJsonFieldParser.FieldDelta(field, text, true)));
+
+                    PartialJsonFieldParser parser = new PartialJsonFieldParser();
+                    Map<String, Object> narrative = llmClient.streamFunction(buildIndustryComparisonRequest(inputs),
+                            delta -> parser.feed(delta).forEach(onField));
+                    return storeReport(businessRegistration, reportMonth, "INDUSTRY_REPORT",
+                            assembleIndustryComparisonReport(amounts, narrative));
+                });
+        return parseJson(content);
+    }
+
+    // 이미 생성된 리포트만 조회 (둘 다 있을 때만 반환, 없으면 empty -> 생성 작업 요청)
+    public Optional<Map<String, Map<String, Object>>> findAllReports(Long memberId, YearMonth month) {
+        BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
+        LocalDate reportMonth = month.atDay(1);
+
+        Optional<String> marketReport = findMarketReport(businessRegistration.getBusinessRegistrationId(), month);
+        Report industryReport = findReport(businessRegistration.getBusinessRegistrationId(), reportMonth, "INDUSTRY_REPORT");
+        if (marketReport.isEmpty() || industryReport == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Map<String, Object>> reports = new HashMap<>();
+        reports.put("MARKET_REPORT", parseJson(marketReport.get()));
+        reports.put("INDUSTRY_REPORT", parseJson(industryReport.getContent()));
+        return Optional.of(reports);
+    }
+
+    // 저장된 JSON 을 파싱하지 않고 그대로 이어 붙인 응답 본문 ({"reports":{"MARKET_REPORT":...,"INDUSTRY_REPORT":...}})
+    public Optional<byte[]> findAllReportsJson(Long memberId, YearMonth month) {
+        BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
+
+        Optional<String> marketReport = findMarketReport(businessRegistration.getBusinessRegistrationId(), month);
+        Report industryReport = findReport(businessRegistration.getBusinessRegistrationId(), month.atDay(1), "INDUSTRY_REPORT");
+        if (marketReport.isEmpty() || industryReport == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(concat(
+                ALL_REPORTS_PREFIX,
+                marketReport.get().getBytes(StandardCharsets.UTF_8),
+                ALL_REPORTS_MIDDLE,
+                industryReport.getContent().getBytes(StandardCharsets.UTF_8),
+                ALL_REPORTS_SUFFIX));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    // 사업자의 해당 월 리포트 저장 여부 (Redis 비트맵 카탈로그, content 를 읽지 않음)
+    public boolean hasReport(Long businessRegistrationId, YearMonth month, String reportType) {
+        return reportCatalog.isAvailable(businessRegistrationId, month, reportType);
+    }
+
+    // 월 단위 공유 보고서 우선, 이전에 사업자별로 저장된 보고서가 있으면 그것도 사용
+    private Optional<String> findMarketReport(Long businessRegistrationId, YearMonth month) {
+        Optional<String> shared = marketReportService.find(month);
+        if (shared.isPresent()) {
+            return shared;
+        }
+        return Optional.ofNullable(findReport(businessRegistrationId, month.atDay(1), "MARKET_REPORT")).map(Report::getContent);
+    }
+
+    // 같은 키의 행이 여러 개 남아 있어도(제약 추가 전 데이터) 예외 없이 최신 행 사용
+    private Report findReport(Long businessRegistrationId, LocalDate reportMonth, String reportType) {
+        return queryFactory.selectFrom(QReport.report)
+                .where(
+                        QReport.report.businessRegistration.businessRegistrationId.eq(businessRegistrationId),
+                        QReport.report.reportMonth.eq(reportMonth),
+                        QReport.report.reportType.eq(reportType)
+                )
+                .orderBy(QReport.report.reportId.desc())
+                .fetchFirst();
     }
 
-    @Transactional
     public Map<String, Map<String, Object>> getAllReports(Long memberId, YearMonth month) {
         Map<String, Map<String, Object>> reports = new HashMap<>();
 
@@ -154,182 +268,21 @@ public class ReportService {
         }
     }
 
-    public String getMarketIssueByMonth(YearMonth month) {
-        QPrompt prompt = QPrompt.prompt;
-
-        // "시장 이슈" 데이터 가져오기
-        String marketIssues = queryFactory
-                .select(prompt.contents)
-                .from(prompt)
-                .where(
-                        prompt.month.eq(month),
-                        prompt.type.eq("issue")
-                )
-                .fetchOne();
-
-        return marketIssues != null ? marketIssues : "";
-    }
-
-    public String getTrendByMonth(YearMonth month) {
-        QPrompt prompt = QPrompt.prompt;
-
-        // "트렌드" 데이터 가져오기
-        String trends = queryFactory
-                .select(prompt.contents)
-                .from(prompt)
-                .where(
-                        prompt.month.eq(month),
-                        prompt.type.eq("trend")
-                )
-                .fetchOne();
-
-        // "트렌드" 결과 합치기
-        return trends != null ? trends : "";
-    }
-
-
     @Transactional
-    public void saveReport(BusinessRegistration businessRegistration, LocalDate reportMonth, String reportType, Map<String, Object> reportData) {
-        try {
-            String content = objectMapper.writeValueAsString(reportData);
-
-
-            Report newReport = new Report();
-            newReport.setBusinessRegistration(businessRegistration);
-            newReport.setReportMonth(reportMonth);
-            newReport.setReportType(reportType);
-            newReport.setContent(content);
-
-            em.persist(newReport);
-//        em.flush();
-        } catch (Exception e) {
-            throw new RuntimeException("JSON 오류", e);
-        }
+    public void saveReport(BusinessRegistration businessRegistration, LocalDate reportMonth, String reportType, String content) {
+        Report newReport = new Report();
+        newReport.setBusinessRegistration(businessRegistration);
+        newReport.setReportMonth(reportMonth);
+        newReport.setReportType(reportType);
+        newReport.setContent(content);
+
+        em.persist(newReport);
     }
 
-    //////////////////// 1. 경제 지표 활용 시장 동향 보고서 생성
+    //////////////////// 1. 경제 지표 활용 시장 동향 보고서 (월 단위로 한 번만 생성, MarketReportService)
     private final ObjectMapper objectMapper;
-    @Transactional
     public Map<String, Object> generateMarketReport(YearMonth month) {
-        Map<Integer, String> bsiData = Map.of(
-                9, "9월 소상공인 전망 BSI 지수: 75.9 / 전월대비 +20.1p",
-                10, "10월 소상공인 전망 BSI 지수: 85.9 / 전월대비 +10.0p",
-                11, "11월 소상공인 전망 BSI 지수: 75.6 / 전월대비 -10.3p"
-        );
-
-        Map<Integer, String> cpiData = Map.of(
-                9, "9월 CPI 지수: 114.65 / 전월비 0.1% 상승 / 전년동월비 1.6% 상승",
-                10, "10월 CPI 지수: 114.69 / 전월비 0.1% 상승 / 전년동월비 1.3% 상승",
-                11, "11월 CPI 지수: 114.40 / 전월비 -0.3% 하락 / 전년동월비 1.5% 상승"
-        );
-
-        Map<Integer, String> bsiIndexData = Map.of(
-                9, "75.9",
-                10, "85.9",
-                11, "75.6"
-        );
-
-        Map<Integer, String> cpiIndexData = Map.of(
-                9, "114.65",
-                10, "114.69",
-                11, "114.40"
-        );
-
-        int currentMonth = month.getMonthValue();
-
-        String bsiDescription = bsiData.getOrDefault(currentMonth, "해당 월의 BSI 데이터가 없습니다.");
-        String cpiDescription = cpiData.getOrDefault(currentMonth, "해당 월의 CPI 데이터가 없습니다.");
-        String bsiIndex = bsiIndexData.getOrDefault(currentMonth, "데이터 없음");
-        String cpiIndex = cpiIndexData.getOrDefault(currentMonth, "데이터 없음");
-
-        String market = getMarketIssueByMonth(month);
-        String trend = getTrendByMonth(month);
-
-//        // 기본값을 추가하여 값이 없을 경우 대체 문구 제공
-//        market = (market == null || market.isBlank()) ? "시장 이슈 데이터가 없습니다. 최신 이슈를 업데이트하세요." : market;
-//        trend = (trend == null || trend.isBlank()) ? "트렌드 데이터가 없습니다. 최신 트렌드를 업데이트하세요." : trend;
-
-        String content = String.format("""
-            다음 데이터는 현재 월 기준으로 제공된 시장 동향 데이터입니다.
-            - BSI 지수: %s
-            - BSI 설명: %s
-            - CPI 지수: %s
-            - CPI 설명: %s
-            - 시장 이슈: %s
-            - 트렌드: %s
-            """,
-                bsiIndex, bsiDescription, cpiIndex, cpiDescription, market, trend
-        );
-
-        Map<String, Object> requestBody = Map.of(
-                "model", "gpt-4o",
-                "messages", List.of(
-                        Map.of("role", "system", "content",
-                                "당신은 카페를 운영하는 사장님을 위한 시장 동향 보고서를 작성하는 AI입니다. " +
-                                        "다음 데이터는 카페 운영 관련 시장 동향 정보입니다: ", +currentMonth, content +
-                                        "이를 바탕으로 분석 결과와 권장 사항을 JSON 형식으로 제공해주세요. " +
-                                        "답변은 친근한 아나운서처럼 작성해주세요. 귀하 보다는 사장님 표현을 써주세요. -하는게 좋을 것 같아요. - 했어요. -해요. -하는게 어떨까요? 등의 표현을 써주세요."
-                        ),
-                        Map.of("role", "user", "content",
-                                """
-                                다음 정보를 JSON 형식으로 정리하세요:
-                                1. **month**: 해당 월
-                                2. **BSI_index**: BSI 지수
-                                3. **BSI_description**: BSI 지수에 대한 설명
-                                4. **CPI_index**: CPI 지수
-                                5. **CPI_description**: CPI 지수에 대한 설명
-                                6. **market_issue**: 시장 이슈에 대한 설명
-                                7. **trend**: 트렌드에 대한 설명
-                                8. **recommendation**: 위 데이터를 기반으로 종합적으로 고려한 권장 사항
-                                """
-                        )
-                ),
-                "functions", List.of(
-                        Map.of(
-                                "name", "generateMarketReport",
-                                "description", "BSI와 CPI 데이터를 기반으로 시장 동향 및 권장 사항을 제공합니다.",
-                                "parameters", Map.of(
-                                        "type", "object",
-                                        "properties", Map.of(
-                                                "month", Map.of("type", "integer", "description", "2024년 해당 월"),
-                                                "BSI_index", Map.of("type", "string", "description", "오늘 기준 BSI 지수"),
-                                                "BSI_description", Map.of("type", "string", "description", "오늘 기준 BSI 지수에 대한 자세한 설명"),
-                                                "CPI_index", Map.of("type", "string", "description", "오늘 기준 소비자물가지수 (CPI)"),
-                                                "CPI_description", Map.of("type", "string", "description", "오늘 기준 소비자물가지수 (CPI)에 대한 자세한 설명"),
-                                                "market_issue", Map.of("type", "string", "description", "시장 이슈에 대한 설명"),
-                                                "trend", Map.of("type", "string", "description", "트렌드에 대한 설명"),
-                                                "recommendation", Map.of("type", "string", "description", "위 정보를 종합적으로 고려한 권장 사항")
-                                        ),
-                                        "required", List.of("month", "BSI_index", "BSI_description", "CPI_index", "CPI_description", "market_issue", "trend", "recommendation")
-                                )
-                        )
-                ),
-                "function_call", Map.of("name", "generateMarketReport")
-        );
-
-        try {
-            String response = webClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode argumentsNode = rootNode.path("choices").get(0).path("message").path("function_call").path("arguments");
-
-            String argumentsJson = argumentsNode.asText();
-            JsonNode parsedArguments = objectMapper.readTree(argumentsJson);
-
-            return objectMapper.convertValue(parsedArguments, Map.class);
-
-        } catch (WebClientResponseException e) {
-            System.err.println("API 호출 오류: " + e.getResponseBodyAsString());
-            return Map.of("error", "API 호출 오류 발생");
-        } catch (Exception e) {
-            System.err.println("예상치 못한 오류 발생: " + e.getMessage());
-            return Map.of("error", "예상치 못한 오류 발생");
-        }
+        return parseJson(marketReportService.getOrCreate(month));
     }
 
 
@@ -449,24 +402,60 @@ public class ReportService {
     /////////////////////// 2. &#xB3D9;&#xC885; &#xC5C5;&#xACC4; &#xBE44;&#xAD50; &#xBD84;&#xC11D; &#xBCF4;&#xACE0;&#xC11C; &#xC0DD;&#xC131; (&#xC9C0;&#xC5ED; &#xAE30;&#xBC18;)
     ///
     public Map<String, Object> generateIndustryComparisonReport(Long memberId, YearMonth month) {
+        try {
+            // 입력 조회 실패도 {"error": ...} 로 반환 (storeReport 에서 저장하지 않고 실패 처리)
+            IndustryComparisonInputs inputs = loadIndustryComparisonInputs(memberId, month);
+            Map<String, Object> narrative = llmClient.callFunction(buildIndustryComparisonRequest(inputs));
+            return assembleIndustryComparisonReport(industryComparisonAmounts(inputs), narrative);
+        } catch (Exception e) {
+            log.error("동종 업계 비교 분석 보고서 생성 오류: {}", e.getMessage());
+            return Map.of("error", e.getMessage());
+        }
+    }
 
-        Map<String, Object> monthlyIncome = posService.calculateAverageMonthlyMetrics(month);
-        Map<String, Object> monthlyExpenseAverage = accountService.getMonthlyExpenseAverage(month);
-        MonthlyIncomeDTO myIncome = posService.getMonthlyIncomeSummary(memberId, month);
-        ExpenseDTO myExpense = accountService.showSimpleExpense(memberId, month);
-
-        String content = String.format("""
-                다음 데이터는 평균 카페 운영 관련 지출 및 매출 데이터입니다.
-                - 평균 매출 정보: %s
-                - 평균 지출 정보: %s
-                
-                다음 데이터는 나의 카페 운영 관련 지출 및 매출 데이터입니다.
-                - 평균 나의 매출 정보: %s
-                - 평균 나의 지출 정보: %s
-                """, monthlyIncome, monthlyExpenseAverage, myIncome, myExpense
-        );
+    private record IndustryComparisonInputs(Map<String, Object> averageIncome, Map<String, Object> averageExpense,
+                                            MonthlyIncomeDTO myIncome, ExpenseDTO myExpense) {}
+
+    private IndustryComparisonInputs loadIndustryComparisonInputs(Long memberId, YearMonth month) {
+        return new IndustryComparisonInputs(
+                posService.calculateAverageMonthlyMetrics(month),
+                accountService.getMonthlyExpenseAverage(month),
+                posService.getMonthlyIncomeSummary(memberId, month),
+                accountService.showSimpleExpense(memberId, month));
+    }
+
+    // 금액 필드는 서버에 있는 값으로 직접 계산 ("약 N만원", 만원 단위 반올림)
+    private Map<String, String> industryComparisonAmounts(IndustryComparisonInputs inputs) {
+        Map<String, String> amounts = new LinkedHashMap<>();
+        amounts.put("average_sale", Money.toApproxManwon(toWon(inputs.averageIncome().get("averageMonthlyIncome"))));
+        amounts.put("average_expense", Money.toApproxManwon(toWon(inputs.averageExpense().get("averageExpense"))));
+        amounts.put("my_income", Money.toApproxManwon(inputs.myIncome() == null ? 0L : Money.toWon(inputs.myIncome().getMonthlyTotalncome())));
+        amounts.put("my_expense", Money.toApproxManwon(inputs.myExpense() == null ? 0L : Money.toWon(inputs.myExpense().getTotalMonthExpenses())));
+        return amounts;
+    }
+
+    private static long toWon(Object amount) {
+        if (amount instanceof BigDecimal decimal) {
+            return Money.toWon(decimal);
+        }
+        return amount instanceof Number number ? Math.round(number.doubleValue()) : 0L;
+    }
 
-        Map<String, Object> requestBody = Map.of(
+    // 금액 필드 + LLM 이 작성한 서술 필드 (sale_description, expense_description, recommendation)
+    private Map<String, Object> assembleIndustryComparisonReport(Map<String, String> amounts, Map<String, Object> narrative) {
+        Map<String, Object> report = new LinkedHashMap<>(amounts);
+        for (String field : INDUSTRY_NARRATIVE_FIELDS) {
+            report.put(field, narrative.getOrDefault(field, ""));
+        }
+        return report;
+    }
+
+    private Map<String, Object> buildIndustryComparisonRequest(IndustryComparisonInputs inputs) {
+        // 필요한 지표만 고정 스키마로 직렬화 (토큰 예산 초과 시 일별 매출 / 카테고리 요약)
+        String content = "\n" + reportPromptBuilder.industryComparisonData(
+                inputs.averageIncome(), inputs.averageExpense(), inputs.myIncome(), inputs.myExpense());
+
+        return Map.of(
                 "model", "gpt-4o",
                 "messages", List.of(
                         Map.of("role", "system", "content",
@@ -477,19 +466,12 @@ public class ReportService {
                         ),
                         Map.of("role", "user", "content",
                                 """
-                                다음 정보를 JSON 형식으로 정리하세요. 금액은 "약 ~ 만원" 형식으로 입력하며, 
-                                입력된 금액이 소수점을 포함하거나 정수 형태인 경우 모두 1만 원 단위로 반올림하여 표현합니다.
-                                   - 예: 5145000.00 → "약 515만원"
-                                   - 예: 11814000 → "약 1181만원"
-                                 :
-                    
-                                1. **average_sale**: "약 ~ 만원" 형식으로 된 주변 동종 업계 매출 평균을 입력합니다. (예: "약 1181만원")
-                                2. **average_expense**: "약 ~ 만원" 형식으로 된 주변 동종 업계 지출 평균을 입력합니다. (예: "약 821만원")
-                                3. **my_income**: "약 ~ 만원" 형식으로 된 나의 매출을 입력합니다. (예: "약 281만원")
-                                4. **my_expense**: "약 ~ 만원" 형식으로 된 나의 지출을 입력합니다. (예: "약 181만원")
-                                5. **sale_description**: 주변 업계와 비교한 매출 분석 결과를 서술합니다.
-                                6. **expense_description**: 주변 업계와 비교한 지출 분석 결과를 서술합니다.
-                                7. **recommendation**: 매출 및 지출 데이터를 종합적으로 고려한 운영 전략 및 효율화 방안에 대한 권장 사항을 제공합니다.
+                                다음 정보를 JSON 형식으로 정리하세요. 금액을 언급할 때는 "약 ~ 만원" 형식(1만 원 단위 반올림)으로 표현합니다.
+                                   - 예: 5145000 → "약 515만원"
+
+                                1. **sale_description**: 주변 업계와 비교한 매출 분석 결과를 서술합니다.
+                                2. **expense_description**: 주변 업계와 비교한 지출 분석 결과를 서술합니다.
+                                3. **recommendation**: 매출 및 지출 데이터를 종합적으로 고려한 운영 전략 및 효율화 방안에 대한 권장 사항을 제공합니다.
                                 """
                         )
                 ),
@@ -500,49 +482,16 @@ public class ReportService {
                                 "parameters", Map.of(
                                         "type", "object",
                                         "properties", Map.of(
-                                                "average_sale", Map.of("type", "string", "description", "약 ~ 만원 형식으로 된 매출 평균"),
-                                                "average_expense", Map.of("type", "string", "description", "약 ~ 만원 형식으로 된 지출 평균"),
-                                                "my_income", Map.of("type", "string", "description", "약 ~ 만원 형식으로 된 나의 매출"),
-                                                "my_expense", Map.of("type", "string", "description", "약 ~ 만원 형식으로 된 나의 지출"),
                                                 "sale_description", Map.of("type", "string", "description", "주변 카페와 비교한 매출 분석 결과"),
                                                 "expense_description", Map.of("type", "string", "description", "주변 카페와 비교한 지출 분석 결과"),
                                                 "recommendation", Map.of("type", "string", "description", "매출 및 지출 데이터를 종합적으로 고려한 권장 사항")
                                         ),
-                                        "required", List.of("average_sale", "average_expense", "my_income", "my_expense", "sale_description", "expense_description", "recommendation")
+                                        "required", INDUSTRY_NARRATIVE_FIELDS
                                 )
                         )
                 ),
                 "function_call", Map.of("name", "generateIndustryComparisonReport")
         );
-
-        try {
-            String response = webClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            // JSON 응답 파싱
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode argumentsNode = rootNode.path("choices").get(0).path("message").path("function_call").path("arguments");
-
-            // argumentsNode가 문자열이므로 다시 JSON으로 파싱
-            String argumentsJson = argumentsNode.asText();
-            JsonNode parsedArguments = objectMapper.readTree(argumentsJson);
-
-            // JsonNode를 Map으로 변환
-            Map<String, Object> industryReport = objectMapper.convertValue(parsedArguments, Map.class);
-
-            return industryReport;
-
-        } catch (WebClientResponseException e) {
-            System.err.println("API 호출 오류: " + e.getResponseBodyAsString());
-            return Map.of("error", "API 호출 오류 발생");
-        } catch (Exception e) {
-            System.err.println("예상치 못한 오류 발생: " + e.getMessage());
-            return Map.of("error", "예상치 못한 오류 발생");
-        }
     }
 
 //    public Map<String,Object> generateIndustryComparisonReport(Long memberId, YearMonth month) {
@@ -651,12 +600,10 @@ public class ReportService {
 //        }
 //    }
 
-    @Transactional
     public boolean previousMonthReportChecker(Long memberId) {
         // 현재 날짜 기준 전 달 계산
         YearMonth currentMonth = YearMonth.now();
         YearMonth previousMonth = currentMonth.minusMonths(1);
-        LocalDate previousReportMonth = previousMonth.atDay(1); // 전 달의 첫 번째 날
 
         // BusinessRegistration 조회
         BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
@@ -666,21 +613,10 @@ public class ReportService {
             throw new IllegalArgumentException("회원 ID: " + memberId + "에 해당하는 사업자 등록 정보가 존재하지 않습니다.");
         }
 
-        // 리포트 타입 리스트 (MARKET_REPORT와 INDUSTRY_REPORT)
-        List<String> reportTypes = List.of("MARKET_REPORT", "INDUSTRY_REPORT");
-
-        // 각 리포트 타입에 대해 존재 여부 확인
-        boolean allReportsExist = reportTypes.stream().allMatch(reportType ->
-                queryFactory.selectFrom(QReport.report)
-                        .where(
-                                QReport.report.businessRegistration.businessRegistrationId.eq(businessRegistration.getBusinessRegistrationId()),
-                                QReport.report.reportMonth.eq(previousReportMonth),
-                                QReport.report.reportType.eq(reportType)
-                        )
-                        .fetchOne() != null
-        );
-
-        return allReportsExist;
+        // MARKET_REPORT(월 단위 공유)와 INDUSTRY_REPORT(사업자별) 존재 여부 확인 (페이지 로드마다 호출 -> 카탈로그 비트만 조회)
+        Long businessId = businessRegistration.getBusinessRegistrationId();
+        return hasReport(businessId, previousMonth, "MARKET_REPORT")
+                && hasReport(businessId, previousMonth, "INDUSTRY_REPORT");
     }
 
 
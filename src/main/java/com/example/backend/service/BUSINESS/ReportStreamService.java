@@ -0,0 +1,79 @@
+package com.example.backend.service.BUSINESS;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//////////// 리포트 스트리밍 (Server-Sent Events)
+/// 1. LLM 스트리밍 응답의 필드 조각을 도착하는 대로 "field" 이벤트로 전달 -> 첫 글자까지의 대기 시간만 체감
+/// 2. 완료되면 리포트를 저장하고 전체 결과를 "done" 이벤트로 전달, 실패 시 "error" 이벤트
+/// 3. 생성은 스트리밍 전용 reportStreamExecutor 에서 실행 (요청 스레드는 바로 반환)
+///    연결마다 스레드를 오래 잡으므로 리포트 작업 큐와 분리, 동시 연결 수(report.stream.max-concurrent)를 넘으면 "error" 후 종료
+@Service
+@Slf4j
+public class ReportStreamService {
+
+    private final ReportService reportService;
+    private final TaskExecutor reportStreamExecutor;
+
+    @Value("${report.stream.timeout-seconds:120}")
+    private long timeoutSeconds;
+
+    public ReportStreamService(ReportService reportService,
+                               @Qualifier("reportStreamExecutor") TaskExecutor reportStreamExecutor) {
+        this.reportService = reportService;
+        this.reportStreamExecutor = reportStreamExecutor;
+    }
+
+    public SseEmitter streamIndustryComparison(Long memberId, YearMonth month) {
+        SseEmitter emitter = new SseEmitter(Duration.ofSeconds(timeoutSeconds).toMillis());
+        // 연결이 끊겨도 생성은 끝까지 진행해 저장 -> 다시 요청하면 저장된 리포트를 받음
+        AtomicBoolean connected = new AtomicBoolean(true);
+        emitter.onCompletion(() -> connected.set(false));
+        emitter.onTimeout(() -> connected.set(false));
+        emitter.onError(e -> connected.set(false));
+
+        try {
+            reportStreamExecutor.execute(() -> {
+                try {
+                    Map<String, Object> report = reportService.streamIndustryComparisonReport(memberId, month,
+                            delta -> send(emitter, connected, "field", delta));
+                    send(emitter, connected, "done", report);
+                } catch (Exception e) {
+                    log.error("리포트 스트리밍 실패 - memberId: {}, month: {}", memberId, month, e);
+                    send(emitter, connected, "error", Map.of("error", "보고서 생성 중 오류 발생"));
+                }
+                if (connected.get()) {
+                    emitter.complete();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("리포트 스트리밍 동시 연결 수 초과 - memberId: {}, month: {}", memberId, month);
+            send(emitter, connected, "error", Map.of("error", "요청이 많아 지금은 스트리밍할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean connected, String name, Object data) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            connected.set(false);
+            log.info("리포트 스트리밍 연결 종료: {}", e.getMessage());
+        }
+    }
+}
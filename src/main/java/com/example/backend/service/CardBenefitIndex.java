@@ -0,0 +1,179 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.card.CardDTO;
+import com.example.backend.util.text.AhoCorasick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//////////// 카드 혜택 역색인 (카드 목록 로드 시 한 번 생성)
+/// 1. 혜택 문구마다 할인율((\d+)%)과 온라인 여부를 미리 파싱
+/// 2. 지출 카테고리 키워드 전체로 Aho-Corasick 오토마톤을 만들어 혜택 문구를 한 번씩만 훑음
+/// 3. 카테고리 -> 카드별 적용 할인율(오프라인 결제 / 온라인 결제) + 매칭된 혜택 목록
+///    -> 추천 시 지출 카테고리당 조회 한 번, 문자열 검색 없음
+/// 4. 카드 랭킹도 정수로 미리 변환 (순위 비교 시 파싱하지 않음)
+public final class CardBenefitIndex {
+
+    private static final Pattern DISCOUNT_RATE = Pattern.compile("(\\d+)%");
+    private static final String ONLINE = "온라인";
+    private static final String MATERIAL = "재료비";
+
+    // 지출 카테고리 -> 혜택에서 찾을 키워드 (없으면 카테고리명 그대로)
+    private static final Map<String, List<String>> CATEGORY_KEYWORDS = Map.of(
+            MATERIAL, List.of("재료비", "쇼핑", "재료", "마트")
+    );
+
+    // 미리 색인해 두는 지출 카테고리 (AccountHistory 카테고리)
+    private static final List<String> KNOWN_CATEGORIES = List.of(
+            "재료비", "인건비", "물류비", "임대료", "통신비", "유지보수비", "공과금");
+
+    public static final CardBenefitIndex EMPTY = new CardBenefitIndex(List.of());
+
+    // 카드별 적용 할인율 (-1: 적용되는 혜택 없음), matchedBenefits 는 카테고리 키워드가 포함된 혜택 (적용 여부와 무관)
+    public record CategoryMatch(int[] offlineRate, int[] onlineRate, List<List<String>> matchedBenefits) {
+
+        // 지출 결제 방식에 따른 할인율, 매칭된 혜택이 없거나 적용되는 혜택이 없으면 -1
+        public int rate(int cardIndex, boolean onlineExpense) {
+            return onlineExpense ? onlineRate[cardIndex] : offlineRate[cardIndex];
+        }
+    }
+
+    private record ParsedBenefit(String text, int rate, boolean online, BitSet keywords) {}
+
+    private final List<CardDTO> cards;
+    private final List<List<ParsedBenefit>> benefits;
+    private final int[] rankings;
+    private final AhoCorasick matcher;
+    private final Map<String, Integer> keywordIndex = new HashMap<>();
+    private final Map<String, CategoryMatch> byCategory = new ConcurrentHashMap<>();
+
+    public CardBenefitIndex(List<CardDTO> cards) {
+        this.cards = List.copyOf(cards);
+
+        List<String> vocabulary = new ArrayList<>();
+        for (String category : KNOWN_CATEGORIES) {
+            for (String keyword : keywords(category)) {
+                if (!keywordIndex.containsKey(keyword)) {
+                    keywordIndex.put(keyword, vocabulary.size());
+                    vocabulary.add(keyword);
+                }
+            }
+        }
+        this.matcher = new AhoCorasick(vocabulary);
+
+        List<List<ParsedBenefit>> parsed = new ArrayList<>(this.cards.size());
+        for (CardDTO card : this.cards) {
+            List<ParsedBenefit> cardBenefits = new ArrayList<>();
+            for (String benefit : card.getBenefits()) {
+                cardBenefits.add(new ParsedBenefit(benefit, discountRate(benefit), benefit.contains(ONLINE), matcher.match(benefit)));
+            }
+            parsed.add(cardBenefits);
+        }
+        this.benefits = parsed;
+
+        this.rankings = new int[this.cards.size()];
+        for (int i = 0; i < this.cards.size(); i++) {
+            rankings[i] = ranking(this.cards.get(i).getRanking());
+        }
+
+        for (String category : KNOWN_CATEGORIES) {
+            byCategory.put(category, build(category));
+        }
+    }
+
+    public List<CardDTO> cards() {
+        return cards;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public int ranking(int cardIndex) {
+        return rankings[cardIndex];
+    }
+
+    // 지출 카테고리별 매칭 결과 (색인에 없는 카테고리는 처음 조회할 때 만들어 둠)
+    public CategoryMatch match(String category) {
+        return byCategory.computeIfAbsent(category == null ? "" : category, this::build);
+    }
+
+    public static boolean isOnlineExpense(String note) {
+        return note != null && note.contains(ONLINE);
+    }
+
+    private CategoryMatch build(String category) {
+        List<String> categoryKeywords = keywords(category);
+
+        // 오토마톤에 있는 키워드면 BitSet 교집합, 없으면 contains (색인에 없는 카테고리)
+        BitSet wanted = new BitSet();
+        boolean indexed = true;
+        for (String keyword : categoryKeywords) {
+            Integer index = keywordIndex.get(keyword);
+            if (index == null) {
+                indexed = false;
+                break;
+            }
+            wanted.set(index);
+        }
+
+        // 온라인 혜택은 재료비 카테고리의 온라인 결제에만 적용, 그 외 혜택은 오프라인 결제에만 적용
+        boolean onlineApplicable = category.contains(MATERIAL);
+
+        int[] offlineRate = new int[cards.size()];
+        int[] onlineRate = new int[cards.size()];
+        List<List<String>> matchedBenefits = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            int offline = -1;
+            int online = -1;
+            List<String> matched = new ArrayList<>();
+            for (ParsedBenefit benefit : benefits.get(i)) {
+                boolean hit = indexed
+                        ? benefit.keywords().intersects(wanted)
+                        : categoryKeywords.stream().anyMatch(benefit.text()::contains);
+                if (!hit) {
+                    continue;
+                }
+                matched.add(benefit.text());
+                if (benefit.online()) {
+                    if (onlineApplicable) online = Math.max(online, benefit.rate());
+                } else {
+                    offline = Math.max(offline, benefit.rate());
+                }
+            }
+            offlineRate[i] = offline;
+            onlineRate[i] = online;
+            matchedBenefits.add(matched.isEmpty() ? List.of() : List.copyOf(matched));
+        }
+        return new CategoryMatch(offlineRate, onlineRate, matchedBenefits);
+    }
+
+    private static List<String> keywords(String category) {
+        return CATEGORY_KEYWORDS.getOrDefault(category, Arrays.asList(category));
+    }
+
+    // 랭킹이 없거나 숫자가 아니면 가장 뒤로
+    private static int ranking(String ranking) {
+        if (ranking == null) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            return Integer.parseInt(ranking.trim());
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    // 혜택 문구의 첫 번째 "N%" (없으면 0)
+    private static int discountRate(String benefit) {
+        Matcher matcher = DISCOUNT_RATE.matcher(benefit);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.card.CardDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+//////////// 카드 목록 (card_data.json) 메모리 캐시
+/// 1. 기동 시 한 번 읽어 혜택 키워드 필터까지 적용한 불변 목록으로 보관 -> 추천 요청은 파일 / JSON 파서를 사용하지 않음
+/// 2. 크롤러가 새 파일을 쓰면 WatchService 가 감지해 다시 읽고 AtomicReference 로 통째로 교체
+///    (읽기 실패 / 파싱 실패 시 기존 목록 유지)
+/// 3. version = 파일 내용 SHA-256 앞 16자리 (추천 결과 캐시 키 등에 사용)
+/// 4. 혜택 역색인(CardBenefitIndex)도 로드 시 같이 만들어 스냅샷에 포함
+/// 5. 크롤러 결과는 publish() 로 검증 후 원자적으로 교체 (읽는 쪽이 쓰다 만 파일을 보지 않음)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class CardCatalog {
+
+    // 추천 대상 혜택 키워드 (이 키워드가 포함된 혜택만 남김)
+    private static final String[] BENEFIT_KEYWORDS = {"공과금", "쇼핑", "주유", "마트"};
+
+    public record Snapshot(List<CardDTO> cards, CardBenefitIndex benefitIndex, String version, Instant loadedAt) {}
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${card.py.data.path}")
+    private String jsonFilePath;
+
+    // 파일 변경 후 쓰기가 끝날 때까지 기다리는 시간
+    @Value("${card.catalog.debounce-ms:500}")
+    private long debounceMs;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+            new Snapshot(List.of(), CardBenefitIndex.EMPTY, "empty", Instant.EPOCH));
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    public List<CardDTO> cards() {
+        return snapshot.get().cards();
+    }
+
+    public CardBenefitIndex benefitIndex() {
+        return snapshot.get().benefitIndex();
+    }
+
+    public String version() {
+        return snapshot.get().version();
+    }
+
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+        startWatcher();
+    }
+
+    // 파일을 다시 읽어 교체 (내용이 같으면 그대로), 성공 여부 반환
+    public synchronized boolean reload() {
+        Path path = Path.of(jsonFilePath);
+        try {
+            byte[] content = Files.readAllBytes(path);
+            String version = version(content);
+            if (version.equals(snapshot.get().version())) {
+                return true;
+            }
+
+            List<CardDTO> parsed = objectMapper.readValue(content, new TypeReference<List<CardDTO>>() {});
+            List<CardDTO> cards = parsed.stream()
+                    .map(CardCatalog::withRecommendableBenefits)
+                    .filter(card -> !card.getBenefits().isEmpty())
+                    .toList();
+
+            snapshot.set(new Snapshot(cards, new CardBenefitIndex(cards), version, Instant.now()));
+            log.info("카드 목록 로드 - {}개 (전체 {}개), version: {}", cards.size(), parsed.size(), version);
+            return true;
+        } catch (NoSuchFileException e) {
+            log.warn("카드 데이터 파일이 없습니다: {}", path.toAbsolutePath());
+        } catch (Exception e) {
+            log.error("카드 데이터 로드 실패, 기존 목록 유지 - {}: {}", path.toAbsolutePath(), e.getMessage());
+        }
+        return false;
+    }
+
+    // 새 카드 데이터 파일을 검증하고 card_data.json 으로 원자적 교체 후 다시 읽음
+    // 검증 실패 시 IllegalStateException / IOException, 기존 파일과 목록은 그대로
+    public synchronized void publish(Path candidate) throws IOException {
+        List<CardDTO> parsed = objectMapper.readValue(candidate.toFile(), new TypeReference<List<CardDTO>>() {});
+        long recommendable = parsed.stream()
+                .filter(card -> card.getCardName() != null && card.getRanking() != null)
+                .map(CardCatalog::withRecommendableBenefits)
+                .filter(card -> !card.getBenefits().isEmpty())
+                .count();
+        if (parsed.isEmpty() || recommendable == 0) {
+            throw new IllegalStateException("추천 가능한 카드가 없습니다 (전체 " + parsed.size() + "개)");
+        }
+
+        Path target = Path.of(jsonFilePath).toAbsolutePath();
+        try {
+            Files.move(candidate, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(candidate, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.info("카드 데이터 교체 - {} (전체 {}개, 추천 대상 {}개)", target, parsed.size(), recommendable);
+
+        if (!reload()) {
+            throw new IllegalStateException("교체한 카드 데이터를 읽지 못했습니다: " + target);
+        }
+    }
+
+    // 필터링한 혜택으로 새 DTO 생성 (스냅샷 안의 객체는 수정하지 않음)
+    private static CardDTO withRecommendableBenefits(CardDTO card) {
+        CardDTO copy = new CardDTO();
+        copy.setRanking(card.getRanking());
+        copy.setCardName(card.getCardName());
+        copy.setCorporateName(card.getCorporateName());
+        copy.setImageURL(card.getImageURL());
+        List<String> benefits = card.getBenefits() == null ? List.of() : card.getBenefits().stream()
+                .filter(benefit -> benefit != null && Arrays.stream(BENEFIT_KEYWORDS).anyMatch(benefit::contains))
+                .toList();
+        copy.setBenefits(benefits);
+        return copy;
+    }
+
+    private static String version(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)).substring(0, 16);
+    }
+
+    // card_data.json 이 있는 디렉토리 감시 (크롤러가 임시 파일 -> 이동으로 교체해도 감지)
+    private void startWatcher() {
+        Path file = Path.of(jsonFilePath).toAbsolutePath();
+        Path dir = file.getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            log.warn("카드 데이터 디렉토리가 없어 변경 감시를 하지 않습니다: {}", dir);
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("카드 데이터 변경 감시 시작 실패: {}", e.getMessage());
+            return;
+        }
+
+        watcher = new Thread(() -> watch(file), "card-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch(Path file) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changedPath && changedPath.equals(file.getFileName())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if (changed) {
+                    Thread.sleep(debounceMs);
+                    // 대기 중 쌓인 이벤트는 이번 reload 에 포함
+                    WatchKey pending;
+                    while ((pending = watchService.poll()) != null) {
+                        pending.pollEvents();
+                        pending.reset();
+                    }
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+    }
+}
@@ -1,219 +1,269 @@
 package com.example.backend.service;
 
-import java.io.File;
-import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.backend.service.BANK.AccountService;
-import com.example.backend.dto.account.ExpenseDetailDTO;
+import com.example.backend.service.cache.AnalyticsCacheService;
+import com.example.backend.dto.account.CategoryChannelExpenseDTO;
 import com.example.backend.dto.account.ExpenseDetailDTO.ExpenseDetail;
 import com.example.backend.dto.card.CardDTO;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.example.backend.dto.card.CardRecommendationDTO;
+import com.example.backend.dto.card.CardSavingsSimulationDTO;
+import com.example.backend.util.money.Money;
+
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.log4j.Log4j2;
 
 //////////// 카드 추천 로직
-/// 1. 유저의 소비 카테고리 중 상위 3개를 추출
-/// 2. 상위 3개에 해당하는 카드 혜택의 합이 가장 높은 카드를 추천
-/// 3. 추천 카드가 5개 이상일 경우, 카드 랭킹이 높은 순으로 정렬
+/// 1. 카테고리 + 결제 방식(온라인 / 오프라인)별 지출 합계만 조회 (거래 건수와 무관한 크기)
+/// 2. 혜택 역색인의 카드별 할인율로 모든 카드 점수를 long 배열 루프에서 계산
+/// 3. 절약 금액 상위 5개 카드만 크기 5 힙으로 선택 (동점이면 랭킹이 높은 순)
+/// 4. 지출 항목별 절약 내역은 선택된 5개 카드에 혜택이 있는 (카테고리, 결제 방식) 그룹의 지출만 조회해서 생성
+///    -> 점수는 그룹 합계 기준(반올림 전), 화면의 절약 금액은 항목별 원 단위 반올림의 합이라 카드당 (항목 수 x 0.5원) 이내로 다를 수 있음
+///       이 차이 안에서 점수가 붙은 5위 경계 카드는 바뀔 수 있고, 선택된 5개의 최종 순서는 화면 금액 기준으로 정렬
+/// 5. 결과는 (회원, 월, 카드 목록 버전, 지출 데이터 버전) 단위로 Redis 캐시
+///    -> 은행 데이터 수집 시 expense 버전이 올라가고, 카드 목록이 바뀌면 version 이 달라져 새로 계산
+/// 6. 연간 시뮬레이션: 12개월 월 + 카테고리 + 결제 방식별 합계를 쿼리 한 번으로 조회하고
+///    카드 구간을 ForkJoinPool 에서 나눠 모든 카드 x 월 절약 금액을 계산
 
 
 @Service
 @Log4j2
 public class CardService {
+	// 추천 카드 수
+	private static final int RECOMMEND_LIMIT = 5;
+	// 연간 시뮬레이션 기간 (기준 월 포함)
+	private static final int SIMULATION_MONTHS = 12;
+
 	@Autowired
 	private AccountService accountService;
-	@Value("${card.py.data.path}")
-	private String jsonFilePath;
-	
-	public List<CardDTO> loadCardsFromJson(String filePath) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		
-		log.info(filePath + " :: filePath");
-		
-		try {
-			// 파일의 경로를 resources 로 설정했을 때,
-//			InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filePath);
-//			if (inputStream == null) {
-//				throw new RuntimeException("File not found: " + filePath);
-//			}
-			// 파일의 경로를 root 로 설정했을 때,
-			File jsonFile = new File(filePath);
-			// JSON 파일을 읽어서 Card 리스트로 변환
-			List<CardDTO> cardList = objectMapper.readValue(jsonFile, new TypeReference<List<CardDTO>>() {});
-			
-			String[] keywords = {"공과금", "쇼핑", "주유", "마트"};
-	        List<CardDTO> filteredCards = cardList.stream()
-	            .map(card -> {
-	                // benefits 필터링
-	                List<String> filteredBenefits = card.getBenefits().stream()
-	                        .filter(benefit -> Arrays.stream(keywords).anyMatch(benefit::contains))
-	                        .collect(Collectors.toList());
-	                card.setBenefits(filteredBenefits); // 필터링된 benefits 설정
-	                return card;
-	            })
-	            .filter(card -> !card.getBenefits().isEmpty()) // 필터링 후 benefits가 비어 있지 않은 카드만 유지
-	            .collect(Collectors.toList());
-			return filteredCards;
-		} catch (IOException e) {
-			throw new RuntimeException("Failed to load cards from JSON file: " + filePath, e);
-		}
+	// card_data.json 은 CardCatalog 가 메모리에 보관 (요청마다 파일을 읽지 않음)
+	@Autowired
+	private CardCatalog cardCatalog;
+	@Autowired
+	private AnalyticsCacheService analyticsCacheService;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	public List<CardRecommendationDTO> recommendCards(YearMonth month, Long memberId) {
+		// 메모리에 로드된 카드 목록과 혜택 역색인 (같은 스냅샷에서 가져와야 카드 순번 / 캐시 키 버전이 일치)
+		CardCatalog.Snapshot snapshot = cardCatalog.snapshot();
+		JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, CardRecommendationDTO.class);
+		return analyticsCacheService.getOrLoad(memberId, AnalyticsCacheService.EXPENSE_SCOPE, "card-recommend",
+				month + ":" + snapshot.version(), listType, () -> loadRecommendations(snapshot, month, memberId));
 	}
 
-	public List<Map<String, Object>> recommendCards(YearMonth month, Long memberId) {
-		// JSON 파일 불러오기
-		List<CardDTO> cards = loadCardsFromJson(jsonFilePath);
-
-		// 카드 DTO 에서 지출 상세 정보를 가져온다 
-		List<ExpenseDetailDTO.ExpenseDetail> expenseDetails = accountService.getExpenseDetails(month, memberId);
-		
-		// 카드 추천 로직
-		List<Map<String, Object>> recommendations = new ArrayList<>();
-
-		// 카테고리 매핑 키워드
-		Map<String, List<String>> categoryKeywords = new HashMap<>();
-		categoryKeywords.put("재료비", Arrays.asList("재료비", "쇼핑", "재료", "마트"));
-		
-		for (CardDTO card : cards) {
-			//////// 절약한 총 금액 계산
-			BigDecimal totalSavings = BigDecimal.ZERO;
-			
-			// 할인을 포함한 지출 상세 정보 저장
-			List<Map<String, Object>> savingDetails = new ArrayList<>();
-			
-		    log.info("=============================");
-		    log.info("Card:: " + card.getCardName());
-		    // 지출 세부 내역 조회
-		    for (ExpenseDetail expense : expenseDetails) {
-		    	String category = expense.getCategory();
-		    	// 지출 내역의 카테고리명이 매핑 키워드와 일치하는지 확인하여 keywords 로 저장
-		    	List<String> keywords = categoryKeywords.getOrDefault(category, Arrays.asList(category));
-
-		    	// 카테고리와 일치하는 혜택 정보 필터링
-		    	List<String> matchBenefits = card.getBenefits().stream()	// 카드 정보에서 혜택을 순회하여 
-		    			.filter(benefit -> keywords.stream().anyMatch(benefit::contains))	// 키워드와 일치 여부를 확인
-		    			.collect(Collectors.toList());	// 조건에 맞는 혜택을 리스트화
-		    	
-		    	// 일치하는 혜택 정보가 없으면 스킵
-		    	if (matchBenefits.isEmpty()) continue;
-		    	
-		    	Optional<BigDecimal> maxDiscountRate = matchBenefits.stream()
-		    			.filter(benefit -> isMatchingBenefit(benefit, expense, keywords))
-		    			.map(this::extractDiscountRate)
-		    			.max(Comparator.naturalOrder());
-		    	
-		    	// 할인율이 존재하는 경우 할인율 및 절약 금액 계산
-		    	if (maxDiscountRate.isPresent()) {
-		    		BigDecimal discountRate = maxDiscountRate.get();
-		    		BigDecimal savings = expense.getAmount()
-		    				.multiply(discountRate)
-		    				.divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP);
-		    		
-		    		totalSavings = totalSavings.add(savings);
-		    		
-		    		// 지출 항목별 절약 내역 추가
-		    		log.info("Category:: " + category);
-		    		log.info("keywords:: " + keywords);
-		    		log.info("Note:: " + expense.getNote());
-		    		log.info("Matched Benefit:: " + matchBenefits);
-		    		log.info("Discount:: " + discountRate + "%");
-		    		log.info("Savings:: " + savings);
-		    		
-		            Map<String, Object> savingDetail = new HashMap<>();
-		            savingDetail.put("category", category);
-		            savingDetail.put("storeName", expense.getStoreName());
-		            savingDetail.put("note", expense.getNote());
-		            savingDetail.put("benefit", matchBenefits);
-		            savingDetail.put("amount", expense.getAmount());
-		            savingDetail.put("discountRate", discountRate + "%");
-		            savingDetail.put("saving", savings);
-		            
-		            savingDetails.add(savingDetail);
-		    	}
-		    }
-		    
-		    log.info("=============================");
-		
-		// 카테고리별 지출 합계를 계산
-//      Map<String, Map<String, BigDecimal>> results = calculateExpenseSums(expenseDetails);
-		
-//      경우에 따라 지출 세부 내역 확인이 필요해서 상세 조회 로직으로 교체  
-//		Map<String, BigDecimal> spending = accountService.calculateCategoryWiseExpenses(month, memberId);
-		
-//		소비 내역에서 상위 3개 카테고리 추출 > 현재 상위 3개 카테고리를 뽑을 정도로 카테고리가 많지 않아서 보류
-//		Map<String, BigDecimal> top3Spending = spending.entrySet().stream()
-//				.sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue()))
-//				.limit(3)
-//				.collect(Collectors.toMap(
-//						Map.Entry::getKey,
-//						Map.Entry::getValue,
-//						(oldValue, newValue) -> oldValue,
-//						LinkedHashMap::new
-//				));
-//		log.info("Top 3 Spending: " + top3Spending);
-
-			// 카드 랭킹
-			int ranking = Integer.parseInt(card.getRanking());
-
-			Map<String, Object> result = new HashMap<>();
-			result.put("cardName", card.getCardName());
-			result.put("corporateName", card.getCorporateName());
-			result.put("totalSaving", totalSavings);
-			result.put("ranking", ranking);
-			result.put("imageURL", card.getImageURL());
-			result.put("benefits", card.getBenefits());
-			result.put("savingDetails", savingDetails);
-			recommendations.add(result);
+	private List<CardRecommendationDTO> loadRecommendations(CardCatalog.Snapshot snapshot, YearMonth month, Long memberId) {
+		List<CardDTO> cards = snapshot.cards();
+		CardBenefitIndex benefitIndex = snapshot.benefitIndex();
+		int cardCount = cards.size();
+
+		//////// 카드별 점수 = 원 * 할인율 (반올림 전 절약 금액 * 100, 항목별 반올림은 상세 내역에서만 적용)
+		long[] scores = new long[cardCount];
+		List<CategoryChannelExpenseDTO> spends = accountService.calculateCategoryChannelExpenses(month, memberId);
+		for (CategoryChannelExpenseDTO spend : spends) {
+			CardBenefitIndex.CategoryMatch match = benefitIndex.match(spend.getCategory());
+			int[] rates = spend.isOnline() ? match.onlineRate() : match.offlineRate();
+			long amount = Money.toWon(spend.getAmount());
+			for (int i = 0; i < cardCount; i++) {
+				if (rates[i] > 0) {
+					scores[i] = Math.addExact(scores[i], Math.multiplyExact(amount, rates[i]));
+				}
+			}
+		}
+
+		//////// 상위 5개 선택 (힙의 머리 = 지금까지 고른 카드 중 가장 낮은 카드)
+		Comparator<Integer> worstFirst = Comparator.<Integer>comparingLong(i -> scores[i])
+				.thenComparing(Comparator.<Integer>comparingInt(benefitIndex::ranking).reversed());
+		PriorityQueue<Integer> top = new PriorityQueue<>(RECOMMEND_LIMIT + 1, worstFirst);
+		for (int i = 0; i < cardCount; i++) {
+			top.offer(i);
+			if (top.size() > RECOMMEND_LIMIT) {
+				top.poll();
+			}
+		}
+		if (top.isEmpty()) {
+			return new ArrayList<>();
 		}
 
-		// 정렬: 총 절약 금액 내림차순 -> 랭킹 오름차순
-		recommendations.sort((a, b) -> {
-			int compareSavings = ((BigDecimal) b.get("totalSaving")).compareTo((BigDecimal) a.get("totalSaving"));
-			if (compareSavings != 0) return compareSavings;
-			return Integer.compare((int) a.get("ranking"), (int) b.get("ranking"));
-		});
+		//////// 선택된 카드만 지출 항목별 절약 내역 생성
+		// 선택된 카드 중 하나라도 혜택이 적용되는 (카테고리, 결제 방식) 그룹만 조회 (할인율 0% 혜택도 내역에 표시되므로 포함)
+		List<CategoryChannelExpenseDTO> detailGroups = new ArrayList<>();
+		for (CategoryChannelExpenseDTO spend : spends) {
+			CardBenefitIndex.CategoryMatch match = benefitIndex.match(spend.getCategory());
+			for (int cardIndex : top) {
+				if (match.rate(cardIndex, spend.isOnline()) >= 0) {
+					detailGroups.add(spend);
+					break;
+				}
+			}
+		}
+		List<ExpenseDetail> expenseDetails = accountService.getExpenseDetails(month, memberId, detailGroups);
+		// 지출 항목별 혜택 매칭 결과 (카테고리당 색인 조회 한 번)
+		List<CardBenefitIndex.CategoryMatch> expenseMatches = new ArrayList<>(expenseDetails.size());
+		for (ExpenseDetail expense : expenseDetails) {
+			expenseMatches.add(benefitIndex.match(expense.getCategory()));
+		}
 
-		// 상위 5개 카드 반환
-		return recommendations.stream().limit(5).collect(Collectors.toList());
+		List<CardRecommendationDTO> recommendations = new ArrayList<>(top.size());
+		for (int cardIndex : top) {
+			recommendations.add(recommendation(cards.get(cardIndex), cardIndex, benefitIndex, expenseDetails, expenseMatches));
+		}
+
+		// 정렬: 총 절약 금액(화면에 표시되는 항목별 반올림 합) 내림차순 -> 랭킹 오름차순
+		recommendations.sort(Comparator.comparing(CardRecommendationDTO::getTotalSaving).reversed()
+				.thenComparingInt(CardRecommendationDTO::getRanking));
+
+		log.debug("카드 추천 - memberId: {}, month: {}, 카드 {}개 중 {}개, 지출 {}건", memberId, month, cardCount, recommendations.size(), expenseDetails.size());
+		return recommendations;
 	}
 
+	//////// 연간 카드 절약 시뮬레이션 (기준 월까지 최근 12개월)
+	public CardSavingsSimulationDTO simulateAnnualSavings(YearMonth endMonth, Long memberId) {
+		CardCatalog.Snapshot snapshot = cardCatalog.snapshot();
+		return analyticsCacheService.getOrLoad(memberId, AnalyticsCacheService.EXPENSE_SCOPE, "card-simulation",
+				endMonth + ":" + snapshot.version(), objectMapper.constructType(CardSavingsSimulationDTO.class),
+				() -> loadAnnualSavings(snapshot, endMonth, memberId));
+	}
+
+	private CardSavingsSimulationDTO loadAnnualSavings(CardCatalog.Snapshot snapshot, YearMonth endMonth, Long memberId) {
+		List<CardDTO> cards = snapshot.cards();
+		CardBenefitIndex benefitIndex = snapshot.benefitIndex();
+		YearMonth startMonth = endMonth.minusMonths(SIMULATION_MONTHS - 1);
+
+		// 12개월 지출 합계 (쿼리 한 번)
+		Map<YearMonth, List<CategoryChannelExpenseDTO>> monthlySpend =
+				accountService.calculateMonthlyCategoryChannelExpenses(startMonth, endMonth, memberId);
 
-	private BigDecimal extractDiscountRate(String benefit) {
-		Pattern pattern = Pattern.compile("(\\d+)%");
-		Matcher matcher = pattern.matcher(benefit);
-		if (matcher.find()) {
-			return new BigDecimal(matcher.group(1));
+		// (월, 카테고리, 결제 방식) 그룹을 배열로 펼침 -> 카드별 할인율 배열은 색인에서 그대로 참조
+		List<String> months = new ArrayList<>(SIMULATION_MONTHS);
+		List<Integer> groupMonths = new ArrayList<>();
+		List<Long> groupAmounts = new ArrayList<>();
+		List<int[]> groupRates = new ArrayList<>();
+		for (int m = 0; m < SIMULATION_MONTHS; m++) {
+			YearMonth month = startMonth.plusMonths(m);
+			months.add(month.toString());
+			for (CategoryChannelExpenseDTO spend : monthlySpend.getOrDefault(month, List.of())) {
+				CardBenefitIndex.CategoryMatch match = benefitIndex.match(spend.getCategory());
+				groupMonths.add(m);
+				groupAmounts.add(Money.toWon(spend.getAmount()));
+				groupRates.add(spend.isOnline() ? match.onlineRate() : match.offlineRate());
+			}
+		}
+
+		// 카드 x 월 점수 (원 * 할인율), 카드 구간별로 나눠 병렬 계산
+		long[][] scores = new long[cards.size()][SIMULATION_MONTHS];
+		ForkJoinPool.commonPool().invoke(new SavingsTask(scores, 0, cards.size(),
+				groupMonths.stream().mapToInt(Integer::intValue).toArray(),
+				groupAmounts.stream().mapToLong(Long::longValue).toArray(),
+				groupRates.toArray(new int[0][])));
+
+		List<CardSavingsSimulationDTO.CardSavingsCurve> curves = new ArrayList<>(cards.size());
+		for (int i = 0; i < cards.size(); i++) {
+			CardDTO card = cards.get(i);
+			List<BigDecimal> monthlySavings = new ArrayList<>(SIMULATION_MONTHS);
+			long total = 0L;
+			for (int m = 0; m < SIMULATION_MONTHS; m++) {
+				// 월 합계 기준 원 단위 반올림
+				long saving = Money.divideHalfUp(scores[i][m], 100);
+				total = Money.add(total, saving);
+				monthlySavings.add(Money.toBigDecimal(saving));
+			}
+			curves.add(new CardSavingsSimulationDTO.CardSavingsCurve(card.getCardName(), card.getCorporateName(),
+					card.getImageURL(), benefitIndex.ranking(i), Money.toBigDecimal(total), monthlySavings));
 		}
-		return BigDecimal.ZERO;
+
+		// 정렬: 기간 총 절약 금액 내림차순 -> 랭킹 오름차순
+		curves.sort(Comparator.comparing(CardSavingsSimulationDTO.CardSavingsCurve::getTotalSaving).reversed()
+				.thenComparingInt(CardSavingsSimulationDTO.CardSavingsCurve::getRanking));
+
+		log.debug("연간 카드 시뮬레이션 - memberId: {}, {} ~ {}, 카드 {}개, 지출 그룹 {}개", memberId, startMonth, endMonth, cards.size(), groupRates.size());
+		return new CardSavingsSimulationDTO(months, curves);
 	}
-	
-	private boolean isMatchingBenefit(String benefit, ExpenseDetail expense, List<String> keywords) {
-		// 혜택 중 온라인이라는 키워드를 가지는 경우 true
-    	boolean isOnline = benefit.contains("온라인");
-    	
-		if (isOnline) {	// 혜택에 온라인 정보가 있으면, 지출 카테고리가 재료비이고 온라인 결제 정보를 조회
-			return expense.getCategory().contains("재료비") && expense.getNote().contains("온라인");
-		} else {	// 혜택에 온라인 정보가 없는 경우, 결제(Note)가 온라인이면 false 외에는 모두 true
-			if( expense.getNote().contains("온라인")) {
-		 	 			return false;
+
+	// 카드 구간 [from, to) 의 월별 점수 계산 (구간이 작아질 때까지 반으로 나눔, 카드 행이 겹치지 않아 동기화 불필요)
+	private static class SavingsTask extends RecursiveAction {
+		private static final int THRESHOLD = 16;
+
+		private final long[][] scores;
+		private final int from;
+		private final int to;
+		private final int[] groupMonths;
+		private final long[] groupAmounts;
+		private final int[][] groupRates;
+
+		SavingsTask(long[][] scores, int from, int to, int[] groupMonths, long[] groupAmounts, int[][] groupRates) {
+			this.scores = scores;
+			this.from = from;
+			this.to = to;
+			this.groupMonths = groupMonths;
+			this.groupAmounts = groupAmounts;
+			this.groupRates = groupRates;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				for (int g = 0; g < groupRates.length; g++) {
+					int[] rates = groupRates[g];
+					int month = groupMonths[g];
+					long amount = groupAmounts[g];
+					for (int i = from; i < to; i++) {
+						if (rates[i] > 0) {
+							scores[i][month] = Math.addExact(scores[i][month], Math.multiplyExact(amount, rates[i]));
+						}
+					}
+				}
+				return;
 			}
-			
-			return true;
+			int mid = (from + to) >>> 1;
+			invokeAll(new SavingsTask(scores, from, mid, groupMonths, groupAmounts, groupRates),
+					new SavingsTask(scores, mid, to, groupMonths, groupAmounts, groupRates));
 		}
 	}
+
+	// 추천 카드 한 장의 결과 (지출 항목별 절약 내역 포함)
+	private CardRecommendationDTO recommendation(CardDTO card, int cardIndex, CardBenefitIndex benefitIndex,
+			List<ExpenseDetail> expenseDetails, List<CardBenefitIndex.CategoryMatch> expenseMatches) {
+		//////// 절약한 총 금액 계산 (원 단위 long 으로 누적, 항목별 반올림 금액의 합)
+		long totalSavings = 0L;
+
+		// 할인을 포함한 지출 상세 정보 저장
+		List<CardRecommendationDTO.SavingDetail> savingDetails = new ArrayList<>();
+
+		for (int i = 0; i < expenseDetails.size(); i++) {
+			ExpenseDetail expense = expenseDetails.get(i);
+			CardBenefitIndex.CategoryMatch match = expenseMatches.get(i);
+
+			// 카테고리와 일치하는 혜택 정보 (카드 목록 로드 시 미리 계산), 없으면 스킵
+			List<String> matchBenefits = match.matchedBenefits().get(cardIndex);
+			if (matchBenefits.isEmpty()) continue;
+
+			// 결제 방식(온라인 / 오프라인)에 적용되는 혜택 중 최대 할인율, 없으면 -1
+			int discountRate = match.rate(cardIndex, CardBenefitIndex.isOnlineExpense(expense.getNote()));
+			if (discountRate < 0) continue;
+
+			long savings = Money.percentOf(Money.toWon(expense.getAmount()), discountRate);
+			totalSavings = Money.add(totalSavings, savings);
+
+			// 지출 항목별 절약 내역 추가
+			savingDetails.add(new CardRecommendationDTO.SavingDetail(expense.getCategory(), expense.getStoreName(),
+					expense.getNote(), matchBenefits, expense.getAmount(), discountRate + "%", Money.toBigDecimal(savings)));
+		}
+
+		return new CardRecommendationDTO(card.getCardName(), card.getCorporateName(), Money.toBigDecimal(totalSavings),
+				benefitIndex.ranking(cardIndex), card.getImageURL(), card.getBenefits(), savingDetails);
+	}
 }
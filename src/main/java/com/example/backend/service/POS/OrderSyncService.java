@@ -1,18 +1,22 @@
 package com.example.backend.service.POS;
 
 import com.example.backend.dto.pos.OrderResponseDTO;
+import com.example.backend.event.PosSalesIngestedEvent;
 import com.example.backend.model.POS.Pos;
 import com.example.backend.model.POS.PosSales;
 import com.example.backend.model.enumSet.OrderStatus;
 import com.example.backend.model.enumSet.PaymentStatus;
 import com.example.backend.model.enumSet.PaymentTypeEnum;
 import com.example.backend.repository.PosSalesRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -23,15 +27,22 @@ public class OrderSyncService {
 
     private final PosOrderService posOrderService;
     private final PosSalesRepository posSalesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledJobGuard scheduledJobGuard;
 
     private final Random random = new Random();
 
      @Scheduled(fixedRate = 10000)
     //@Scheduled(cron = "10 * * * * *")
     public void syncOrders() {
+        // 이전 수집이 끝나지 않았으면 건너뜀 (수동 호출과 겹치는 경우 포함)
+        scheduledJobGuard.run("pos-order-sync", this::pullOrders);
+    }
+
+    private void pullOrders() {
         try {
             List<OrderResponseDTO> orders = posOrderService.fetchOrdersFromPos();
-            boolean isUpdated = false;
+            List<PosSales> savedSales = new ArrayList<>();
 
             for (OrderResponseDTO order : orders) {
                 boolean exists = posSalesRepository.existsByOrderTimeAndProductName(order.getOrderDate(), order.getProductName());
@@ -52,13 +63,13 @@ public class OrderSyncService {
                             .paymentType(paymentType)
                             .paymentStatus(PaymentStatus.valueOf(order.getPaymentStatus()))
                             .build();
-                    posSalesRepository.save(posSales);
-                    isUpdated = true;
+                    savedSales.add(posSalesRepository.save(posSales));
                 }
             }
 
-            if (isUpdated) {
+            if (!savedSales.isEmpty()) {
                 log.info("POS 주문 데이터 업데이트 완료!");
+                eventPublisher.publishEvent(new PosSalesIngestedEvent(savedSales));
             }
         } catch (Exception e) {
             log.error("Error during syncOrders: {}", e.getMessage(), e);
@@ -9,6 +9,10 @@ import com.example.backend.model.POS.QPos;
 import com.example.backend.model.POS.QPosSales;
 import com.example.backend.model.QMember;
 import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.service.cache.AnalyticsCacheService;
+import com.example.backend.service.hotstore.CurrentMonthHotStore;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +26,7 @@ import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +35,9 @@ import java.util.stream.Collectors;
 public class PosService {
 
     private final JPAQueryFactory queryFactory;
+    private final MonthSnapshotStore monthSnapshotStore;
+    private final AnalyticsCacheService analyticsCacheService;
+    private final CurrentMonthHotStore currentMonthHotStore;
 
     // 로그인한 유저의 posId를 가져오는 로직
     private Long getPosIdByMemberId(Long memberId) {
@@ -54,6 +62,21 @@ public class PosService {
 
     // 월 매출 요약 및 일별 매출 리스트 반환
     public MonthlyIncomeDTO getMonthlyIncomeSummary(Long memberId, YearMonth month) {
+        // 마감된 월은 스냅샷에서 바로 반환
+        Optional<MonthlyIncomeDTO> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.MONTHLY_INCOME, MonthlyIncomeDTO.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+        // 이번 달은 인메모리 저장소에서 집계
+        Optional<MonthlyIncomeDTO> current = currentMonthHotStore.monthlyIncome(memberId, month);
+        if (current.isPresent()) {
+            return current.get();
+        }
+        return analyticsCacheService.getOrLoad(memberId, "monthly-income", month, MonthlyIncomeDTO.class,
+                () -> loadMonthlyIncomeSummary(memberId, month));
+    }
+
+    private MonthlyIncomeDTO loadMonthlyIncomeSummary(Long memberId, YearMonth month) {
         Long posId = getPosIdByMemberId(memberId);
         QPosSales qposSales = QPosSales.posSales;
 
@@ -171,6 +194,15 @@ public class PosService {
 
     // 이번 달 매출 및 지난 2개월의 월 매출 정보
     public IncomeHistoryDTO getIncomeHistory(Long memberId, YearMonth month) {
+        Optional<IncomeHistoryDTO> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.INCOME_HISTORY, IncomeHistoryDTO.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+        return analyticsCacheService.getOrLoad(memberId, "income-history", month, IncomeHistoryDTO.class,
+                () -> loadIncomeHistory(memberId, month));
+    }
+
+    private IncomeHistoryDTO loadIncomeHistory(Long memberId, YearMonth month) {
         Long posId = getPosIdByMemberId(memberId);
         QPosSales qposSales = QPosSales.posSales;
 
@@ -216,6 +248,15 @@ public class PosService {
     }
 
     public BigDecimal calculateMonthlyRevenue(Long memberId, YearMonth month) {
+        Optional<BigDecimal> closed = monthSnapshotStore.find(memberId, month, SnapshotKind.MONTHLY_REVENUE, BigDecimal.class);
+        if (closed.isPresent()) {
+            return closed.get();
+        }
+        Optional<BigDecimal> current = currentMonthHotStore.monthlyRevenue(memberId, month);
+        if (current.isPresent()) {
+            return current.get();
+        }
+
         Long posId = getPosIdByMemberId(memberId);
         QPosSales qposSales = QPosSales.posSales;
 
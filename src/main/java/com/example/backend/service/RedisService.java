@@ -1,12 +1,28 @@
 package com.example.backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
 @Service
 public class RedisService {
 
+    // 값이 일치할 때만 삭제 (다른 소유자의 락을 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    // 값이 일치할 때만 TTL 연장 (오래 걸리는 작업의 락 유지)
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
@@ -14,6 +30,67 @@ public class RedisService {
         redisTemplate.opsForValue().set(key, value);
     }
 
+    public void saveValue(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    public Long increment(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
+    // SET NX + TTL (분산 락 획득)
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    public void deleteIfValue(String key, String value) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), value);
+    }
+
+    // 락을 아직 가지고 있으면 TTL 연장 후 true
+    public boolean extendIfValue(String key, String value, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), value, String.valueOf(ttl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    // 비트맵 (SETBIT / GETBIT)
+    public void setBit(String key, long offset, boolean value) {
+        redisTemplate.opsForValue().setBit(key, offset, value);
+    }
+
+    public boolean getBit(String key, long offset) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(key, offset));
+    }
+
+    // 여러 비트를 한 번에 설정 (파이프라인)
+    public void setBits(String key, Collection<Long> offsets) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long offset : offsets) {
+                connection.stringCommands().setBit(rawKey, offset, true);
+            }
+            return null;
+        });
+    }
+
+    // 비트맵 전체를 바이트 배열로 조회 (문자열 직렬화 없이)
+    public byte[] getBytes(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    // BITOP OR destination destination source (기존 비트는 유지하고 source 비트만 더함)
+    public void orBits(String destination, String source) {
+        byte[] rawDestination = destination.getBytes(StandardCharsets.UTF_8);
+        byte[] rawSource = source.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, rawDestination, rawDestination, rawSource));
+    }
+
     public String getValue(String key) {
         return (String) redisTemplate.opsForValue().get(key);
     }
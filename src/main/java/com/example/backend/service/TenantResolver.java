@@ -0,0 +1,48 @@
+package com.example.backend.service;
+
+import com.example.backend.model.BUSINESS.QBusinessRegistration;
+import com.example.backend.model.QMember;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+// 수집 데이터(posId / accountId)가 어느 회원(테넌트)의 것인지 찾는 로직
+@Component
+@RequiredArgsConstructor
+public class TenantResolver {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<Long> findMemberIdsByPosIds(Collection<Long> posIds) {
+        if (posIds.isEmpty()) {
+            return List.of();
+        }
+        QMember qMember = QMember.member;
+        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+
+        return queryFactory
+                .select(qMember.memberId)
+                .from(qMember)
+                .join(qMember.businessRegistration, qBusinessRegistration)
+                .where(qBusinessRegistration.pos.posId.in(posIds))
+                .fetch();
+    }
+
+    public List<Long> findMemberIdsByAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        QMember qMember = QMember.member;
+        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+
+        return queryFactory
+                .select(qMember.memberId)
+                .from(qMember)
+                .join(qMember.businessRegistration, qBusinessRegistration)
+                .where(qBusinessRegistration.account.accountId.in(accountIds))
+                .fetch();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.service.cache;
+
+import com.example.backend.event.AccountHistoryIngestedEvent;
+import com.example.backend.event.PosSalesIngestedEvent;
+import com.example.backend.service.TenantResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 데이터 수집 이벤트를 받아 해당 테넌트의 분석 캐시 버전을 올림 (계좌 지출은 expense scope 버전도 올림)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsCacheInvalidator {
+
+    private final TenantResolver tenantResolver;
+    private final AnalyticsCacheService analyticsCacheService;
+
+    @EventListener
+    public void onPosSalesIngested(PosSalesIngestedEvent event) {
+        Set<Long> posIds = event.getPosSales().stream()
+                .filter(sale -> sale.getPosId() != null)
+                .map(sale -> sale.getPosId().getPosId())
+                .collect(Collectors.toSet());
+
+        tenantResolver.findMemberIdsByPosIds(posIds).forEach(analyticsCacheService::bumpVersion);
+    }
+
+    @EventListener
+    public void onAccountHistoryIngested(AccountHistoryIngestedEvent event) {
+        Set<Long> accountIds = event.getAccountHistories().stream()
+                .filter(history -> history.getAccount() != null)
+                .map(history -> history.getAccount().getAccountId())
+                .collect(Collectors.toSet());
+
+        tenantResolver.findMemberIdsByAccountIds(accountIds).forEach(memberId -> {
+            analyticsCacheService.bumpVersion(memberId);
+            analyticsCacheService.bumpVersion(memberId, AnalyticsCacheService.EXPENSE_SCOPE);
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.service.cache;
+
+import com.example.backend.service.RedisService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+//////////// 분석 결과 Redis 캐시
+/// 1. 키에 테넌트(회원)별 데이터 버전을 포함: analytics:{memberId}:v{version}:{name}:{args}
+/// 2. 데이터 수집 시 버전만 올리면(INCR) 이전 버전 키는 더 이상 조회되지 않음 -> O(1) 무효화
+/// 3. 이전 버전 키는 TTL 로 자연 만료
+/// 4. Redis 장애 시에는 캐시 없이 DB 에서 계산 (fail-open)
+/// 5. scope 를 지정하면 해당 데이터 출처의 버전만 사용: analytics:{memberId}:{scope}:v{version}:{name}:{args}
+///    (예: 지출 데이터로만 계산하는 결과는 POS 매출이 들어와도 무효화되지 않음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsCacheService {
+
+    private static final String VERSION_KEY_PREFIX = "analytics:ver:";
+    private static final String VALUE_KEY_PREFIX = "analytics:";
+
+    // 계좌 지출 데이터(account_history)로만 계산하는 결과
+    public static final String EXPENSE_SCOPE = "expense";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${analytics.cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    public <T> T getOrLoad(Long memberId, String name, Object args, Class<T> type, Supplier<T> loader) {
+        return getOrLoad(memberId, name, args, objectMapper.constructType(type), loader);
+    }
+
+    public <T> T getOrLoad(Long memberId, String name, Object args, JavaType type, Supplier<T> loader) {
+        return load(memberId, null, name, args, type, loader);
+    }
+
+    public <T> T getOrLoad(Long memberId, String scope, String name, Object args, JavaType type, Supplier<T> loader) {
+        return load(memberId, scope, name, args, type, loader);
+    }
+
+    private <T> T load(Long memberId, String scope, String name, Object args, JavaType type, Supplier<T> loader) {
+        String key;
+        try {
+            String tenant = scope == null ? String.valueOf(memberId) : memberId + ":" + scope;
+            key = VALUE_KEY_PREFIX + tenant + ":v" + currentVersion(memberId, scope) + ":" + name + ":" + args;
+            String cached = redisService.getValue(key);
+            if (cached != null) {
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (Exception e) {
+            log.warn("분석 캐시 조회 실패, DB 에서 계산합니다 - memberId: {}, name: {}, 사유: {}", memberId, name, e.getMessage());
+            return loader.get();
+        }
+
+        T value = loader.get();
+        if (value != null) {
+            try {
+                redisService.saveValue(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+            } catch (Exception e) {
+                log.warn("분석 캐시 저장 실패 - key: {}, 사유: {}", key, e.getMessage());
+            }
+        }
+        return value;
+    }
+
+    // 테넌트 데이터가 바뀌면 버전을 올려 기존 캐시를 한 번에 무효화
+    public void bumpVersion(Long memberId) {
+        bumpVersion(memberId, null);
+    }
+
+    // 특정 데이터 출처(scope)의 캐시만 무효화
+    public void bumpVersion(Long memberId, String scope) {
+        try {
+            redisService.increment(versionKey(memberId, scope));
+        } catch (Exception e) {
+            log.error("분석 캐시 버전 갱신 실패 - memberId: {}, scope: {}", memberId, scope, e);
+        }
+    }
+
+    public long currentVersion(Long memberId) {
+        return currentVersion(memberId, null);
+    }
+
+    public long currentVersion(Long memberId, String scope) {
+        String version = redisService.getValue(versionKey(memberId, scope));
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    private static String versionKey(Long memberId, String scope) {
+        return scope == null ? VERSION_KEY_PREFIX + memberId : VERSION_KEY_PREFIX + memberId + ":" + scope;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backend.service.cache;
+
+import com.example.backend.exception.base_exceptions.ServiceUnavailableException;
+import com.example.backend.service.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+//////////// 같은 키의 생성 작업을 한 번만 실행 (single-flight)
+/// 1. 같은 인스턴스 안에서는 진행 중인 작업의 future 를 공유
+/// 2. 인스턴스 간에는 Redis 락(SET NX + TTL)을 잡은 쪽만 생성하고, 나머지는 결과가 저장될 때까지 조회하며 대기
+///    (조회 간격은 짧게 시작해서 poll-millis 까지 두 배씩, 최대 wait-seconds 만 기다리고 503 -> 요청 스레드를 오래 잡지 않음)
+/// 3. Redis 장애 시에는 락 없이 생성 (DB unique 제약으로 중복 저장 방지)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SingleFlight {
+
+    private static final String LOCK_PREFIX = "lock:";
+
+    private final RedisService redisService;
+
+    @Value("${single-flight.lock-ttl-seconds:120}")
+    private long lockTtlSeconds;
+
+    @Value("${single-flight.wait-seconds:30}")
+    private long waitSeconds;
+
+    @Value("${single-flight.initial-poll-millis:50}")
+    private long initialPollMillis;
+
+    @Value("${single-flight.poll-millis:1000}")
+    private long pollMillis;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // lookup: 이미 저장된 결과 조회, create: 결과 생성 및 저장
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<Optional<T>> lookup, Supplier<T> create) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T result = executeClusterWide(key, lookup, create);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T executeClusterWide(String key, Supplier<Optional<T>> lookup, Supplier<T> create) {
+        String lockKey = LOCK_PREFIX + key;
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(waitSeconds).toMillis();
+        long backoff = initialPollMillis;
+
+        while (true) {
+            Optional<T> existing = lookup.get();
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+
+            String token = UUID.randomUUID().toString();
+            boolean acquired;
+            try {
+                acquired = redisService.setIfAbsent(lockKey, token, Duration.ofSeconds(lockTtlSeconds));
+            } catch (Exception e) {
+                log.warn("Redis 락 획득 실패, 락 없이 진행합니다 - key: {}, 사유: {}", lockKey, e.getMessage());
+                return create.get();
+            }
+
+            if (acquired) {
+                try {
+                    // 락을 기다리는 동안 다른 인스턴스가 저장했을 수 있음
+                    existing = lookup.get();
+                    return existing.orElseGet(create);
+                } finally {
+                    release(lockKey, token);
+                }
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new ServiceUnavailableException("다른 요청에서 생성 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                Thread.sleep(Math.min(backoff, remaining));
+                backoff = Math.min(backoff * 2, pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("생성 대기 중 중단되었습니다.");
+            }
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisService.deleteIfValue(lockKey, token);
+        } catch (Exception e) {
+            log.warn("Redis 락 해제 실패 (TTL 로 만료됨) - key: {}, 사유: {}", lockKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.example.backend.service.hotstore;
+
+import com.example.backend.dto.pos.DailyIncomeDTO;
+import com.example.backend.dto.pos.MonthlyIncomeDTO;
+import com.example.backend.event.AccountHistoryIngestedEvent;
+import com.example.backend.event.PosSalesIngestedEvent;
+import com.example.backend.model.BANK.AccountHistory;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import com.example.backend.util.money.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+//////////// 이번 달 테넌트 데이터 인메모리 컬럼 저장소
+/// 1. 대시보드 조회는 대부분 이번 달이므로 활성 테넌트의 이번 달 pos_sales / account_history(EXPENSE)를 메모리에 보관
+/// 2. 행은 원시 타입 컬럼(시간 epoch second, 원 단위 금액, 사전 인코딩 코드)으로 저장 -> 집계 시 객체 생성 없음
+/// 3. 기동 시 / 매일 0시 DB에서 재구성(CurrentMonthLoader), 이후에는 수집 이벤트로 행 추가 (ID 로 중복 제거)
+/// 3-1. 수집 이벤트는 수집을 실행한 서버에서만 받으므로 hotstore.refresh-ms 마다 DB 에서 새 ID 의 행을 읽어 반영
+///      마지막 반영이 hotstore.max-staleness-ms 보다 오래되면 (DB 장애 등) empty 반환 -> 오래된 값으로 응답하지 않음
+/// 4. hotstore.off-heap=true 이면 컬럼을 direct buffer 에 보관 (GC 대상 힙 크기 유지)
+///
+/// 이번 달이 아니거나 알 수 없는 회원이면 empty 를 반환 -> 호출부에서 기존 방식(캐시/DB)으로 계산
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentMonthHotStore {
+
+    private static final String EXPENSE = "EXPENSE";
+
+    private final CurrentMonthLoader currentMonthLoader;
+    private final ScheduledJobGuard scheduledJobGuard;
+
+    @Value("${hotstore.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hotstore.off-heap:false}")
+    private boolean offHeap;
+
+    @Value("${hotstore.max-staleness-ms:300000}")
+    private long maxStalenessMs;
+
+    // 행 ID + 원 단위 금액 (목표 추적 등 행 단위 중복 제거가 필요한 곳에서 사용)
+    public interface RowAmountVisitor {
+        void visit(long rowId, long won);
+    }
+
+    // 재구성 시 통째로 교체되는 현재 상태 (null 이면 아직 준비 안 됨)
+    private volatile State state;
+
+    private static final class State {
+        final YearMonth month;
+        final Map<Long, Long> posIdByMember;
+        final Map<Long, Long> accountIdByMember;
+        final Map<Long, TenantSegment> posSegments = new ConcurrentHashMap<>();
+        final Map<Long, TenantSegment> expenseSegments = new ConcurrentHashMap<>();
+        final StringDictionary products = new StringDictionary();
+        final StringDictionary categories = new StringDictionary();
+        // 재구성 때 적재한 ID + 이후 이벤트로 적재한 ID (같은 행이 다시 들어와도 중복 적재하지 않음)
+        // IDENTITY ID 는 커밋 순서와 다를 수 있어 최대 ID 기준으로 거르면 늦게 커밋된 작은 ID 가 빠짐
+        final long[] loadedPosSalesIds;
+        final long[] loadedAccountHistoryIds;
+        final Set<Long> ingestedPosSalesIds = new HashSet<>();
+        final Set<Long> ingestedAccountHistoryIds = new HashSet<>();
+        // 주기적 DB 반영 조회 기준 (이 ID 보다 큰 행), 커밋이 늦은 행을 놓치지 않도록 한 주기 전까지 본 최대 ID 로 둠
+        long posSalesAfter;
+        long posSalesMaxSeen;
+        long accountHistoryAfter;
+        long accountHistoryMaxSeen;
+        // 마지막으로 DB 와 맞춘 시각 (재구성 / 주기적 반영)
+        volatile long syncedAt = System.currentTimeMillis();
+
+        State(YearMonth month, Map<Long, Long> posIdByMember, Map<Long, Long> accountIdByMember,
+              long[] loadedPosSalesIds, long[] loadedAccountHistoryIds) {
+            this.month = month;
+            this.posIdByMember = posIdByMember;
+            this.accountIdByMember = accountIdByMember;
+            this.loadedPosSalesIds = loadedPosSalesIds;
+            this.loadedAccountHistoryIds = loadedAccountHistoryIds;
+            this.posSalesAfter = this.posSalesMaxSeen = max(loadedPosSalesIds);
+            this.accountHistoryAfter = this.accountHistoryMaxSeen = max(loadedAccountHistoryIds);
+        }
+
+        private static long max(long[] sortedIds) {
+            return sortedIds.length == 0 ? 0L : sortedIds[sortedIds.length - 1];
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${hotstore.rebuild.cron:5 0 0 * * *}") // 기본값: 매일 00:00:05 (1일에는 새 달로 교체)
+    public void scheduledRebuild() {
+        scheduledJobGuard.run("hotstore-rebuild", this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${hotstore.refresh-ms:60000}", initialDelayString = "${hotstore.refresh-ms:60000}")
+    public void scheduledRefresh() {
+        scheduledJobGuard.run("hotstore-refresh", this::refresh);
+    }
+
+    // 다른 서버가 수집한 행을 DB 에서 읽어 반영 (조회는 락 밖에서, 적재는 이벤트와 같은 락 안에서)
+    // 이미 적재한 행은 ID 로 건너뛰므로 두 번 읽혀도 됨, 한 주기보다 늦게 커밋된 행은 다음 재구성에서 반영
+    public void refresh() {
+        State current = state;
+        if (current == null) {
+            return;
+        }
+        if (!current.month.equals(YearMonth.now())) {
+            rebuild();
+            return;
+        }
+
+        long posSalesAfter;
+        long accountHistoryAfter;
+        synchronized (this) {
+            posSalesAfter = current.posSalesAfter;
+            accountHistoryAfter = current.accountHistoryAfter;
+        }
+        try {
+            apply(current, currentMonthLoader.loadAfter(current.month, posSalesAfter, accountHistoryAfter));
+        } catch (Exception e) {
+            log.warn("이번 달 인메모리 저장소 DB 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void apply(State current, CurrentMonthLoader.Delta delta) {
+        if (state != current) {
+            return; // 조회 중 재구성됨 -> 새 상태에 이미 포함
+        }
+        long posSalesMax = current.posSalesMaxSeen;
+        for (CurrentMonthLoader.SaleRow sale : delta.sales()) {
+            posSalesMax = Math.max(posSalesMax, sale.posSalesId());
+            if (firstSeen(current.loadedPosSalesIds, current.ingestedPosSalesIds, sale.posSalesId())) {
+                appendSale(current, sale.posSalesId(), sale.posId(), sale.orderTime(), sale.totalPrice(), sale.productName(), sale.paymentType());
+            }
+        }
+        long accountHistoryMax = current.accountHistoryMaxSeen;
+        for (CurrentMonthLoader.ExpenseRow expense : delta.expenses()) {
+            accountHistoryMax = Math.max(accountHistoryMax, expense.accountHistoryId());
+            if (firstSeen(current.loadedAccountHistoryIds, current.ingestedAccountHistoryIds, expense.accountHistoryId())) {
+                appendExpense(current, expense.accountHistoryId(), expense.accountId(), expense.transactionDate(), expense.amount(), expense.category());
+            }
+        }
+
+        current.posSalesAfter = current.posSalesMaxSeen;
+        current.posSalesMaxSeen = posSalesMax;
+        current.accountHistoryAfter = current.accountHistoryMaxSeen;
+        current.accountHistoryMaxSeen = accountHistoryMax;
+        current.syncedAt = System.currentTimeMillis();
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        YearMonth month = YearMonth.now();
+
+        try {
+            CurrentMonthLoader.Rows rows = currentMonthLoader.load(month);
+
+            long[] posSalesIds = rows.sales().stream().mapToLong(CurrentMonthLoader.SaleRow::posSalesId).sorted().toArray();
+            long[] accountHistoryIds = rows.expenses().stream().mapToLong(CurrentMonthLoader.ExpenseRow::accountHistoryId).sorted().toArray();
+
+            State next = new State(month, rows.posIdByMember(), rows.accountIdByMember(), posSalesIds, accountHistoryIds);
+            for (CurrentMonthLoader.SaleRow sale : rows.sales()) {
+                appendSale(next, sale.posSalesId(), sale.posId(), sale.orderTime(), sale.totalPrice(), sale.productName(), sale.paymentType());
+            }
+            for (CurrentMonthLoader.ExpenseRow expense : rows.expenses()) {
+                appendExpense(next, expense.accountHistoryId(), expense.accountId(), expense.transactionDate(), expense.amount(), expense.category());
+            }
+
+            state = next;
+            log.info("이번 달 인메모리 저장소 재구성 완료 - month: {}, 매출 {}건, 지출 {}건, {}ms",
+                    month, rows.sales().size(), rows.expenses().size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // 재구성 실패 시 저장소를 비활성화하고 DB 조회로 동작
+            state = null;
+            log.error("이번 달 인메모리 저장소 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 수집 이벤트는 재구성과 직렬화 (재구성 중 들어온 행은 새 상태에 반영되고, 이미 적재한 ID 는 건너뜀)
+    @EventListener
+    public synchronized void onPosSalesIngested(PosSalesIngestedEvent event) {
+        State current = state;
+        if (current == null) {
+            return;
+        }
+        for (PosSales sale : event.getPosSales()) {
+            if (sale.getPosId() == null || sale.getPosSalesId() == null
+                    || !firstSeen(current.loadedPosSalesIds, current.ingestedPosSalesIds, sale.getPosSalesId())) {
+                continue;
+            }
+            appendSale(current, sale.getPosSalesId(), sale.getPosId().getPosId(), sale.getOrderTime(),
+                    sale.getTotalPrice(), sale.getProductName(), sale.getPaymentType());
+        }
+    }
+
+    @EventListener
+    public synchronized void onAccountHistoryIngested(AccountHistoryIngestedEvent event) {
+        State current = state;
+        if (current == null) {
+            return;
+        }
+        for (AccountHistory history : event.getAccountHistories()) {
+            if (history.getAccount() == null || !EXPENSE.equals(history.getTransactionType()) || history.getAccountHistoryId() == null
+                    || !firstSeen(current.loadedAccountHistoryIds, current.ingestedAccountHistoryIds, history.getAccountHistoryId())) {
+                continue;
+            }
+            appendExpense(current, history.getAccountHistoryId(), history.getAccount().getAccountId(), history.getTransactionDate(),
+                    history.getAmount(), history.getCategory());
+        }
+    }
+
+    // 재구성 때 읽은 ID(정렬 배열) 또는 이미 이벤트로 받은 ID 이면 false
+    private static boolean firstSeen(long[] loaded, Set<Long> ingested, long id) {
+        return Arrays.binarySearch(loaded, id) < 0 && ingested.add(id);
+    }
+
+    // 해당 월을 메모리에서 응답할 수 있는지 확인
+    public boolean covers(YearMonth month) {
+        return usable(state, month);
+    }
+
+    // 같은 월이고 DB 와 맞춘 지 max-staleness-ms 이내인 상태만 사용
+    private boolean usable(State current, YearMonth month) {
+        return current != null && current.month.equals(month)
+                && System.currentTimeMillis() - current.syncedAt <= maxStalenessMs;
+    }
+
+    ///////// 매출 집계 (PosService)
+
+    // 월 매출 요약 및 일별(주문 시간 + 결제 유형 단위) 매출 리스트
+    public Optional<MonthlyIncomeDTO> monthlyIncome(Long memberId, YearMonth month) {
+        State current = state;
+        Long posId = posIdOf(current, memberId, month);
+        if (posId == null) {
+            return Optional.empty();
+        }
+
+        long[] totals = new long[PaymentTypeEnum.values().length];
+        // key: epoch second * 결제 유형 개수 + 결제 유형 -> 시간순 정렬
+        TreeMap<Long, long[]> grouped = new TreeMap<>();
+        int paymentTypes = totals.length;
+        TenantSegment segment = current.posSegments.get(posId);
+        if (segment != null) {
+            segment.scan((time, amount, code, attr) -> {
+                totals[attr] += amount;
+                grouped.computeIfAbsent(time * paymentTypes + attr, key -> new long[1])[0] += amount;
+            });
+        }
+
+        List<DailyIncomeDTO> dailyIncomeList = new ArrayList<>(grouped.size());
+        grouped.forEach((key, sum) -> {
+            int attr = (int) (key % paymentTypes);
+            BigDecimal amount = Money.toBigDecimal(sum[0]);
+            dailyIncomeList.add(new DailyIncomeDTO(
+                    LocalDateTime.ofEpochSecond(key / paymentTypes, 0, ZoneOffset.UTC).toLocalDate(),
+                    amount,
+                    attr == PaymentTypeEnum.CARD.ordinal() ? amount : BigDecimal.ZERO,
+                    attr == PaymentTypeEnum.CASH.ordinal() ? amount : BigDecimal.ZERO
+            ));
+        });
+
+        long total = 0L;
+        for (long value : totals) {
+            total += value;
+        }
+        return Optional.of(new MonthlyIncomeDTO(
+                Money.toBigDecimal(total),
+                Money.toBigDecimal(totals[PaymentTypeEnum.CARD.ordinal()]),
+                Money.toBigDecimal(totals[PaymentTypeEnum.CASH.ordinal()]),
+                dailyIncomeList
+        ));
+    }
+
+    // 월 매출 합계 (이번 달 행이 없으면 empty -> 호출부 DB sum() 이 기존과 같이 null 반환)
+    public Optional<BigDecimal> monthlyRevenue(Long memberId, YearMonth month) {
+        State current = state;
+        Long posId = posIdOf(current, memberId, month);
+        if (posId == null) {
+            return Optional.empty();
+        }
+        return sum(current.posSegments.get(posId));
+    }
+
+    ///////// 지출 집계 (AccountService)
+
+    // 월 지출 합계 (이번 달 행이 없으면 empty -> 호출부 DB sum() 이 기존과 같이 null 반환)
+    public Optional<BigDecimal> totalExpenses(Long memberId, YearMonth month) {
+        State current = state;
+        Long accountId = accountIdOf(current, memberId, month);
+        if (accountId == null) {
+            return Optional.empty();
+        }
+        return sum(current.expenseSegments.get(accountId));
+    }
+
+    // 월 카테고리별 지출 합계
+    public Optional<Map<String, BigDecimal>> categoryExpenses(Long memberId, YearMonth month) {
+        State current = state;
+        Long accountId = accountIdOf(current, memberId, month);
+        if (accountId == null) {
+            return Optional.empty();
+        }
+
+        Map<String, BigDecimal> result = new HashMap<>();
+        TenantSegment segment = current.expenseSegments.get(accountId);
+        if (segment == null) {
+            return Optional.of(result);
+        }
+
+        // 사전 코드 순서대로 long 배열에 누적 (null 카테고리는 마지막 칸)
+        int nullSlot = current.categories.size();
+        long[] sums = new long[nullSlot + 1];
+        boolean[] present = new boolean[nullSlot + 1];
+        segment.scan((time, amount, code, attr) -> {
+            int slot;
+            if (code == StringDictionary.NULL_CODE) {
+                slot = nullSlot;
+            } else if (code < nullSlot) {
+                slot = code;
+            } else {
+                return; // 스캔 도중 새로 추가된 카테고리는 다음 조회에 반영
+            }
+            sums[slot] += amount;
+            present[slot] = true;
+        });
+        for (int i = 0; i < sums.length; i++) {
+            if (present[i]) {
+                result.put(i == nullSlot ? null : current.categories.decode(i), Money.toBigDecimal(sums[i]));
+            }
+        }
+        return Optional.of(result);
+    }
+
+    ///////// 행 단위 조회 (GoalProgressTracker)
+
+    // posId 의 해당 월 매출 행 (이번 달이 아니면 false -> 호출부에서 DB 조회)
+    public boolean scanSales(Long posId, YearMonth month, RowAmountVisitor visitor) {
+        State current = state;
+        if (posId == null || !usable(current, month)) {
+            return false;
+        }
+        TenantSegment segment = current.posSegments.get(posId);
+        if (segment != null) {
+            segment.scanAmounts(visitor);
+        }
+        return true;
+    }
+
+    // accountId 의 해당 월 지출 행
+    public boolean scanExpenses(Long accountId, YearMonth month, RowAmountVisitor visitor) {
+        State current = state;
+        if (accountId == null || !usable(current, month)) {
+            return false;
+        }
+        TenantSegment segment = current.expenseSegments.get(accountId);
+        if (segment != null) {
+            segment.scanAmounts(visitor);
+        }
+        return true;
+    }
+
+    private Long posIdOf(State current, Long memberId, YearMonth month) {
+        if (!usable(current, month)) {
+            return null;
+        }
+        return current.posIdByMember.get(memberId);
+    }
+
+    private Long accountIdOf(State current, Long memberId, YearMonth month) {
+        if (!usable(current, month)) {
+            return null;
+        }
+        return current.accountIdByMember.get(memberId);
+    }
+
+    // 행이 하나도 없으면 0 이 아니라 "데이터 없음"
+    private Optional<BigDecimal> sum(TenantSegment segment) {
+        if (segment == null || segment.size() == 0) {
+            return Optional.empty();
+        }
+        long[] total = new long[1];
+        segment.scan((time, amount, code, attr) -> total[0] += amount);
+        return Optional.of(Money.toBigDecimal(total[0]));
+    }
+
+    private void appendSale(State target, long posSalesId, Long posId, LocalDateTime orderTime, BigDecimal totalPrice,
+                            String productName, PaymentTypeEnum paymentType) {
+        if (posId == null || orderTime == null || paymentType == null || !YearMonth.from(orderTime).equals(target.month)) {
+            return;
+        }
+        target.posSegments.computeIfAbsent(posId, id -> new TenantSegment(offHeap))
+                .append(posSalesId, orderTime.toEpochSecond(ZoneOffset.UTC), Money.toWon(totalPrice),
+                        target.products.encode(productName), paymentType.ordinal());
+    }
+
+    private void appendExpense(State target, long accountHistoryId, Long accountId, LocalDateTime transactionDate, BigDecimal amount, String category) {
+        if (accountId == null || transactionDate == null || !YearMonth.from(transactionDate).equals(target.month)) {
+            return;
+        }
+        target.expenseSegments.computeIfAbsent(accountId, id -> new TenantSegment(offHeap))
+                .append(accountHistoryId, transactionDate.toEpochSecond(ZoneOffset.UTC), Money.toWon(amount),
+                        target.categories.encode(category), 0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.backend.service.hotstore;
+
+import com.example.backend.model.BANK.QAccount;
+import com.example.backend.model.BANK.QAccountHistory;
+import com.example.backend.model.BUSINESS.QBusinessRegistration;
+import com.example.backend.model.POS.QPos;
+import com.example.backend.model.POS.QPosSales;
+import com.example.backend.model.QMember;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// CurrentMonthHotStore 재구성용 DB 조회 (활성 테넌트 + 해당 월 매출 / 지출 행)
+@Component
+@RequiredArgsConstructor
+public class CurrentMonthLoader {
+
+    private static final String EXPENSE = "EXPENSE";
+
+    private final JPAQueryFactory queryFactory;
+
+    public record SaleRow(long posSalesId, Long posId, LocalDateTime orderTime, BigDecimal totalPrice,
+                          String productName, PaymentTypeEnum paymentType) {
+    }
+
+    public record ExpenseRow(long accountHistoryId, Long accountId, LocalDateTime transactionDate,
+                             BigDecimal amount, String category) {
+    }
+
+    public record Rows(Map<Long, Long> posIdByMember, Map<Long, Long> accountIdByMember,
+                       List<SaleRow> sales, List<ExpenseRow> expenses) {
+    }
+
+    public record Delta(List<SaleRow> sales, List<ExpenseRow> expenses) {
+    }
+
+    public Rows load(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.atEndOfMonth().atTime(23, 59, 59);
+
+        // 1. 활성 테넌트(사업자 등록된 회원)의 posId / accountId
+        QMember qMember = QMember.member;
+        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+        QPos qPos = QPos.pos;
+        QAccount qAccount = QAccount.account;
+        List<Tuple> tenants = queryFactory
+                .select(qMember.memberId, qPos.posId, qAccount.accountId)
+                .from(qMember)
+                .join(qMember.businessRegistration, qBusinessRegistration)
+                .leftJoin(qBusinessRegistration.pos, qPos)
+                .leftJoin(qBusinessRegistration.account, qAccount)
+                .fetch();
+
+        Map<Long, Long> posIdByMember = new HashMap<>();
+        Map<Long, Long> accountIdByMember = new HashMap<>();
+        for (Tuple tenant : tenants) {
+            Long memberId = tenant.get(qMember.memberId);
+            Long posId = tenant.get(qPos.posId);
+            Long accountId = tenant.get(qAccount.accountId);
+            if (posId != null) {
+                posIdByMember.put(memberId, posId);
+            }
+            if (accountId != null) {
+                accountIdByMember.put(memberId, accountId);
+            }
+        }
+
+        // 2. 해당 월 매출 / 3. 해당 월 지출
+        List<SaleRow> sales = sales(from, to, null);
+        List<ExpenseRow> expenses = expenses(from, to, null);
+
+        return new Rows(posIdByMember, accountIdByMember, sales, expenses);
+    }
+
+    // 해당 월 행 중 ID 가 기준보다 큰 것만 (다른 서버가 수집한 행을 주기적으로 반영)
+    public Delta loadAfter(YearMonth month, long posSalesIdAfter, long accountHistoryIdAfter) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.atEndOfMonth().atTime(23, 59, 59);
+        return new Delta(sales(from, to, posSalesIdAfter), expenses(from, to, accountHistoryIdAfter));
+    }
+
+    private List<SaleRow> sales(LocalDateTime from, LocalDateTime to, Long idAfter) {
+        QPosSales qPosSales = QPosSales.posSales;
+        List<Tuple> salesTuples = queryFactory
+                .select(qPosSales.posSalesId, qPosSales.posId.posId, qPosSales.orderTime,
+                        qPosSales.totalPrice, qPosSales.productName, qPosSales.paymentType)
+                .from(qPosSales)
+                .where(qPosSales.orderTime.between(from, to),
+                        idAfter == null ? null : qPosSales.posSalesId.gt(idAfter))
+                .fetch();
+        List<SaleRow> sales = new ArrayList<>(salesTuples.size());
+        for (Tuple sale : salesTuples) {
+            sales.add(new SaleRow(sale.get(qPosSales.posSalesId), sale.get(qPosSales.posId.posId), sale.get(qPosSales.orderTime),
+                    sale.get(qPosSales.totalPrice), sale.get(qPosSales.productName), sale.get(qPosSales.paymentType)));
+        }
+        return sales;
+    }
+
+    private List<ExpenseRow> expenses(LocalDateTime from, LocalDateTime to, Long idAfter) {
+        QAccountHistory qAccountHistory = QAccountHistory.accountHistory;
+        List<Tuple> expenseTuples = queryFactory
+                .select(qAccountHistory.accountHistoryId, qAccountHistory.account.accountId, qAccountHistory.transactionDate,
+                        qAccountHistory.amount, qAccountHistory.category)
+                .from(qAccountHistory)
+                .where(qAccountHistory.transactionType.eq(EXPENSE)
+                        .and(qAccountHistory.transactionDate.between(from, to)),
+                        idAfter == null ? null : qAccountHistory.accountHistoryId.gt(idAfter))
+                .fetch();
+        List<ExpenseRow> expenses = new ArrayList<>(expenseTuples.size());
+        for (Tuple expense : expenseTuples) {
+            expenses.add(new ExpenseRow(expense.get(qAccountHistory.accountHistoryId), expense.get(qAccountHistory.account.accountId),
+                    expense.get(qAccountHistory.transactionDate), expense.get(qAccountHistory.amount), expense.get(qAccountHistory.category)));
+        }
+        return expenses;
+    }
+}
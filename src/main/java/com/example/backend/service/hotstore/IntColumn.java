@@ -0,0 +1,60 @@
+package com.example.backend.service.hotstore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+// int 컬럼 (사전 인코딩 코드 저장용), 동기화는 소유 세그먼트에서 처리
+final class IntColumn {
+
+    private final boolean offHeap;
+    private int[] heap;
+    private IntBuffer direct;
+    private int capacity;
+
+    IntColumn(int capacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.capacity = capacity;
+        if (offHeap) {
+            direct = allocateDirect(capacity);
+        } else {
+            heap = new int[capacity];
+        }
+    }
+
+    int get(int index) {
+        return offHeap ? direct.get(index) : heap[index];
+    }
+
+    void set(int index, int value) {
+        ensureCapacity(index + 1);
+        if (offHeap) {
+            direct.put(index, value);
+        } else {
+            heap[index] = value;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(needed, capacity * 2);
+        if (offHeap) {
+            IntBuffer grown = allocateDirect(newCapacity);
+            IntBuffer source = direct.duplicate();
+            source.clear();
+            grown.put(source);
+            grown.clear();
+            direct = grown;
+        } else {
+            heap = Arrays.copyOf(heap, newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private static IntBuffer allocateDirect(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
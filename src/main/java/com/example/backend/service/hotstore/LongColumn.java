@@ -0,0 +1,60 @@
+package com.example.backend.service.hotstore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+// long 컬럼 (heap long[] 또는 off-heap direct buffer), 동기화는 소유 세그먼트에서 처리
+final class LongColumn {
+
+    private final boolean offHeap;
+    private long[] heap;
+    private LongBuffer direct;
+    private int capacity;
+
+    LongColumn(int capacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.capacity = capacity;
+        if (offHeap) {
+            direct = allocateDirect(capacity);
+        } else {
+            heap = new long[capacity];
+        }
+    }
+
+    long get(int index) {
+        return offHeap ? direct.get(index) : heap[index];
+    }
+
+    void set(int index, long value) {
+        ensureCapacity(index + 1);
+        if (offHeap) {
+            direct.put(index, value);
+        } else {
+            heap[index] = value;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(needed, capacity * 2);
+        if (offHeap) {
+            LongBuffer grown = allocateDirect(newCapacity);
+            LongBuffer source = direct.duplicate();
+            source.clear();
+            grown.put(source);
+            grown.clear();
+            direct = grown;
+        } else {
+            heap = Arrays.copyOf(heap, newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private static LongBuffer allocateDirect(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.service.hotstore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 문자열 <-> int 코드 사전 (카테고리, 상품명 등 반복되는 값 인코딩)
+final class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    synchronized int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    synchronized String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    synchronized int size() {
+        return values.size();
+    }
+}
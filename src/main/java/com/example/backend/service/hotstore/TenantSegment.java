@@ -0,0 +1,52 @@
+package com.example.backend.service.hotstore;
+
+// 테넌트(posId 또는 accountId) 하나의 이번 달 행 데이터 (컬럼 단위 저장)
+// - id: 원본 행 ID, time: epoch second, amount: 원 단위 금액, code: 사전 인코딩 값(상품명/카테고리), attr: 결제 유형/플래그
+final class TenantSegment {
+
+    interface RowVisitor {
+        void visit(long time, long amount, int code, int attr);
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final LongColumn id;
+    private final LongColumn time;
+    private final LongColumn amount;
+    private final IntColumn code;
+    private final IntColumn attr;
+    private int size;
+
+    TenantSegment(boolean offHeap) {
+        this.id = new LongColumn(INITIAL_CAPACITY, offHeap);
+        this.time = new LongColumn(INITIAL_CAPACITY, offHeap);
+        this.amount = new LongColumn(INITIAL_CAPACITY, offHeap);
+        this.code = new IntColumn(INITIAL_CAPACITY, offHeap);
+        this.attr = new IntColumn(INITIAL_CAPACITY, offHeap);
+    }
+
+    synchronized void append(long idValue, long timeValue, long amountValue, int codeValue, int attrValue) {
+        id.set(size, idValue);
+        time.set(size, timeValue);
+        amount.set(size, amountValue);
+        code.set(size, codeValue);
+        attr.set(size, attrValue);
+        size++;
+    }
+
+    synchronized void scan(RowVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(time.get(i), amount.get(i), code.get(i), attr.get(i));
+        }
+    }
+
+    synchronized void scanAmounts(CurrentMonthHotStore.RowAmountVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(id.get(i), amount.get(i));
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.backend.service.llm;
+
+import com.example.backend.model.BUSINESS.LlmResponseCache;
+import com.example.backend.repository.LlmResponseCacheRepository;
+import com.example.backend.service.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+//////////// LLM 응답 캐시 (요청 내용 기반 키)
+/// 1. 요청 본문(model, messages, functions)을 키 정렬된 JSON 으로 정규화한 뒤 SHA-256 해시를 키로 사용
+///    -> 사업자/재시도/재생성과 관계없이 같은 프롬프트면 같은 키
+/// 2. Redis(llm:resp:{hash}) -> DB(llm_response_cache) -> 실제 LLM 순서로 조회
+/// 3. 호출 실패(예외)는 캐시하지 않음
+@Component
+@Primary
+@Slf4j
+public class CachingLlmClient implements LlmClient {
+
+    private static final String KEY_PREFIX = "llm:resp:";
+
+    private final LlmClient delegate;
+    private final RedisService redisService;
+    private final LlmResponseCacheRepository llmResponseCacheRepository;
+    private final ObjectMapper objectMapper;
+    // 해시 계산용: Map 키 / 프로퍼티를 정렬해서 직렬화 (Map.of 순서와 무관하게 같은 문자열)
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    @Value("${llm.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${llm.cache.ttl-days:30}")
+    private long ttlDays;
+
+    public CachingLlmClient(@Qualifier("llmProvider") LlmClient delegate,
+                            RedisService redisService,
+                            LlmResponseCacheRepository llmResponseCacheRepository,
+                            ObjectMapper objectMapper) {
+        this.delegate = delegate;
+        this.redisService = redisService;
+        this.llmResponseCacheRepository = llmResponseCacheRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, Object> callFunction(Map<String, Object> requestBody) {
+        if (!enabled) {
+            return delegate.callFunction(requestBody);
+        }
+
+        String hash = hash(requestBody);
+
+        Optional<Map<String, Object>> cached = lookup(hash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Map<String, Object> response = delegate.callFunction(requestBody);
+        store(hash, response);
+        return response;
+    }
+
+    // 캐시에 있으면 조각 없이 바로 결과 반환, 없으면 스트리밍 후 저장
+    @Override
+    public Map<String, Object> streamFunction(Map<String, Object> requestBody, Consumer<String> onArgumentsDelta) {
+        if (!enabled) {
+            return delegate.streamFunction(requestBody, onArgumentsDelta);
+        }
+
+        String hash = hash(requestBody);
+
+        Optional<Map<String, Object>> cached = lookup(hash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Map<String, Object> response = delegate.streamFunction(requestBody, onArgumentsDelta);
+        store(hash, response);
+        return response;
+    }
+
+    // 정규화한 요청 본문의 SHA-256 (hex)
+    String hash(Map<String, Object> requestBody) {
+        try {
+            byte[] canonical = canonicalMapper.writeValueAsBytes(requestBody);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("LLM 요청 해시 계산 실패", e);
+        }
+    }
+
+    private Optional<Map<String, Object>> lookup(String hash) {
+        String key = KEY_PREFIX + hash;
+        try {
+            String value = redisService.getValue(key);
+            if (value != null) {
+                return Optional.of(parse(value));
+            }
+        } catch (Exception e) {
+            log.warn("LLM 캐시(Redis) 조회 실패 - key: {}, 사유: {}", key, e.getMessage());
+        }
+
+        try {
+            Optional<LlmResponseCache> stored = llmResponseCacheRepository.findByRequestHash(hash);
+            if (stored.isPresent()) {
+                // Redis 에 다시 올려 둠
+                saveToRedis(key, stored.get().getResponse());
+                return Optional.of(parse(stored.get().getResponse()));
+            }
+        } catch (Exception e) {
+            log.warn("LLM 캐시(DB) 조회 실패 - hash: {}, 사유: {}", hash, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private void store(String hash, Map<String, Object> response) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.warn("LLM 응답 직렬화 실패 - hash: {}, 사유: {}", hash, e.getMessage());
+            return;
+        }
+
+        saveToRedis(KEY_PREFIX + hash, value);
+        try {
+            LlmResponseCache entry = new LlmResponseCache();
+            entry.setRequestHash(hash);
+            entry.setResponse(value);
+            llmResponseCacheRepository.save(entry);
+        } catch (Exception e) {
+            // 동시에 같은 요청이 저장된 경우(unique) 포함, 캐시 저장 실패는 무시
+            log.debug("LLM 캐시(DB) 저장 생략 - hash: {}, 사유: {}", hash, e.getMessage());
+        }
+    }
+
+    private void saveToRedis(String key, String value) {
+        try {
+            redisService.saveValue(key, value, Duration.ofDays(ttlDays));
+        } catch (Exception e) {
+            log.warn("LLM 캐시(Redis) 저장 실패 - key: {}, 사유: {}", key, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> parse(String value) throws JsonProcessingException {
+        return objectMapper.readValue(value, new TypeReference<Map<String, Object>>() {});
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.service.llm;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+// LLM 호출 추상화 (OpenAI / 테스트용 가짜 구현 교체 가능)
+public interface LlmClient {
+
+    // chat/completions 요청 본문(model, messages, functions, function_call)을 보내고
+    // function_call 의 arguments 를 파싱한 결과를 반환 (실패 시 ServiceUnavailableException)
+    Map<String, Object> callFunction(Map<String, Object> requestBody);
+
+    // 스트리밍 호출: arguments JSON 조각이 도착할 때마다 onArgumentsDelta 로 전달하고, 끝나면 전체 결과 반환
+    // 스트리밍을 지원하지 않는 구현은 한 번에 호출 (조각 없이 결과만 반환)
+    default Map<String, Object> streamFunction(Map<String, Object> requestBody, Consumer<String> onArgumentsDelta) {
+        return callFunction(requestBody);
+    }
+}
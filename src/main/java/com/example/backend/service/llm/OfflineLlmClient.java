@@ -0,0 +1,145 @@
+package com.example.backend.service.llm;
+
+import com.example.backend.exception.base_exceptions.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+//////////// 네트워크 없이 동작하는 LLM (llm.provider=offline, 부하 테스트용)
+/// 1. 요청의 function 스키마(parameters.properties)에 맞춰 응답 생성, 같은 요청이면 항상 같은 응답
+/// 2. 지연(latency-ms + jitter-ms)과 실패율(failure-rate)을 설정으로 주입 -> 캐시 / 타임아웃 / 처리량을 재현 가능하게 측정
+/// 3. 실패 여부는 seed 고정 난수로 결정 (같은 순서로 호출하면 같은 결과)
+@Component
+@Qualifier("llmProvider")
+@ConditionalOnProperty(name = "llm.provider", havingValue = "offline")
+@Slf4j
+public class OfflineLlmClient implements LlmClient {
+
+    // 요청 본문을 키 정렬된 JSON 으로 만들어 해시 (Map.of 순회 순서는 실행마다 다름)
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double failureRate;
+    private final int streamChunkChars;
+    private final Random random;
+
+    public OfflineLlmClient(@Value("${llm.offline.latency-ms:800}") long latencyMs,
+                            @Value("${llm.offline.jitter-ms:200}") long jitterMs,
+                            @Value("${llm.offline.failure-rate:0.0}") double failureRate,
+                            @Value("${llm.offline.stream-chunk-chars:16}") int streamChunkChars,
+                            @Value("${llm.offline.seed:42}") long seed) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.failureRate = failureRate;
+        this.streamChunkChars = Math.max(1, streamChunkChars);
+        this.random = new Random(seed);
+        log.warn("오프라인 LLM 사용 중 - latency: {}ms(+{}ms), failure-rate: {}", latencyMs, jitterMs, failureRate);
+    }
+
+    @Override
+    public Map<String, Object> callFunction(Map<String, Object> requestBody) {
+        long requestHash = hash(requestBody);
+        sleep(latency(requestHash));
+        failIfInjected();
+        return respond(requestBody, requestHash);
+    }
+
+    // 응답 JSON 을 streamChunkChars 글자씩 나눠 전달, 지연도 조각 수만큼 나눔
+    @Override
+    public Map<String, Object> streamFunction(Map<String, Object> requestBody, Consumer<String> onArgumentsDelta) {
+        long requestHash = hash(requestBody);
+        Map<String, Object> response = respond(requestBody, requestHash);
+
+        String arguments;
+        try {
+            arguments = canonicalMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오프라인 응답 직렬화 실패", e);
+        }
+
+        int chunks = (arguments.length() + streamChunkChars - 1) / streamChunkChars;
+        long perChunk = latency(requestHash) / Math.max(1, chunks);
+        failIfInjected();
+        for (int start = 0; start < arguments.length(); start += streamChunkChars) {
+            sleep(perChunk);
+            onArgumentsDelta.accept(arguments.substring(start, Math.min(arguments.length(), start + streamChunkChars)));
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> respond(Map<String, Object> requestBody, long requestHash) {
+        Map<String, Object> properties = Map.of();
+        Object functions = requestBody.get("functions");
+        if (functions instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map<?, ?> function
+                && function.get("parameters") instanceof Map<?, ?> parameters
+                && parameters.get("properties") instanceof Map<?, ?> props) {
+            properties = (Map<String, Object>) props;
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        new TreeMap<>(properties).forEach((name, schema) -> {
+            String type = schema instanceof Map<?, ?> map ? String.valueOf(map.get("type")) : "string";
+            long value = Math.floorMod(requestHash ^ name.hashCode(), 1000);
+            switch (type) {
+                case "integer", "number" -> response.put(name, value);
+                case "array" -> response.put(name, List.of(
+                        "[offline] " + name + " #1-" + value,
+                        "[offline] " + name + " #2-" + value));
+                default -> response.put(name, "[offline] " + name + " #" + value);
+            }
+        });
+        return response;
+    }
+
+    private long hash(Map<String, Object> requestBody) {
+        CRC32 crc = new CRC32();
+        try {
+            crc.update(canonicalMapper.writeValueAsString(requestBody).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            crc.update(String.valueOf(requestBody).getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+
+    // 요청마다 고정된 지연 (latency-ms ~ latency-ms + jitter-ms)
+    private long latency(long requestHash) {
+        return latencyMs + (jitterMs > 0 ? requestHash % (jitterMs + 1) : 0);
+    }
+
+    private void failIfInjected() {
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            throw new ServiceUnavailableException("오프라인 LLM 실패 주입");
+        }
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("LLM 호출 대기 중 중단되었습니다.");
+        }
+    }
+}
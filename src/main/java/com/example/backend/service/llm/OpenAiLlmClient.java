@@ -0,0 +1,133 @@
+package com.example.backend.service.llm;
+
+import com.example.backend.config.UpstreamResilience;
+import com.example.backend.exception.base_exceptions.ServiceUnavailableException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// llm.provider=openai (기본값), API 키는 이 구현을 사용할 때만 필요
+@Component
+@Qualifier("llmProvider")
+@ConditionalOnProperty(name = "llm.provider", havingValue = "openai", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OpenAiLlmClient implements LlmClient {
+
+    private static final String OPENAI_API_URL = "https://api.openai.com/v1";
+
+    private final ObjectMapper objectMapper;
+    private final WebClient.Builder webClientBuilder;
+    private final UpstreamResilience upstreamResilience;
+
+    @Value("${OPENAI_API_KEY:}")
+    private String openAiApiKey;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    public void init() {
+        if (openAiApiKey == null || openAiApiKey.isEmpty()) {
+            log.error("API 키가 설정되지 않았습니다.");
+            throw new IllegalStateException("API 키가 설정되지 않았습니다.");
+        }
+
+        this.webClient = upstreamResilience.apply(webClientBuilder, "openai")
+                .baseUrl(OPENAI_API_URL)
+                .defaultHeader("Authorization", "Bearer " + openAiApiKey.trim())
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    @Override
+    public Map<String, Object> callFunction(Map<String, Object> requestBody) {
+        try {
+            String response = webClient.post()
+                    .uri("/chat/completions")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            // function_call.arguments 는 문자열이므로 다시 JSON 으로 파싱
+            JsonNode rootNode = objectMapper.readTree(response);
+            JsonNode argumentsNode = rootNode.path("choices").get(0).path("message").path("function_call").path("arguments");
+            return objectMapper.readValue(argumentsNode.asText(), new TypeReference<Map<String, Object>>() {});
+
+        } catch (WebClientResponseException e) {
+            log.error("API 호출 오류: {}", e.getResponseBodyAsString());
+            throw new ServiceUnavailableException("API 호출 오류 발생");
+        } catch (Exception e) {
+            log.error("예상치 못한 오류 발생: {}", e.getMessage());
+            throw new ServiceUnavailableException("예상치 못한 오류 발생");
+        }
+    }
+
+    // stream=true 로 호출하면 delta.function_call.arguments 조각이 SSE 로 전달됨
+    @Override
+    public Map<String, Object> streamFunction(Map<String, Object> requestBody, Consumer<String> onArgumentsDelta) {
+        Map<String, Object> streamingBody = new HashMap<>(requestBody);
+        streamingBody.put("stream", true);
+
+        StringBuilder arguments = new StringBuilder();
+        try {
+            webClient.post()
+                    .uri("/chat/completions")
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(streamingBody)
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                    .map(ServerSentEvent::data)
+                    .takeWhile(data -> !"[DONE]".equals(data))
+                    .doOnNext(data -> {
+                        String delta = argumentsDelta(data);
+                        if (!delta.isEmpty()) {
+                            arguments.append(delta);
+                            onArgumentsDelta.accept(delta);
+                        }
+                    })
+                    .blockLast();
+
+            return objectMapper.readValue(arguments.toString(), new TypeReference<Map<String, Object>>() {});
+
+        } catch (WebClientResponseException e) {
+            log.error("API 스트리밍 호출 오류: {}", e.getResponseBodyAsString());
+            throw new ServiceUnavailableException("API 호출 오류 발생");
+        } catch (Exception e) {
+            log.error("스트리밍 중 예상치 못한 오류 발생: {}", e.getMessage());
+            throw new ServiceUnavailableException("예상치 못한 오류 발생");
+        }
+    }
+
+    private String argumentsDelta(String data) {
+        if (data == null || data.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode choices = objectMapper.readTree(data).path("choices");
+            if (choices.isEmpty()) {
+                return "";
+            }
+            return choices.get(0).path("delta").path("function_call").path("arguments").asText("");
+        } catch (Exception e) {
+            log.warn("스트리밍 응답 파싱 실패: {}", e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.service.llm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//////////// 스트리밍 중인 JSON 객체에서 필드 값을 조각 단위로 추출
+/// 1. {"field": "값", ...} 형태의 최상위 객체를 문자 단위 상태 머신으로 읽음 (조각이 어디서 잘려도 됨)
+/// 2. 문자열 값은 도착한 만큼 FieldDelta 로 반환, 닫는 따옴표를 만나면 complete = true
+/// 3. 숫자 / 배열 / 객체 값은 건너뜀 (전체 결과는 스트림 종료 후 따로 파싱)
+public class PartialJsonFieldParser {
+
+    public record FieldDelta(String field, String text, boolean complete) {}
+
+    private enum State { START, EXPECT_KEY, KEY, EXPECT_COLON, EXPECT_VALUE, STRING_VALUE, OTHER_VALUE, AFTER_VALUE, END }
+
+    private State state = State.START;
+    private final StringBuilder key = new StringBuilder();
+    private String currentField;
+    private boolean escape;
+    private StringBuilder unicode; // \\uXXXX 읽는 중
+
+    // 문자열이 아닌 값 건너뛰기용
+    private int depth;
+    private boolean otherInString;
+
+    public List<FieldDelta> feed(CharSequence chunk) {
+        List<FieldDelta> deltas = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            switch (state) {
+                case START -> {
+                    if (c == '{') state = State.EXPECT_KEY;
+                }
+                case EXPECT_KEY -> {
+                    if (c == '"') {
+                        key.setLength(0);
+                        state = State.KEY;
+                    } else if (c == '}') {
+                        state = State.END;
+                    }
+                }
+                case KEY -> {
+                    if (escape) {
+                        key.append(c);
+                        escape = false;
+                    } else if (c == '\\') {
+                        escape = true;
+                    } else if (c == '"') {
+                        state = State.EXPECT_COLON;
+                    } else {
+                        key.append(c);
+                    }
+                }
+                case EXPECT_COLON -> {
+                    if (c == ':') state = State.EXPECT_VALUE;
+                }
+                case EXPECT_VALUE -> {
+                    if (c == '"') {
+                        currentField = key.toString();
+                        state = State.STRING_VALUE;
+                    } else if (!Character.isWhitespace(c)) {
+                        state = State.OTHER_VALUE;
+                        depth = 0;
+                        otherInString = false;
+                        skipOther(c);
+                    }
+                }
+                case STRING_VALUE -> {
+                    if (unicode != null) {
+                        unicode.append(c);
+                        if (unicode.length() == 4) {
+                            text.append((char) Integer.parseInt(unicode.toString(), 16));
+                            unicode = null;
+                        }
+                    } else if (escape) {
+                        escape = false;
+                        switch (c) {
+                            case 'n' -> text.append('\n');
+                            case 't' -> text.append('\t');
+                            case 'r' -> text.append('\r');
+                            case 'b' -> text.append('\b');
+                            case 'f' -> text.append('\f');
+                            case 'u' -> unicode = new StringBuilder(4);
+                            default -> text.append(c);
+                        }
+                    } else if (c == '\\') {
+                        escape = true;
+                    } else if (c == '"') {
+                        deltas.add(new FieldDelta(currentField, text.toString(), true));
+                        text.setLength(0);
+                        state = State.AFTER_VALUE;
+                    } else {
+                        text.append(c);
+                    }
+                }
+                case OTHER_VALUE -> skipOther(c);
+                case AFTER_VALUE -> {
+                    if (c == ',') {
+                        state = State.EXPECT_KEY;
+                    } else if (c == '}') {
+                        state = State.END;
+                    }
+                }
+                case END -> {
+                    return deltas;
+                }
+            }
+        }
+
+        // 아직 닫히지 않은 문자열 값은 지금까지 받은 만큼 전달
+        if (state == State.STRING_VALUE && !text.isEmpty()) {
+            deltas.add(new FieldDelta(currentField, text.toString(), false));
+        }
+        return deltas;
+    }
+
+    private void skipOther(char c) {
+        if (otherInString) {
+            if (escape) {
+                escape = false;
+            } else if (c == '\\') {
+                escape = true;
+            } else if (c == '"') {
+                otherInString = false;
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> otherInString = true;
+            case '{', '[' -> depth++;
+            case '}', ']' -> {
+                if (depth == 0) {
+                    state = State.END; // 최상위 객체 종료
+                } else {
+                    depth--;
+                }
+            }
+            case ',' -> {
+                if (depth == 0) state = State.EXPECT_KEY;
+            }
+            default -> {
+            }
+        }
+    }
+}
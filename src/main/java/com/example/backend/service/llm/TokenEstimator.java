@@ -0,0 +1,46 @@
+package com.example.backend.service.llm;
+
+//////////// 프롬프트 토큰 수 추정 (외부 토크나이저 없이 로컬 계산)
+/// BPE 토크나이저 기준 보수적으로 근사
+/// - 한글 / 기타 비 ASCII 문자: 글자당 1 토큰
+/// - 영문 단어: 4글자당 1 토큰, 숫자: 3자리당 1 토큰
+/// - 기호: 1 토큰, 공백: 다음 토큰에 합쳐지므로 0
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        int tokens = 0;
+        int letters = 0;
+        int digits = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetter(c)) {
+                tokens += flush(digits, 3);
+                digits = 0;
+                letters++;
+                continue;
+            }
+            if (c < 128 && Character.isDigit(c)) {
+                tokens += flush(letters, 4);
+                letters = 0;
+                digits++;
+                continue;
+            }
+
+            tokens += flush(letters, 4) + flush(digits, 3);
+            letters = 0;
+            digits = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + flush(letters, 4) + flush(digits, 3);
+    }
+
+    private static int flush(int count, int charsPerToken) {
+        return (count + charsPerToken - 1) / charsPerToken;
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.backend.service.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+//////////// 마감된 월 집계 스냅샷 저장소
+/// 1. 지난 달 데이터는 은행/POS 정산 이후 바뀌지 않으므로 월 마감 시 한 번만 계산해서 파일로 고정
+/// 2. 월별 파일(yyyy-MM.snap)을 읽기 전용으로 memory-map 하여 재시작 후에도 DB 조회 없이 응답
+/// 3. 한 번 기록된 월 파일은 덮어쓰지 않음 (불변)
+///
+/// 파일 포맷: [MAGIC][VERSION][yyyyMM][entryCount] + entryCount * [memberId(long)][kind(byte)][length(int)][JSON payload]
+/// 오프셋은 long 으로 관리 (2GB 를 넘는 파일은 memory-map 대신 FileChannel 위치 지정 읽기)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthSnapshotStore {
+
+    private static final int MAGIC = 0x44424C53; // "DBLS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_HEADER_SIZE = 8 + 1 + 4;
+    private static final String FILE_SUFFIX = ".snap";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${snapshot.dir:./snapshot}")
+    private String snapshotDir;
+
+    // 월 -> memory-map 된 스냅샷
+    private final Map<YearMonth, MonthSegment> segments = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Path dir = Paths.get(snapshotDir);
+        try {
+            Files.createDirectories(dir);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + FILE_SUFFIX)) {
+                for (Path file : files) {
+                    try {
+                        MonthSegment segment = MonthSegment.map(file);
+                        segments.put(segment.month, segment);
+                    } catch (IOException | IllegalStateException e) {
+                        log.error("스냅샷 파일을 읽을 수 없어 건너뜁니다: {} ({})", file, e.getMessage());
+                    }
+                }
+            }
+            log.info("월 마감 스냅샷 로드 완료: {}개월", segments.size());
+        } catch (IOException e) {
+            log.error("스냅샷 디렉토리 초기화 실패: {}", dir, e);
+        }
+    }
+
+    // 해당 월이 마감(스냅샷 존재)되었는지 확인
+    public boolean isClosed(YearMonth month) {
+        return segments.containsKey(month);
+    }
+
+    // 마감된 월의 집계 조회 (없으면 empty -> 호출부에서 DB 계산)
+    public <T> Optional<T> find(Long memberId, YearMonth month, SnapshotKind kind, Class<T> type) {
+        if (memberId == null || month == null) {
+            return Optional.empty();
+        }
+        MonthSegment segment = segments.get(month);
+        if (segment == null) {
+            return Optional.empty();
+        }
+        byte[] payload = segment.read(memberId, kind);
+        if (payload == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(objectMapper.readValue(payload, type));
+        } catch (IOException e) {
+            log.error("스냅샷 역직렬화 실패 - month: {}, memberId: {}, kind: {}", month, memberId, kind, e);
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        segments.values().forEach(MonthSegment::close);
+    }
+
+    // 월 마감: 회원별 집계를 파일로 고정 (이미 마감된 월이면 false)
+    public synchronized boolean freeze(YearMonth month, Map<Long, Map<SnapshotKind, Object>> aggregates) throws IOException {
+        if (segments.containsKey(month)) {
+            log.info("이미 마감된 월입니다: {}", month);
+            return false;
+        }
+
+        Path dir = Paths.get(snapshotDir);
+        Files.createDirectories(dir);
+        Path target = dir.resolve(month + FILE_SUFFIX);
+        Path temp = dir.resolve(month + FILE_SUFFIX + ".tmp");
+
+        int entryCount = aggregates.values().stream().mapToInt(Map::size).sum();
+        try (OutputStream fileOut = Files.newOutputStream(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(month.getYear() * 100 + month.getMonthValue());
+            out.writeInt(entryCount);
+            for (Map.Entry<Long, Map<SnapshotKind, Object>> member : aggregates.entrySet()) {
+                for (Map.Entry<SnapshotKind, Object> entry : member.getValue().entrySet()) {
+                    byte[] payload = objectMapper.writeValueAsBytes(entry.getValue());
+                    out.writeLong(member.getKey());
+                    out.writeByte(entry.getKey().getCode());
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        segments.put(month, MonthSegment.map(target));
+        log.info("월 마감 스냅샷 생성 완료 - month: {}, 회원 수: {}, 항목 수: {}", month, aggregates.size(), entryCount);
+        return true;
+    }
+
+    // 월 파일과 (memberId, kind) -> (offset, length) 인덱스
+    // 2GB 이하 파일은 memory-map, 그보다 크면 (MappedByteBuffer 는 int 범위까지만 가능) FileChannel 위치 지정 읽기
+    private static final class MonthSegment {
+        private final YearMonth month;
+        private final MappedByteBuffer buffer;
+        private final FileChannel channel;
+        // memberId -> kind 별 [offset, length] (offset 0 = 없음, 항목은 항상 헤더 뒤에 있으므로)
+        private final Map<Long, long[]> index;
+
+        private MonthSegment(YearMonth month, MappedByteBuffer buffer, FileChannel channel, Map<Long, long[]> index) {
+            this.month = month;
+            this.buffer = buffer;
+            this.channel = channel;
+            this.index = index;
+        }
+
+        static MonthSegment map(Path file) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                MappedByteBuffer buffer = null;
+                if (size <= Integer.MAX_VALUE) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    channel.close();
+                    channel = null;
+                }
+                return index(buffer, channel, size);
+            } catch (IOException | RuntimeException e) {
+                if (channel != null) {
+                    channel.close();
+                }
+                throw e;
+            }
+        }
+
+        private static MonthSegment index(MappedByteBuffer buffer, FileChannel channel, long size) throws IOException {
+            if (size < HEADER_SIZE) {
+                throw new IllegalStateException("스냅샷 헤더가 올바르지 않습니다.");
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readAt(buffer, channel, 0, header.array());
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IllegalStateException("스냅샷 헤더가 올바르지 않습니다.");
+            }
+            int yyyymm = header.getInt(8);
+            YearMonth month = YearMonth.of(yyyymm / 100, yyyymm % 100);
+            int entryCount = header.getInt(12);
+            if (entryCount < 0) {
+                throw new IllegalStateException("스냅샷 파일이 손상되었습니다.");
+            }
+
+            Map<Long, long[]> index = new HashMap<>();
+            ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+            long position = HEADER_SIZE;
+            for (int i = 0; i < entryCount; i++) {
+                if (position + ENTRY_HEADER_SIZE > size) {
+                    throw new IllegalStateException("스냅샷 파일이 손상되었습니다.");
+                }
+                readAt(buffer, channel, position, entry.array());
+                long memberId = entry.getLong(0);
+                SnapshotKind kind = SnapshotKind.fromCode(entry.get(8));
+                int length = entry.getInt(9);
+                long payloadOffset = position + ENTRY_HEADER_SIZE;
+                if (length < 0 || payloadOffset + length > size) {
+                    throw new IllegalStateException("스냅샷 파일이 손상되었습니다.");
+                }
+                if (kind != null) {
+                    long[] slots = index.computeIfAbsent(memberId, id -> new long[SnapshotKind.values().length * 2]);
+                    slots[kind.ordinal() * 2] = payloadOffset;
+                    slots[kind.ordinal() * 2 + 1] = length;
+                }
+                position = payloadOffset + length;
+            }
+            return new MonthSegment(month, buffer, channel, index);
+        }
+
+        byte[] read(Long memberId, SnapshotKind kind) {
+            long[] slots = index.get(memberId);
+            if (slots == null || slots[kind.ordinal() * 2] == 0L) {
+                return null;
+            }
+            byte[] payload = new byte[(int) slots[kind.ordinal() * 2 + 1]];
+            try {
+                readAt(buffer, channel, slots[kind.ordinal() * 2], payload);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return payload;
+        }
+
+        // 절대 위치 읽기 -> 여러 스레드에서 동시에 읽어도 안전
+        private static void readAt(MappedByteBuffer buffer, FileChannel channel, long position, byte[] target) throws IOException {
+            if (buffer != null) {
+                buffer.get((int) position, target);
+                return;
+            }
+            ByteBuffer dst = ByteBuffer.wrap(target);
+            while (dst.hasRemaining()) {
+                if (channel.read(dst, position + dst.position()) < 0) {
+                    throw new IllegalStateException("스냅샷 파일이 손상되었습니다.");
+                }
+            }
+        }
+
+        void close() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // 종료 중
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.service.snapshot;
+
+// 마감 스냅샷에 저장되는 월 집계 종류 (code 는 파일 포맷에 기록되므로 변경 금지)
+public enum SnapshotKind {
+    MONTHLY_INCOME(1),   // PosService.getMonthlyIncomeSummary
+    INCOME_HISTORY(2),   // PosService.getIncomeHistory
+    MONTHLY_REVENUE(3),  // PosService.calculateMonthlyRevenue
+    TOTAL_EXPENSE(4),    // AccountService.calculateTotalExpenses
+    EXPENSE_DETAIL(5),   // AccountService.showDetailExpense
+    EXPENSE_WEEK(6),     // AccountService.showWeekExpense
+    NET_PROFIT(7),       // AccountService.showNetProfit
+    PROFIT_DETAIL(8);    // AccountService.showProfitDetail
+
+    private final byte code;
+
+    SnapshotKind(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static SnapshotKind fromCode(byte code) {
+        for (SnapshotKind kind : values()) {
+            if (kind.code == code) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.util.money;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+//////////// 카테고리별 원화 합계 누산기
+/// 카테고리 문자열을 정수 코드로 사전 인코딩하고 합계는 long[] 에 누적
+/// -> 행마다 Map / BigDecimal 객체를 만들지 않음 (스레드 안전하지 않음, 요청 단위로 생성해서 사용)
+public final class CategoryMoneyAccumulator {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] categories = new String[16];
+    private long[] sums = new long[16];
+    private long total;
+
+    public void add(String category, long won) {
+        total = Math.addExact(total, won);
+        if (category == null) {
+            return;
+        }
+        Integer code = codes.get(category);
+        if (code == null) {
+            code = codes.size();
+            if (code == categories.length) {
+                categories = Arrays.copyOf(categories, code * 2);
+                sums = Arrays.copyOf(sums, code * 2);
+            }
+            categories[code] = category;
+            codes.put(category, code);
+        }
+        sums[code] = Math.addExact(sums[code], won);
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public long sum(String category) {
+        Integer code = codes.get(category);
+        return code != null ? sums[code] : 0L;
+    }
+
+    public boolean isEmpty() {
+        return codes.isEmpty() && total == 0L;
+    }
+
+    // DTO 경계: 카테고리별 합계를 divisor 로 나눈 값(HALF_UP)을 BigDecimal 로 변환
+    public Map<String, BigDecimal> toAverageMap(long divisor) {
+        Map<String, BigDecimal> result = new HashMap<>(codes.size() * 2);
+        for (int i = 0; i < codes.size(); i++) {
+            result.put(categories[i], Money.toBigDecimal(Money.divideHalfUp(sums[i], divisor)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.backend.util.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+//////////// long 기반 원화 금액 연산
+/// 1. 원화 금액은 소수점이 없으므로 (amount/balance: precision 15, scale 0) 원 단위 long 으로 그대로 표현
+/// 2. 집계 루프에서는 long 으로 계산하고 DTO 로 내보낼 때만 BigDecimal 로 변환
+/// 3. precision 15 는 long 범위(약 9.2 * 10^18) 안에 들어오지만 덧셈/곱셈은 overflow 를 검사
+public final class Money {
+
+    private Money() {
+    }
+
+    // BigDecimal -> 원 (null 은 0원, 소수점은 반올림)
+    public static long toWon(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // 원 -> BigDecimal (scale 0, DTO 경계에서만 사용)
+    public static BigDecimal toBigDecimal(long won) {
+        return BigDecimal.valueOf(won);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    // BigDecimal.divide(divisor, RoundingMode.HALF_UP) 와 같은 결과
+    public static long divideHalfUp(long won, long divisor) {
+        long quotient = won / divisor;
+        long remainder = won % divisor;
+        if (remainder != 0 && Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (won ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    // 금액의 rate% (예: 할인 금액), 원 단위 반올림
+    public static long percentOf(long won, long ratePercent) {
+        return divideHalfUp(Math.multiplyExact(won, ratePercent), 100);
+    }
+
+    // 만원 단위 반올림 표기 (예: 5145000 -> "약 515만원")
+    public static String toApproxManwon(long won) {
+        return "약 " + divideHalfUp(won, 10_000) + "만원";
+    }
+}
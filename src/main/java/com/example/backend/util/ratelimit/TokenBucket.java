@@ -0,0 +1,54 @@
+package com.example.backend.util.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+//////////// 토큰 버킷 (외부 API 호출 속도 제한)
+/// capacity 만큼 몰아서 호출할 수 있고, 이후에는 분당 tokensPerMinute 속도로 토큰이 채워짐
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, long tokensPerMinute) {
+        if (capacity <= 0 || tokensPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity, tokensPerMinute 는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    // 토큰이 생길 때까지 대기
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.util.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+//////////// 다중 키워드 매칭 (Aho-Corasick)
+/// 1. 키워드 집합으로 한 번 오토마톤을 만들어 두고, 텍스트를 한 번만 훑어 포함된 키워드를 모두 찾음
+///    (키워드마다 String.contains 를 반복하지 않음)
+/// 2. 결과는 키워드 순번(생성 시 목록의 index) BitSet
+/// 3. 생성 후에는 읽기 전용이므로 여러 스레드에서 같이 사용 가능
+public final class AhoCorasick {
+
+    private final List<String> keywords;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    private final List<BitSet> outputs = new ArrayList<>();
+
+    public AhoCorasick(List<String> keywords) {
+        this.keywords = List.copyOf(keywords);
+        newNode();
+        for (int i = 0; i < this.keywords.size(); i++) {
+            insert(this.keywords.get(i), i);
+        }
+        buildFailureLinks();
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    // 텍스트에 포함된 키워드 순번
+    public BitSet match(String text) {
+        BitSet found = new BitSet(keywords.size());
+        if (text == null) {
+            return found;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            found.or(outputs.get(state));
+        }
+        return found;
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        failure.add(0);
+        outputs.add(new BitSet());
+        return transitions.size() - 1;
+    }
+
+    private void insert(String keyword, int index) {
+        if (keyword == null || keyword.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).set(index);
+    }
+
+    // BFS 로 실패 링크 설정, 실패 링크 노드의 출력도 합쳐 둠
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+
+                int fallback = failure.get(state);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure.get(fallback);
+                }
+                Integer target = transitions.get(fallback).get(c);
+                failure.set(child, target != null && target != child ? target : 0);
+                outputs.get(child).or(outputs.get(failure.get(child)));
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backend;
+
+import com.example.backend.util.text.AhoCorasick;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Aho-Corasick: 겹치는 키워드, 실패 링크를 따라가야 나오는 출력, 키워드별 contains 와 같은 결과
+public class AhoCorasickTest {
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    // 키워드마다 String.contains 로 찾은 결과 (기존 방식)
+    private static BitSet naive(List<String> keywords, String text) {
+        BitSet found = new BitSet();
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            if (keyword != null && !keyword.isEmpty() && text.contains(keyword)) {
+                found.set(i);
+            }
+        }
+        return found;
+    }
+
+    @Test
+    public void testClassicOverlappingKeywords() {
+        AhoCorasick matcher = new AhoCorasick(List.of("he", "she", "his", "hers"));
+        assertEquals(bits(0, 1, 3), matcher.match("ushers"));
+        assertEquals(bits(2), matcher.match("this"));
+        assertEquals(bits(), matcher.match("xyz"));
+    }
+
+    @Test
+    public void testOutputsReachedThroughFailureLinks() {
+        // "재료비" 를 읽는 중에 끝나는 "료비", "비" 는 실패 링크의 출력으로만 나옴
+        AhoCorasick matcher = new AhoCorasick(List.of("재료비", "료비", "비", "재료"));
+        assertEquals(bits(0, 1, 2, 3), matcher.match("재료비 10% 할인"));
+        assertEquals(bits(1, 2), matcher.match("원료비"));
+        // 접두어가 같은 키워드가 중간에 끊겨도 처음부터 다시 찾음
+        assertEquals(bits(2, 3), matcher.match("재료재비"));
+    }
+
+    @Test
+    public void testKeywordInsideAnotherAndRepeatedText() {
+        AhoCorasick matcher = new AhoCorasick(List.of("마트", "이마트", "트"));
+        assertEquals(bits(0, 1, 2), matcher.match("이마트 5% 할인"));
+        assertEquals(bits(0, 2), matcher.match("마마마트"));
+    }
+
+    @Test
+    public void testNullEmptyAndDuplicateKeywords() {
+        List<String> keywords = new ArrayList<>(List.of("쇼핑", "", "쇼핑"));
+        AhoCorasick matcher = new AhoCorasick(keywords);
+        assertEquals(bits(0, 2), matcher.match("온라인 쇼핑 3%"));
+        assertEquals(bits(), matcher.match(null));
+        assertEquals(bits(), matcher.match(""));
+    }
+
+    @Test
+    public void testMatchesNaiveContainsOnRandomText() {
+        // 작은 알파벳으로 겹침이 많은 키워드 / 텍스트를 만들어 contains 결과와 비교
+        Random random = new Random(42);
+        String alphabet = "가나다ab";
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                keywords.add(randomText(random, alphabet, 1 + random.nextInt(4)));
+            }
+            AhoCorasick matcher = new AhoCorasick(keywords);
+            for (int j = 0; j < 20; j++) {
+                String text = randomText(random, alphabet, random.nextInt(15));
+                assertEquals(naive(keywords, text), matcher.match(text), keywords + " in " + text);
+            }
+        }
+    }
+
+    @Test
+    public void testKeywordsAreCopied() {
+        List<String> keywords = new ArrayList<>(List.of("a"));
+        AhoCorasick matcher = new AhoCorasick(keywords);
+        keywords.add("b");
+        assertEquals(List.of("a"), matcher.keywords());
+        assertTrue(matcher.match("b").isEmpty());
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.backend;
+
+import com.example.backend.dto.card.CardDTO;
+import com.example.backend.service.CardBenefitIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 카드 혜택 색인: 기존 CardService 의 키워드 필터 / isMatchingBenefit / extractDiscountRate 와 같은 결과인지
+// (온라인 / 오프라인 결제 x 재료비 / 그 외 / 색인에 없는 카테고리)
+public class CardBenefitIndexTest {
+
+    private static final List<String> CATEGORIES = List.of(
+            "재료비", "인건비", "통신비", "임대료", "공과금", "식재료비", "광고비", "");
+    private static final List<String> NOTES = List.of("온라인 결제", "카드 결제", "", "온라인");
+
+    private static CardDTO card(String name, String ranking, String... benefits) {
+        CardDTO card = new CardDTO();
+        card.setCardName(name);
+        card.setRanking(ranking);
+        card.setBenefits(List.of(benefits));
+        return card;
+    }
+
+    private static final List<CardDTO> CARDS = List.of(
+            card("A", "1", "마트 5% 할인", "온라인 쇼핑 10% 적립", "통신비 2% 할인"),
+            card("B", "2", "재료비 3% 할인, 최대 7%", "온라인 재료 구매 15% 할인", "주유 100원 할인"),
+            card("C", "x", "쇼핑 할인", "온라인 통신비 4% 할인", "통신비 1% 할인"),
+            card("D", null, "임대료 0.5% 캐시백", "공과금 자동이체 1% 할인", "광고비 8% 적립"),
+            card("E", " 3 ", "대형마트 2%", "온라인마트 6%", "식재료비 9% 할인", "온라인 식재료비 12%"),
+            card("F", "4")
+    );
+
+    //////// 기존 CardService 로직 (색인 도입 전)
+    private static List<String> oldKeywords(String category) {
+        Map<String, List<String>> categoryKeywords = Map.of("재료비", Arrays.asList("재료비", "쇼핑", "재료", "마트"));
+        return categoryKeywords.getOrDefault(category, Arrays.asList(category));
+    }
+
+    private static int extractDiscountRate(String benefit) {
+        Matcher matcher = Pattern.compile("(\\d+)%").matcher(benefit);
+        if (matcher.find()) {
+            return Integer.parseInt(matcher.group(1));
+        }
+        return 0;
+    }
+
+    private static boolean isMatchingBenefit(String benefit, String category, String note) {
+        boolean isOnline = benefit.contains("온라인");
+        if (isOnline) {
+            return category.contains("재료비") && note.contains("온라인");
+        }
+        return !note.contains("온라인");
+    }
+
+    private static List<String> oldMatchedBenefits(CardDTO card, String category) {
+        List<String> keywords = oldKeywords(category);
+        return card.getBenefits().stream()
+                .filter(benefit -> keywords.stream().anyMatch(benefit::contains))
+                .collect(Collectors.toList());
+    }
+
+    private static int oldRate(CardDTO card, String category, String note) {
+        OptionalInt max = oldMatchedBenefits(card, category).stream()
+                .filter(benefit -> isMatchingBenefit(benefit, category, note))
+                .mapToInt(CardBenefitIndexTest::extractDiscountRate)
+                .max();
+        return max.isPresent() ? max.getAsInt() : -1;
+    }
+
+    @Test
+    public void testEquivalentToPreviousMatching() {
+        CardBenefitIndex index = new CardBenefitIndex(CARDS);
+        for (String category : CATEGORIES) {
+            CardBenefitIndex.CategoryMatch match = index.match(category);
+            for (int i = 0; i < CARDS.size(); i++) {
+                CardDTO card = CARDS.get(i);
+                assertEquals(oldMatchedBenefits(card, category), match.matchedBenefits().get(i), card.getCardName() + " / " + category);
+                for (String note : NOTES) {
+                    assertEquals(oldRate(card, category, note), match.rate(i, CardBenefitIndex.isOnlineExpense(note)),
+                            card.getCardName() + " / " + category + " / " + note);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMaterialCostRates() {
+        CardBenefitIndex index = new CardBenefitIndex(CARDS);
+        CardBenefitIndex.CategoryMatch material = index.match("재료비");
+
+        // A: 오프라인 = 마트 5%, 온라인 = 온라인 쇼핑 10%
+        assertEquals(5, material.rate(0, false));
+        assertEquals(10, material.rate(0, true));
+        // B: 첫 번째 N% 만 사용 (3%, "최대 7%" 무시), 온라인 재료 15%
+        assertEquals(3, material.rate(1, false));
+        assertEquals(15, material.rate(1, true));
+        // C: 할인율 없는 혜택은 0%, 온라인 혜택 없음
+        assertEquals(0, material.rate(2, false));
+        assertEquals(-1, material.rate(2, true));
+        // F: 혜택 없음
+        assertEquals(-1, material.rate(5, false));
+        assertEquals(List.of(), material.matchedBenefits().get(5));
+    }
+
+    @Test
+    public void testOnlineBenefitsOnlyApplyToMaterialCost() {
+        CardBenefitIndex index = new CardBenefitIndex(CARDS);
+        CardBenefitIndex.CategoryMatch telecom = index.match("통신비");
+
+        // C: 온라인 통신비 혜택은 매칭되지만 재료비가 아니므로 온라인 결제에도 적용 안 됨
+        assertEquals(List.of("온라인 통신비 4% 할인", "통신비 1% 할인"), telecom.matchedBenefits().get(2));
+        assertEquals(-1, telecom.rate(2, true));
+        assertEquals(1, telecom.rate(2, false));
+    }
+
+    @Test
+    public void testUnindexedCategoryIsBuiltOnDemand() {
+        CardBenefitIndex index = new CardBenefitIndex(CARDS);
+        // 색인에 없지만 "재료비" 를 포함 -> 온라인 혜택 적용 대상
+        CardBenefitIndex.CategoryMatch match = index.match("식재료비");
+        assertEquals(9, match.rate(4, false));
+        assertEquals(12, match.rate(4, true));
+        assertEquals(match, index.match("식재료비"));
+
+        // null 카테고리는 빈 문자열과 같음 (모든 혜택이 매칭)
+        assertEquals(index.match(""), index.match(null));
+    }
+
+    @Test
+    public void testRankingParsing() {
+        CardBenefitIndex index = new CardBenefitIndex(CARDS);
+        assertEquals(1, index.ranking(0));
+        assertEquals(Integer.MAX_VALUE, index.ranking(2));
+        assertEquals(Integer.MAX_VALUE, index.ranking(3));
+        assertEquals(3, index.ranking(4));
+        assertEquals(0, CardBenefitIndex.EMPTY.size());
+    }
+}
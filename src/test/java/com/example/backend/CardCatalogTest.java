@@ -0,0 +1,108 @@
+package com.example.backend;
+
+import com.example.backend.service.CardCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 카드 목록 교체: 정상 파일은 원자적으로 교체 후 다시 읽음, 빈 목록 / 추천 대상 없음 / 파싱 불가 파일은 거부하고 기존 파일과 목록 유지
+public class CardCatalogTest {
+
+    private static final String ORIGINAL = "[{\"ranking\": \"1\", \"cardName\": \"기존카드\", \"benefits\": [\"마트 5% 할인\"]}]";
+
+    @TempDir
+    Path dir;
+
+    private Path target;
+    private CardCatalog catalog;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        target = dir.resolve("card_data.json");
+        Files.writeString(target, ORIGINAL, StandardCharsets.UTF_8);
+        catalog = new CardCatalog(new ObjectMapper());
+        ReflectionTestUtils.setField(catalog, "jsonFilePath", target.toString());
+        assertTrue(catalog.reload());
+    }
+
+    private Path candidate(String json) throws IOException {
+        Path candidate = dir.resolve("card_data.json." + System.nanoTime() + ".tmp");
+        Files.writeString(candidate, json, StandardCharsets.UTF_8);
+        return candidate;
+    }
+
+    private void assertOriginalKept(String version) throws IOException {
+        assertEquals(ORIGINAL, Files.readString(target, StandardCharsets.UTF_8));
+        assertEquals(version, catalog.version());
+        assertEquals("기존카드", catalog.cards().get(0).getCardName());
+    }
+
+    @Test
+    public void testPublishReplacesFileAndReloads() throws IOException {
+        String version = catalog.version();
+        String json = "[{\"ranking\": \"1\", \"cardName\": \"새카드\", \"benefits\": [\"주유 100원 할인\", \"영화 할인\"]},"
+                + " {\"ranking\": \"2\", \"cardName\": \"혜택없음\", \"benefits\": [\"영화 할인\"]}]";
+        Path candidate = candidate(json);
+
+        catalog.publish(candidate);
+
+        assertFalse(Files.exists(candidate));
+        assertEquals(json, Files.readString(target, StandardCharsets.UTF_8));
+        assertNotEquals(version, catalog.version());
+        // 추천 키워드가 없는 혜택 / 카드는 제외
+        assertEquals(1, catalog.cards().size());
+        assertEquals("새카드", catalog.cards().get(0).getCardName());
+        assertEquals(List.of("주유 100원 할인"), catalog.cards().get(0).getBenefits());
+        assertEquals(1, catalog.benefitIndex().size());
+    }
+
+    @Test
+    public void testEmptyListIsRejected() throws IOException {
+        String version = catalog.version();
+        Path candidate = candidate("[]");
+
+        assertThrows(IllegalStateException.class, () -> catalog.publish(candidate));
+        assertTrue(Files.exists(candidate));
+        assertOriginalKept(version);
+    }
+
+    @Test
+    public void testNoRecommendableCardIsRejected() throws IOException {
+        String version = catalog.version();
+        // 혜택 키워드 없음 / 카드 이름 없음 / 랭킹 없음
+        Path candidate = candidate("[{\"ranking\": \"1\", \"cardName\": \"A\", \"benefits\": [\"영화 할인\"]},"
+                + " {\"ranking\": \"2\", \"benefits\": [\"마트 5% 할인\"]},"
+                + " {\"cardName\": \"C\", \"benefits\": [\"쇼핑 3% 적립\"]}]");
+
+        assertThrows(IllegalStateException.class, () -> catalog.publish(candidate));
+        assertOriginalKept(version);
+    }
+
+    @Test
+    public void testUnparseableFileIsRejected() throws IOException {
+        String version = catalog.version();
+
+        // 크롤러가 쓰다 만 파일
+        Path truncated = candidate("[{\"ranking\": \"1\", \"cardName\": \"새카");
+        assertThrows(IOException.class, () -> catalog.publish(truncated));
+        assertOriginalKept(version);
+
+        Path notList = candidate("{\"cards\": []}");
+        assertThrows(IOException.class, () -> catalog.publish(notList));
+        assertOriginalKept(version);
+    }
+}
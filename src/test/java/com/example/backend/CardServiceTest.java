@@ -0,0 +1,116 @@
+package com.example.backend;
+
+import com.example.backend.dto.account.CategoryChannelExpenseDTO;
+import com.example.backend.dto.account.ExpenseDetailDTO;
+import com.example.backend.dto.card.CardRecommendationDTO;
+import com.example.backend.service.BANK.AccountService;
+import com.example.backend.service.CardCatalog;
+import com.example.backend.service.CardService;
+import com.example.backend.service.RedisService;
+import com.example.backend.service.cache.AnalyticsCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 카드 추천 캐시: 캐시에서 읽은 결과(hit)가 계산한 결과(miss)와 같은 타입 / 값인지
+public class CardServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 11);
+    private static final long MEMBER_ID = 1L;
+    private static final String CARDS = "[{\"ranking\": \"1\", \"cardName\": \"마트카드\", \"benefits\": [\"마트 5% 할인\"]},"
+            + " {\"ranking\": \"2\", \"cardName\": \"쇼핑카드\", \"benefits\": [\"쇼핑 3% 할인\"]}]";
+
+    // 값 저장 / 조회 / 증가만 하는 인메모리 Redis
+    private static class FakeRedis extends RedisService {
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        @Override
+        public void saveValue(String key, String value, Duration ttl) {
+            values.put(key, value);
+        }
+
+        @Override
+        public String getValue(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public Long increment(String key) {
+            return Long.valueOf(values.merge(key, "1", (a, b) -> String.valueOf(Long.parseLong(a) + 1)));
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger expenseLookups = new AtomicInteger();
+    private CardService cardService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Path cardData = dir.resolve("card_data.json");
+        Files.writeString(cardData, CARDS, StandardCharsets.UTF_8);
+        CardCatalog cardCatalog = new CardCatalog(objectMapper);
+        ReflectionTestUtils.setField(cardCatalog, "jsonFilePath", cardData.toString());
+        cardCatalog.reload();
+
+        AccountService accountService = mock(AccountService.class);
+        when(accountService.calculateCategoryChannelExpenses(any(), any())).thenAnswer(invocation -> {
+            expenseLookups.incrementAndGet();
+            return List.of(new CategoryChannelExpenseDTO("재료비", false, BigDecimal.valueOf(32_345)));
+        });
+        when(accountService.getExpenseDetails(any(), any(), any())).thenReturn(List.of(
+                new ExpenseDetailDTO.ExpenseDetail(null, null, BigDecimal.valueOf(12_345), false, "식자재마트", "재료비", "카드 결제"),
+                new ExpenseDetailDTO.ExpenseDetail(null, null, BigDecimal.valueOf(20_000), false, "원두상회", "재료비", null)));
+
+        AnalyticsCacheService analyticsCacheService = new AnalyticsCacheService(new FakeRedis(), objectMapper);
+        ReflectionTestUtils.setField(analyticsCacheService, "ttlSeconds", 60L);
+
+        cardService = new CardService();
+        ReflectionTestUtils.setField(cardService, "accountService", accountService);
+        ReflectionTestUtils.setField(cardService, "cardCatalog", cardCatalog);
+        ReflectionTestUtils.setField(cardService, "analyticsCacheService", analyticsCacheService);
+        ReflectionTestUtils.setField(cardService, "objectMapper", objectMapper);
+    }
+
+    @Test
+    public void testCacheHitEqualsMiss() {
+        List<CardRecommendationDTO> miss = cardService.recommendCards(MONTH, MEMBER_ID);
+        List<CardRecommendationDTO> hit = cardService.recommendCards(MONTH, MEMBER_ID);
+
+        // 두 번째 조회는 캐시에서 읽음
+        assertEquals(1, expenseLookups.get());
+        assertEquals(miss, hit);
+
+        // 617(12,345 * 5%) + 1,000(20,000 * 5%), 항목별 원 단위 반올림 합
+        assertEquals(List.of("마트카드", "쇼핑카드"), hit.stream().map(CardRecommendationDTO::getCardName).toList());
+        assertEquals(BigDecimal.valueOf(1_617), hit.get(0).getTotalSaving());
+        assertEquals(1, hit.get(0).getRanking());
+        CardRecommendationDTO.SavingDetail detail = hit.get(0).getSavingDetails().get(0);
+        assertNotNull(detail.getAmount());
+        assertEquals(BigDecimal.valueOf(617), detail.getSaving());
+        assertEquals("5%", detail.getDiscountRate());
+    }
+}
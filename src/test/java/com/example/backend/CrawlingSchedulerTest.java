@@ -1,5 +1,7 @@
 package com.example.backend;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -14,6 +16,7 @@ public class CrawlingSchedulerTest {
 	
 	@Test
 	public void testRunCrawlingScript() {
-		crawlingScheduler.runPythonScript();
+		// runPythonScript 는 crawlerExecutor 에 넘기고 바로 반환하므로 끝날 때까지 기다리는 crawlNow 로 실행
+		assertTrue(crawlingScheduler.crawlNow(), "크롤러 결과가 카드 데이터에 반영되어야 함");
 	}
 }
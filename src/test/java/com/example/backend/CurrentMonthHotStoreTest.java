@@ -0,0 +1,239 @@
+package com.example.backend;
+
+import com.example.backend.dto.pos.MonthlyIncomeDTO;
+import com.example.backend.event.AccountHistoryIngestedEvent;
+import com.example.backend.event.PosSalesIngestedEvent;
+import com.example.backend.model.BANK.Account;
+import com.example.backend.model.BANK.AccountHistory;
+import com.example.backend.model.POS.Pos;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import com.example.backend.service.hotstore.CurrentMonthHotStore;
+import com.example.backend.service.hotstore.CurrentMonthLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 이번 달 인메모리 저장소: 재구성 -> 이벤트 적재, ID 중복 제거(커밋 순서가 ID 순서와 달라도 누락 없음), 데이터 없음은 empty
+// 다른 서버가 수집한 행은 주기적 DB 반영으로 보임, 오래 반영하지 못하면 empty
+public class CurrentMonthHotStoreTest {
+
+    private static final YearMonth MONTH = YearMonth.now();
+    private static final LocalDateTime DAY_ONE = MONTH.atDay(1).atTime(10, 0);
+
+    private static final long MEMBER = 1L;
+    private static final long POS_ID = 10L;
+    private static final long ACCOUNT_ID = 20L;
+    // 사업자 등록은 되어 있지만 이번 달 행이 없는 회원
+    private static final long EMPTY_MEMBER = 2L;
+
+    // DB 대신 테스트가 정한 행을 돌려주는 가짜 로더 (여러 저장소 인스턴스가 같은 DB 를 보는 것과 같음)
+    private final List<CurrentMonthLoader.SaleRow> sales = new ArrayList<>();
+    private final List<CurrentMonthLoader.ExpenseRow> expenses = new ArrayList<>();
+    private final CurrentMonthLoader fakeLoader = new CurrentMonthLoader(null) {
+        @Override
+        public Rows load(YearMonth month) {
+            return new Rows(Map.of(MEMBER, POS_ID, EMPTY_MEMBER, 11L), Map.of(MEMBER, ACCOUNT_ID, EMPTY_MEMBER, 21L),
+                    new ArrayList<>(sales), new ArrayList<>(expenses));
+        }
+
+        @Override
+        public Delta loadAfter(YearMonth month, long posSalesIdAfter, long accountHistoryIdAfter) {
+            return new Delta(
+                    sales.stream().filter(row -> row.posSalesId() > posSalesIdAfter).toList(),
+                    expenses.stream().filter(row -> row.accountHistoryId() > accountHistoryIdAfter).toList());
+        }
+    };
+
+    private CurrentMonthHotStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = newStore();
+    }
+
+    private CurrentMonthHotStore newStore() {
+        CurrentMonthHotStore created = new CurrentMonthHotStore(fakeLoader, new ScheduledJobGuard(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(created, "enabled", true);
+        ReflectionTestUtils.setField(created, "maxStalenessMs", 300_000L);
+        return created;
+    }
+
+    private static CurrentMonthLoader.SaleRow saleRow(long id, long amount, PaymentTypeEnum paymentType) {
+        return new CurrentMonthLoader.SaleRow(id, POS_ID, DAY_ONE, BigDecimal.valueOf(amount), "아메리카노", paymentType);
+    }
+
+    private static PosSales sale(long id, long amount) {
+        return PosSales.builder()
+                .posSalesId(id)
+                .posId(Pos.builder().posId(POS_ID).build())
+                .orderTime(DAY_ONE)
+                .totalPrice(BigDecimal.valueOf(amount))
+                .productName("아메리카노")
+                .paymentType(PaymentTypeEnum.CARD)
+                .build();
+    }
+
+    private static AccountHistory expense(long id, long amount, String category) {
+        Account account = new Account();
+        account.setAccountId(ACCOUNT_ID);
+        AccountHistory history = AccountHistory.builder()
+                .account(account)
+                .transactionDate(DAY_ONE)
+                .amount(BigDecimal.valueOf(amount))
+                .category(category)
+                .build();
+        history.setAccountHistoryId(id);
+        return history;
+    }
+
+    private Optional<BigDecimal> revenue() {
+        return store.monthlyRevenue(MEMBER, MONTH);
+    }
+
+    @Test
+    public void testRebuildAndIngest() {
+        sales.add(saleRow(1L, 1_000, PaymentTypeEnum.CARD));
+        sales.add(saleRow(2L, 500, PaymentTypeEnum.CASH));
+        expenses.add(new CurrentMonthLoader.ExpenseRow(5L, ACCOUNT_ID, DAY_ONE, BigDecimal.valueOf(300), "재료비"));
+        expenses.add(new CurrentMonthLoader.ExpenseRow(6L, ACCOUNT_ID, DAY_ONE, BigDecimal.valueOf(200), null));
+        store.rebuild();
+
+        assertTrue(store.covers(MONTH));
+        assertEquals(Optional.of(BigDecimal.valueOf(1_500)), revenue());
+        assertEquals(Optional.of(BigDecimal.valueOf(500)), store.totalExpenses(MEMBER, MONTH));
+        Map<String, BigDecimal> categories = new HashMap<>();
+        categories.put("재료비", BigDecimal.valueOf(300));
+        categories.put(null, BigDecimal.valueOf(200));
+        assertEquals(Optional.of(categories), store.categoryExpenses(MEMBER, MONTH));
+
+        MonthlyIncomeDTO income = store.monthlyIncome(MEMBER, MONTH).orElseThrow();
+        assertEquals(BigDecimal.valueOf(1_500), income.getMonthlyTotalncome());
+        assertEquals(BigDecimal.valueOf(1_000), income.getMonthlyCardIncome());
+        assertEquals(BigDecimal.valueOf(500), income.getMonthlyCashIncome());
+        assertEquals(2, income.getDailyIncomeList().size());
+
+        // 재구성 때 읽은 행(2)은 건너뛰고 새 행(3)만 적재
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(2L, 500), sale(3L, 2_000))));
+        store.onAccountHistoryIngested(new AccountHistoryIngestedEvent(List.of(expense(5L, 300, "재료비"), expense(7L, 50, "재료비"))));
+        assertEquals(Optional.of(BigDecimal.valueOf(3_500)), revenue());
+        assertEquals(Optional.of(BigDecimal.valueOf(550)), store.totalExpenses(MEMBER, MONTH));
+
+        // 같은 이벤트가 다시 와도 한 번만 반영
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(3L, 2_000))));
+        assertEquals(Optional.of(BigDecimal.valueOf(3_500)), revenue());
+    }
+
+    @Test
+    public void testLateCommittedSmallerIdIsNotDropped() {
+        // 재구성 시점에 ID 1, 5 만 커밋됨 (ID 3 트랜잭션은 아직 진행 중)
+        sales.add(saleRow(1L, 100, PaymentTypeEnum.CARD));
+        sales.add(saleRow(5L, 100, PaymentTypeEnum.CARD));
+        store.rebuild();
+
+        // 늦게 커밋된 ID 3 이 이벤트로 들어옴 -> 최대 ID(5)보다 작아도 적재
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(3L, 100))));
+
+        assertEquals(Optional.of(BigDecimal.valueOf(300)), revenue());
+    }
+
+    @Test
+    public void testRebuildAfterIngestDoesNotDoubleCount() {
+        sales.add(saleRow(1L, 100, PaymentTypeEnum.CARD));
+        store.rebuild();
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(2L, 100))));
+
+        // DB 에 저장된 2 를 포함해 다시 읽은 뒤 같은 이벤트가 늦게 도착
+        sales.add(saleRow(2L, 100, PaymentTypeEnum.CARD));
+        store.rebuild();
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(2L, 100))));
+
+        assertEquals(Optional.of(BigDecimal.valueOf(200)), revenue());
+    }
+
+    @Test
+    public void testNoDataIsEmpty() {
+        store.rebuild();
+
+        // 행이 없으면 0 이 아니라 empty (호출부 DB sum() 이 null 반환)
+        assertEquals(Optional.empty(), store.monthlyRevenue(EMPTY_MEMBER, MONTH));
+        assertEquals(Optional.empty(), store.totalExpenses(EMPTY_MEMBER, MONTH));
+        assertEquals(Optional.of(Map.of()), store.categoryExpenses(EMPTY_MEMBER, MONTH));
+        // 알 수 없는 회원 / 다른 달
+        assertEquals(Optional.empty(), store.monthlyRevenue(99L, MONTH));
+        assertEquals(Optional.empty(), store.monthlyRevenue(MEMBER, MONTH.minusMonths(1)));
+        assertFalse(store.covers(MONTH.minusMonths(1)));
+    }
+
+    @Test
+    public void testSecondInstanceSeesRowsIngestedOnFirst() {
+        sales.add(saleRow(1L, 100, PaymentTypeEnum.CARD));
+        CurrentMonthHotStore other = newStore();
+        store.rebuild();
+        other.rebuild();
+
+        // 첫 번째 서버가 수집: DB 저장 + 자기 서버에만 이벤트
+        sales.add(saleRow(2L, 200, PaymentTypeEnum.CARD));
+        expenses.add(new CurrentMonthLoader.ExpenseRow(8L, ACCOUNT_ID, DAY_ONE, BigDecimal.valueOf(70), "재료비"));
+        store.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(2L, 200))));
+        store.onAccountHistoryIngested(new AccountHistoryIngestedEvent(List.of(expense(8L, 70, "재료비"))));
+        assertEquals(Optional.of(BigDecimal.valueOf(100)), other.monthlyRevenue(MEMBER, MONTH));
+
+        // 두 번째 서버는 주기적 DB 반영 후 같은 값
+        other.refresh();
+        assertEquals(Optional.of(BigDecimal.valueOf(300)), other.monthlyRevenue(MEMBER, MONTH));
+        assertEquals(Optional.of(BigDecimal.valueOf(70)), other.totalExpenses(MEMBER, MONTH));
+        long[] scanned = new long[1];
+        assertTrue(other.scanSales(POS_ID, MONTH, (rowId, won) -> scanned[0] += won));
+        assertEquals(300L, scanned[0]);
+
+        // 이벤트로 이미 받은 행은 DB 반영에서 다시 더하지 않음
+        store.refresh();
+        assertEquals(Optional.of(BigDecimal.valueOf(300)), revenue());
+        assertEquals(Optional.of(BigDecimal.valueOf(70)), store.totalExpenses(MEMBER, MONTH));
+    }
+
+    @Test
+    public void testRefreshPicksUpRowCommittedOneIntervalLate() {
+        sales.add(saleRow(5L, 100, PaymentTypeEnum.CARD));
+        store.rebuild();
+
+        // 6, 8 은 커밋됨, 7 은 아직 트랜잭션 진행 중
+        sales.add(saleRow(6L, 100, PaymentTypeEnum.CARD));
+        sales.add(saleRow(8L, 100, PaymentTypeEnum.CARD));
+        store.refresh();
+        assertEquals(Optional.of(BigDecimal.valueOf(300)), revenue());
+
+        // 다음 반영은 한 주기 전 최대 ID(5) 이후부터 -> 늦게 커밋된 7 포함, 6 / 8 은 중복 제거
+        sales.add(saleRow(7L, 100, PaymentTypeEnum.CARD));
+        store.refresh();
+        assertEquals(Optional.of(BigDecimal.valueOf(400)), revenue());
+    }
+
+    @Test
+    public void testStaleStoreFallsBackToDb() {
+        sales.add(saleRow(1L, 100, PaymentTypeEnum.CARD));
+        store.rebuild();
+
+        // 마지막 반영 후 허용 시간이 지난 상태
+        ReflectionTestUtils.setField(store, "maxStalenessMs", -1L);
+        assertFalse(store.covers(MONTH));
+        assertEquals(Optional.empty(), revenue());
+        assertFalse(store.scanSales(POS_ID, MONTH, (rowId, won) -> { }));
+    }
+}
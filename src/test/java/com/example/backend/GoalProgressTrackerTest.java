@@ -0,0 +1,270 @@
+package com.example.backend;
+
+import com.example.backend.event.GoalThresholdCrossedEvent;
+import com.example.backend.event.MonthClosedEvent;
+import com.example.backend.event.PosSalesIngestedEvent;
+import com.example.backend.model.BUSINESS.BusinessRegistration;
+import com.example.backend.model.BUSINESS.Goals;
+import com.example.backend.model.POS.Pos;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.repository.GoalsRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import com.example.backend.service.BUSINESS.GoalProgress;
+import com.example.backend.service.BUSINESS.GoalProgressTracker;
+import com.example.backend.service.hotstore.CurrentMonthHotStore;
+import com.example.backend.service.hotstore.CurrentMonthLoader;
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 목표 진행 추적: 적재 도중 들어온 이벤트 보존, 기준 도달 이벤트는 동시 수집에서도 한 번만, 마감 월은 스냅샷 + 정리
+public class GoalProgressTrackerTest {
+
+    private static final YearMonth MONTH = YearMonth.now();
+    private static final long MEMBER_ID = 1L;
+    private static final long POS_ID = 10L;
+
+    @TempDir
+    Path snapshotDir;
+
+    private final List<CurrentMonthLoader.SaleRow> loadedSales = new ArrayList<>();
+    private final List<Object> published = new CopyOnWriteArrayList<>();
+    private final AtomicInteger goalLookups = new AtomicInteger();
+
+    private GoalsRepository goalsRepository;
+    private CurrentMonthHotStore hotStore;
+    private MonthSnapshotStore snapshotStore;
+    private GoalProgressTracker tracker;
+    private BusinessRegistration business;
+
+    @BeforeEach
+    public void setUp() {
+        CurrentMonthLoader fakeLoader = new CurrentMonthLoader(null) {
+            @Override
+            public Rows load(YearMonth month) {
+                return new Rows(Map.of(MEMBER_ID, POS_ID), Map.of(), new ArrayList<>(loadedSales), List.of());
+            }
+        };
+        hotStore = new CurrentMonthHotStore(fakeLoader, new ScheduledJobGuard(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(hotStore, "maxStalenessMs", 300_000L);
+        ReflectionTestUtils.setField(hotStore, "enabled", true);
+
+        snapshotStore = new MonthSnapshotStore(new ObjectMapper());
+        ReflectionTestUtils.setField(snapshotStore, "snapshotDir", snapshotDir.toString());
+        snapshotStore.init();
+
+        goalsRepository = mock(GoalsRepository.class);
+        when(goalsRepository.findByBusinessRegistration_BusinessRegistrationIdAndGoalMonth(any(), any()))
+                .thenAnswer(invocation -> {
+                    goalLookups.incrementAndGet();
+                    return Optional.of(goal(10_000));
+                });
+
+        tracker = new GoalProgressTracker(null, goalsRepository, snapshotStore, hotStore, published::add);
+        ReflectionTestUtils.setField(tracker, "thresholds", new int[]{50, 80, 100});
+        ReflectionTestUtils.setField(tracker, "ttlMinutes", 10L);
+
+        business = new BusinessRegistration();
+        business.setBusinessRegistrationId(100L);
+        business.setPos(Pos.builder().posId(POS_ID).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        snapshotStore.close();
+    }
+
+    private static Goals goal(long revenueGoal) {
+        Goals goal = new Goals();
+        goal.setRevenueGoal(BigDecimal.valueOf(revenueGoal));
+        goal.setExpenseGoal(BigDecimal.ZERO);
+        return goal;
+    }
+
+    private static PosSales sale(long id, long amount, YearMonth month) {
+        return PosSales.builder()
+                .posSalesId(id)
+                .posId(Pos.builder().posId(POS_ID).build())
+                .orderTime(month.atDay(1).atTime(12, 0))
+                .totalPrice(BigDecimal.valueOf(amount))
+                .productName("아메리카노")
+                .paymentType(PaymentTypeEnum.CARD)
+                .build();
+    }
+
+    // POS 수집처럼 저장소와 추적기에 같은 이벤트 전달
+    private void ingest(PosSales... sales) {
+        PosSalesIngestedEvent event = new PosSalesIngestedEvent(List.of(sales));
+        hotStore.onPosSalesIngested(event);
+        tracker.onPosSalesIngested(event);
+    }
+
+    private List<Integer> crossedThresholds() {
+        List<Integer> thresholds = new ArrayList<>();
+        for (Object event : published) {
+            if (event instanceof GoalThresholdCrossedEvent crossed) {
+                thresholds.add(crossed.getThreshold());
+            }
+        }
+        return thresholds;
+    }
+
+    @Test
+    public void testEventDuringLoadIsNotDropped() throws Exception {
+        loadedSales.add(new CurrentMonthLoader.SaleRow(1L, POS_ID, MONTH.atDay(1).atTime(9, 0), BigDecimal.valueOf(1_000), "아메리카노", PaymentTypeEnum.CARD));
+        hotStore.rebuild();
+
+        // 목표 조회(적재 첫 단계)에서 멈춰 두고 그 사이에 수집 이벤트 발생
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(goalsRepository.findByBusinessRegistration_BusinessRegistrationIdAndGoalMonth(any(), any()))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(goal(10_000));
+                });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<GoalProgress> first = executor.submit(() -> tracker.get(MEMBER_ID, business, MONTH));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            ingest(sale(2L, 3_000, MONTH), sale(1L, 1_000, MONTH)); // 1 은 적재 대상과 중복
+            release.countDown();
+
+            GoalProgress progress = first.get(5, TimeUnit.SECONDS);
+            assertEquals(BigDecimal.valueOf(4_000), progress.getActualRevenue());
+            assertEquals(40, progress.getRevenuePercent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThresholdCrossedOnceUnderConcurrentIngest() throws Exception {
+        hotStore.rebuild();
+        tracker.get(MEMBER_ID, business, MONTH);
+
+        // 100원짜리 100건을 동시에 수집 -> 목표 10,000원의 50 / 80 / 100% 를 각각 정확히 한 번
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long id = 1; id <= 100; id++) {
+                long saleId = id;
+                futures.add(executor.submit(() -> ingest(sale(saleId, 100, MONTH))));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(BigDecimal.valueOf(10_000), tracker.get(MEMBER_ID, business, MONTH).getActualRevenue());
+        List<Integer> thresholds = crossedThresholds();
+        thresholds.sort(Integer::compareTo);
+        assertEquals(List.of(50, 80, 100), thresholds);
+
+        // 같은 행이 다시 와도 합계 / 기준 이벤트 변화 없음
+        ingest(sale(100L, 100, MONTH));
+        assertEquals(BigDecimal.valueOf(10_000), tracker.get(MEMBER_ID, business, MONTH).getActualRevenue());
+        assertEquals(3, crossedThresholds().size());
+    }
+
+    @Test
+    public void testClosedMonthUsesSnapshotAndEvictsTracking() throws Exception {
+        YearMonth lastMonth = MONTH.minusMonths(1);
+        hotStore.rebuild();
+        tracker.get(MEMBER_ID, business, MONTH);
+        assertEquals(1, goalLookups.get());
+
+        snapshotStore.freeze(lastMonth, Map.of(MEMBER_ID, Map.of(
+                SnapshotKind.MONTHLY_REVENUE, BigDecimal.valueOf(7_000),
+                SnapshotKind.TOTAL_EXPENSE, BigDecimal.valueOf(3_000))));
+
+        GoalProgress closed = tracker.get(MEMBER_ID, business, lastMonth);
+        assertEquals(BigDecimal.valueOf(7_000), closed.getActualRevenue());
+        assertEquals(BigDecimal.valueOf(3_000), closed.getActualExpense());
+        assertEquals(70, closed.getRevenuePercent());
+
+        // 마감된 월 행이 늦게 들어와도 스냅샷 값 유지
+        ingest(sale(50L, 1_000, lastMonth));
+        assertEquals(BigDecimal.valueOf(7_000), tracker.get(MEMBER_ID, business, lastMonth).getActualRevenue());
+
+        // 이번 달이 마감되면 추적 항목이 정리되어 다음 조회 때 다시 읽음
+        tracker.onMonthClosed(new MonthClosedEvent(MONTH));
+        int lookups = goalLookups.get();
+        tracker.get(MEMBER_ID, business, MONTH);
+        assertEquals(lookups + 1, goalLookups.get());
+    }
+
+    @Test
+    public void testExpiredProgressIsReloaded() throws Exception {
+        hotStore.rebuild();
+        ReflectionTestUtils.setField(tracker, "ttlMinutes", 0L);
+
+        tracker.get(MEMBER_ID, business, MONTH);
+        Thread.sleep(5);
+        // 다른 서버에서 수집되어 이 서버는 이벤트를 받지 못한 행 -> 다시 읽을 때 반영
+        hotStore.onPosSalesIngested(new PosSalesIngestedEvent(List.of(sale(7L, 2_500, MONTH))));
+
+        assertEquals(BigDecimal.valueOf(2_500), tracker.get(MEMBER_ID, business, MONTH).getActualRevenue());
+        assertEquals(2, goalLookups.get());
+    }
+
+    @Test
+    public void testNoDataReportsNull() throws Exception {
+        hotStore.rebuild();
+
+        // 행이 없는 이번 달, 계좌가 없는 사업자의 지출 -> 기존 조회처럼 null
+        GoalProgress progress = tracker.get(MEMBER_ID, business, MONTH);
+        assertNull(progress.getActualRevenue());
+        assertNull(progress.getActualExpense());
+
+        ingest(sale(3L, 1_000, MONTH));
+        assertEquals(BigDecimal.valueOf(1_000), tracker.get(MEMBER_ID, business, MONTH).getActualRevenue());
+        assertNull(tracker.get(MEMBER_ID, business, MONTH).getActualExpense());
+    }
+
+    @Test
+    public void testPastMonthIsAggregatedWithoutTracking() throws Exception {
+        YearMonth lastMonth = MONTH.minusMonths(1);
+        BusinessRegistration noPos = new BusinessRegistration();
+        noPos.setBusinessRegistrationId(200L);
+
+        // 마감 전 지난 달은 매번 집계해서 응답하고 추적 항목으로 남기지 않음
+        assertNull(tracker.get(MEMBER_ID, noPos, lastMonth).getActualRevenue());
+        assertNull(tracker.get(MEMBER_ID, noPos, lastMonth).getActualRevenue());
+        assertEquals(2, goalLookups.get());
+        assertEquals(0, ((Map<?, ?>) ReflectionTestUtils.getField(tracker, "progresses")).size());
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend;
+
+import com.example.backend.model.BUSINESS.MarketReport;
+import com.example.backend.repository.EconomicIndicatorRepository;
+import com.example.backend.repository.MarketReportRepository;
+import com.example.backend.repository.PromptRepository;
+import com.example.backend.scheduler.ScheduledJobGuard;
+import com.example.backend.service.BUSINESS.MarketDataStore;
+import com.example.backend.service.BUSINESS.MarketReportService;
+import com.example.backend.service.BUSINESS.ReportCatalog;
+import com.example.backend.service.RedisService;
+import com.example.backend.service.cache.SingleFlight;
+import com.example.backend.service.llm.LlmClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 시장 동향 보고서는 사업자 수와 상관없이 월마다 LLM 을 한 번만 호출해야 함
+public class MarketReportServiceTest {
+
+    // 호출 횟수만 세는 가짜 LLM
+    private final AtomicInteger llmCalls = new AtomicInteger();
+    private final List<Map<String, Object>> requests = new CopyOnWriteArrayList<>();
+    private final LlmClient fakeLlmClient = requestBody -> {
+        llmCalls.incrementAndGet();
+        requests.add(requestBody);
+        return Map.of("month", 11, "recommendation", "테스트 권장 사항");
+    };
+
+    private final Map<LocalDate, MarketReport> stored = new ConcurrentHashMap<>();
+    private MarketReportService marketReportService;
+
+    @BeforeEach
+    public void setUp() {
+        MarketReportRepository marketReportRepository = mock(MarketReportRepository.class);
+        when(marketReportRepository.findByReportMonth(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<LocalDate>getArgument(0))));
+        when(marketReportRepository.save(any())).thenAnswer(invocation -> {
+            MarketReport report = invocation.getArgument(0);
+            stored.put(report.getReportMonth(), report);
+            return report;
+        });
+
+        EconomicIndicatorRepository economicIndicatorRepository = mock(EconomicIndicatorRepository.class);
+        when(economicIndicatorRepository.findAll()).thenReturn(List.of());
+        PromptRepository promptRepository = mock(PromptRepository.class);
+        when(promptRepository.findAll()).thenReturn(List.of());
+        MarketDataStore marketDataStore = new MarketDataStore(economicIndicatorRepository, promptRepository,
+                new ScheduledJobGuard(new SimpleMeterRegistry()));
+
+        // SET NX 만 지키는 인메모리 Redis
+        Map<String, String> locks = new ConcurrentHashMap<>();
+        RedisService redis = new RedisService() {
+            @Override
+            public boolean setIfAbsent(String key, String value, Duration ttl) {
+                return locks.putIfAbsent(key, value) == null;
+            }
+
+            @Override
+            public void deleteIfValue(String key, String value) {
+                locks.remove(key, value);
+            }
+        };
+        SingleFlight singleFlight = new SingleFlight(redis);
+        ReflectionTestUtils.setField(singleFlight, "lockTtlSeconds", 120L);
+        ReflectionTestUtils.setField(singleFlight, "waitSeconds", 5L);
+        ReflectionTestUtils.setField(singleFlight, "initialPollMillis", 10L);
+        ReflectionTestUtils.setField(singleFlight, "pollMillis", 50L);
+
+        marketReportService = new MarketReportService(marketReportRepository, marketDataStore, fakeLlmClient, new ObjectMapper(),
+                mock(ReportCatalog.class), singleFlight);
+    }
+
+    @Test
+    public void generatesOncePerMonthForAllTenants() throws Exception {
+        YearMonth month = YearMonth.of(2024, 11);
+        int tenants = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < tenants; i++) {
+                results.add(executor.submit(() -> marketReportService.getOrCreate(month)));
+            }
+            String first = results.get(0).get();
+            for (Future<String> result : results) {
+                assertEquals(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, llmCalls.get());
+
+        marketReportService.getOrCreate(month.plusMonths(1));
+        marketReportService.getOrCreate(month.plusMonths(1));
+        assertEquals(2, llmCalls.get());
+    }
+
+    @Test
+    public void systemMessageCarriesMonthAndIndicators() {
+        marketReportService.generate(YearMonth.of(2024, 11));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> messages = (List<Map<String, Object>>) requests.get(0).get("messages");
+        Map<String, Object> system = messages.get(0);
+        assertEquals(Set.of("role", "content"), system.keySet());
+        String content = (String) system.get("content");
+        assertTrue(content.contains("11월"));
+        assertTrue(content.contains("BSI 지수: 데이터 없음"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.backend;
+
+import com.example.backend.util.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// long 원화 연산이 기존 BigDecimal HALF_UP 계산과 같은 값을 내는지 확인 (음수 포함)
+public class MoneyTest {
+
+    @Test
+    public void testToWon() {
+        assertEquals(0L, Money.toWon(null));
+        assertEquals(1235L, Money.toWon(new BigDecimal("1234.5")));
+        assertEquals(-1235L, Money.toWon(new BigDecimal("-1234.5")));
+        assertEquals(1234L, Money.toWon(new BigDecimal("1234.4")));
+    }
+
+    @Test
+    public void testDivideHalfUp() {
+        assertEquals(2L, Money.divideHalfUp(5, 3));
+        assertEquals(3L, Money.divideHalfUp(5, 2));
+        assertEquals(-3L, Money.divideHalfUp(-5, 2));
+        assertEquals(-3L, Money.divideHalfUp(5, -2));
+        assertEquals(3L, Money.divideHalfUp(-5, -2));
+        assertEquals(-2L, Money.divideHalfUp(-5, 3));
+        assertEquals(-1L, Money.divideHalfUp(-4, 3));
+        assertEquals(0L, Money.divideHalfUp(0, 7));
+
+        // BigDecimal.divide(divisor, HALF_UP) 와 동일한지 전수 비교
+        for (long won = -1000; won <= 1000; won++) {
+            for (long divisor : new long[]{-7, -3, -2, 1, 2, 3, 7, 100}) {
+                long expected = BigDecimal.valueOf(won).divide(BigDecimal.valueOf(divisor), RoundingMode.HALF_UP).longValueExact();
+                assertEquals(expected, Money.divideHalfUp(won, divisor), won + " / " + divisor);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentOf() {
+        assertEquals(500L, Money.percentOf(10_000, 5));
+        // 12,345 * 3% = 370.35 -> 370, 12,350 * 3% = 370.5 -> 371
+        assertEquals(370L, Money.percentOf(12_345, 3));
+        assertEquals(371L, Money.percentOf(12_350, 3));
+        assertEquals(-371L, Money.percentOf(-12_350, 3));
+        assertEquals(0L, Money.percentOf(10_000, 0));
+    }
+
+    @Test
+    public void testToApproxManwon() {
+        // 기존 프롬프트 예시 (5145000 -> 약 515만원, 11814000 -> 약 1181만원)
+        assertEquals("약 515만원", Money.toApproxManwon(5_145_000));
+        assertEquals("약 1181만원", Money.toApproxManwon(11_814_000));
+        // 5,000원은 올림, 4,999원은 버림
+        assertEquals("약 1만원", Money.toApproxManwon(5_000));
+        assertEquals("약 0만원", Money.toApproxManwon(4_999));
+        assertEquals("약 2만원", Money.toApproxManwon(15_000));
+        assertEquals("약 0만원", Money.toApproxManwon(0));
+        // 음수는 0 에서 먼 쪽으로 반올림 (BigDecimal HALF_UP 과 동일)
+        assertEquals("약 -1만원", Money.toApproxManwon(-5_000));
+        assertEquals("약 0만원", Money.toApproxManwon(-4_999));
+        assertEquals("약 -515만원", Money.toApproxManwon(-5_145_000));
+        assertEquals("약 -2만원", Money.toApproxManwon(-15_000));
+    }
+
+    @Test
+    public void testOverflow() {
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.percentOf(Long.MAX_VALUE, 10));
+    }
+}
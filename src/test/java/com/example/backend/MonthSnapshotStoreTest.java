@@ -0,0 +1,111 @@
+package com.example.backend;
+
+import com.example.backend.service.snapshot.MonthSnapshotStore;
+import com.example.backend.service.snapshot.SnapshotKind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 월 마감 스냅샷: 기록 -> 조회 -> 재시작 후 조회, 손상된 파일은 건너뛰고 나머지는 정상 로드
+public class MonthSnapshotStoreTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 10);
+
+    @TempDir
+    Path dir;
+
+    private final List<MonthSnapshotStore> opened = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        opened.forEach(MonthSnapshotStore::close);
+    }
+
+    private MonthSnapshotStore open(Path snapshotDir) {
+        MonthSnapshotStore store = new MonthSnapshotStore(new ObjectMapper());
+        ReflectionTestUtils.setField(store, "snapshotDir", snapshotDir.toString());
+        store.init();
+        opened.add(store);
+        return store;
+    }
+
+    private static Map<Long, Map<SnapshotKind, Object>> aggregates() {
+        Map<SnapshotKind, Object> first = new EnumMap<>(SnapshotKind.class);
+        first.put(SnapshotKind.TOTAL_EXPENSE, new BigDecimal("1234500"));
+        first.put(SnapshotKind.NET_PROFIT, new BigDecimal("-5000"));
+        Map<SnapshotKind, Object> second = new EnumMap<>(SnapshotKind.class);
+        second.put(SnapshotKind.TOTAL_EXPENSE, new BigDecimal("99"));
+        return Map.of(1L, first, 2L, second);
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        MonthSnapshotStore store = open(dir);
+        assertFalse(store.isClosed(MONTH));
+
+        assertTrue(store.freeze(MONTH, aggregates()));
+
+        assertTrue(store.isClosed(MONTH));
+        assertEquals(Optional.of(new BigDecimal("1234500")), store.find(1L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+        assertEquals(Optional.of(new BigDecimal("-5000")), store.find(1L, MONTH, SnapshotKind.NET_PROFIT, BigDecimal.class));
+        assertEquals(Optional.of(new BigDecimal("99")), store.find(2L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+        // 기록하지 않은 종류 / 회원 / 월은 empty
+        assertEquals(Optional.empty(), store.find(2L, MONTH, SnapshotKind.NET_PROFIT, BigDecimal.class));
+        assertEquals(Optional.empty(), store.find(3L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+        assertEquals(Optional.empty(), store.find(1L, MONTH.minusMonths(1), SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+
+        // 이미 마감된 월은 덮어쓰지 않음
+        assertFalse(store.freeze(MONTH, Map.of(1L, Map.of(SnapshotKind.TOTAL_EXPENSE, BigDecimal.ONE))));
+        assertEquals(Optional.of(new BigDecimal("1234500")), store.find(1L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+    }
+
+    @Test
+    public void testReopen() throws Exception {
+        open(dir).freeze(MONTH, aggregates());
+
+        MonthSnapshotStore reopened = open(dir);
+
+        assertTrue(reopened.isClosed(MONTH));
+        assertEquals(Optional.of(new BigDecimal("1234500")), reopened.find(1L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+        assertEquals(Optional.of(new BigDecimal("99")), reopened.find(2L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+    }
+
+    @Test
+    public void testCorruptFilesAreSkipped(@TempDir Path other) throws Exception {
+        open(dir).freeze(MONTH, aggregates());
+        byte[] valid = Files.readAllBytes(dir.resolve(MONTH + ".snap"));
+
+        // 잘린 파일 (헤더는 정상, 항목이 중간에 끊김), 헤더가 아닌 파일, 빈 파일
+        Files.write(other.resolve("2024-10.snap"), Arrays.copyOf(valid, valid.length - 3));
+        Files.write(other.resolve("2024-11.snap"), "not a snapshot".getBytes());
+        Files.write(other.resolve("2024-12.snap"), new byte[0]);
+
+        MonthSnapshotStore store = open(other);
+
+        assertFalse(store.isClosed(MONTH));
+        assertFalse(store.isClosed(YearMonth.of(2024, 11)));
+        assertFalse(store.isClosed(YearMonth.of(2024, 12)));
+        assertEquals(Optional.empty(), store.find(1L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+
+        // 손상된 월도 다시 마감하면 정상 파일로 교체
+        assertTrue(store.freeze(MONTH, aggregates()));
+        assertEquals(Optional.of(new BigDecimal("99")), open(other).find(2L, MONTH, SnapshotKind.TOTAL_EXPENSE, BigDecimal.class));
+    }
+}
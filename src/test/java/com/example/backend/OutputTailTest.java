@@ -0,0 +1,56 @@
+package com.example.backend;
+
+import com.example.backend.scheduler.OutputTail;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 프로세스 출력 보관: 마지막 N줄만 유지, 긴 줄은 500자에서 자름, 용량은 최소 1줄
+public class OutputTailTest {
+
+    private static ByteArrayInputStream output(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testKeepsLastLines() {
+        OutputTail tail = new OutputTail(3);
+        StringBuilder text = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            text.append("줄").append(i).append('\n');
+        }
+        tail.drain(output(text.toString()));
+        assertEquals("줄8\n줄9\n줄10", tail.toString());
+    }
+
+    @Test
+    public void testFewerLinesThanCapacity() {
+        OutputTail tail = new OutputTail(5);
+        tail.drain(output("a\r\nb"));
+        assertEquals("a\nb", tail.toString());
+
+        assertEquals("", new OutputTail(5).toString());
+    }
+
+    @Test
+    public void testLongLineIsTruncated() {
+        OutputTail tail = new OutputTail(2);
+        tail.add("가".repeat(500));
+        tail.add("나".repeat(501));
+
+        String[] lines = tail.toString().split("\n");
+        assertEquals("가".repeat(500), lines[0]);
+        assertEquals("나".repeat(500) + "...", lines[1]);
+    }
+
+    @Test
+    public void testCapacityIsAtLeastOne() {
+        OutputTail tail = new OutputTail(0);
+        tail.add("first");
+        tail.add("second");
+        assertEquals("second", tail.toString());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.backend;
+
+import com.example.backend.service.llm.PartialJsonFieldParser;
+import com.example.backend.service.llm.PartialJsonFieldParser.FieldDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스트리밍 JSON 필드 추출: 이스케이프, 조각 사이에서 잘린 \\u, 한글 / 이모지, 중첩 값 건너뛰기
+public class PartialJsonFieldParserTest {
+
+    // 조각들을 순서대로 넣고 필드별로 이어 붙인 값 (완료된 필드만)
+    private static Map<String, String> completedFields(List<FieldDelta> deltas) {
+        Map<String, StringBuilder> texts = new LinkedHashMap<>();
+        Map<String, String> completed = new LinkedHashMap<>();
+        for (FieldDelta delta : deltas) {
+            texts.computeIfAbsent(delta.field(), field -> new StringBuilder()).append(delta.text());
+            if (delta.complete()) {
+                completed.put(delta.field(), texts.remove(delta.field()).toString());
+            }
+        }
+        return completed;
+    }
+
+    private static List<FieldDelta> feedAll(String... chunks) {
+        PartialJsonFieldParser parser = new PartialJsonFieldParser();
+        List<FieldDelta> deltas = new ArrayList<>();
+        for (String chunk : chunks) {
+            deltas.addAll(parser.feed(chunk));
+        }
+        return deltas;
+    }
+
+    // 모든 위치에서 한 글자씩 잘라 넣어도 결과가 같아야 함
+    private static List<FieldDelta> feedCharByChar(String json) {
+        String[] chunks = new String[json.length()];
+        for (int i = 0; i < json.length(); i++) {
+            chunks[i] = String.valueOf(json.charAt(i));
+        }
+        return feedAll(chunks);
+    }
+
+    @Test
+    public void testWholeObject() {
+        Map<String, String> fields = completedFields(feedAll("{\"summary\": \"매출 증가\", \"advice\": \"재고 관리\"}"));
+        assertEquals(Map.of("summary", "매출 증가", "advice", "재고 관리"), fields);
+    }
+
+    @Test
+    public void testPartialValueIsStreamed() {
+        PartialJsonFieldParser parser = new PartialJsonFieldParser();
+
+        List<FieldDelta> first = parser.feed("{\"summary\": \"매출이 ");
+        assertEquals(List.of(new FieldDelta("summary", "매출이 ", false)), first);
+
+        List<FieldDelta> second = parser.feed("늘었습니다\", \"adv");
+        assertEquals(List.of(new FieldDelta("summary", "늘었습니다", true)), second);
+
+        List<FieldDelta> third = parser.feed("ice\": \"유지\"}");
+        assertEquals(List.of(new FieldDelta("advice", "유지", true)), third);
+    }
+
+    @Test
+    public void testEscapes() {
+        String json = "{\"text\": \"줄\\n바꿈 \\\"인용\\\" 탭\\t역슬래시\\\\ 슬래시\\/\"}";
+        String expected = "줄\n바꿈 \"인용\" 탭\t역슬래시\\ 슬래시/";
+        assertEquals(Map.of("text", expected), completedFields(feedAll(json)));
+        assertEquals(Map.of("text", expected), completedFields(feedCharByChar(json)));
+    }
+
+    @Test
+    public void testUnicodeEscapeSplitAcrossChunks() {
+        // 한글 = "한글", 조각 경계가 \\u 와 16진수 사이 / 16진수 중간에 걸림
+        List<FieldDelta> deltas = feedAll("{\"text\": \"\\", "uD5", "5C\\u", "AE00\"}");
+        assertEquals(Map.of("text", "한글"), completedFields(deltas));
+
+        String json = "{\"text\": \"A\\uD55C\\uAE00B\"}";
+        assertEquals(Map.of("text", "A한글B"), completedFields(feedCharByChar(json)));
+    }
+
+    @Test
+    public void testSurrogatePairEscape() {
+        // 이모지는 \\uD83D\\uDE00 두 개로 옴 -> 이어 붙이면 한 글자
+        String json = "{\"text\": \"좋아요 \\uD83D\\uDE00\"}";
+        assertEquals(Map.of("text", "좋아요 😀"), completedFields(feedCharByChar(json)));
+    }
+
+    @Test
+    public void testMultibyteCharactersSplitAcrossChunks() {
+        // 이미 디코딩된 한글 / 이모지가 조각 경계에 걸려도 그대로 이어짐
+        String value = "월 매출 😀 증가";
+        String json = "{\"summary\": \"" + value + "\"}";
+        assertEquals(Map.of("summary", value), completedFields(feedCharByChar(json)));
+    }
+
+    @Test
+    public void testNestedAndNonStringValuesAreSkipped() {
+        String json = "{\"count\": 12, \"ratio\": -0.5, \"flag\": true, \"none\": null, "
+                + "\"items\": [{\"name\": \"}]\\\"\"}, [1, 2]], "
+                + "\"detail\": {\"inner\": \"무시\", \"deep\": {\"x\": \"}\"}}, "
+                + "\"summary\": \"마지막\"}";
+        Map<String, String> fields = completedFields(feedAll(json));
+        assertEquals(Map.of("summary", "마지막"), fields);
+        assertEquals(fields, completedFields(feedCharByChar(json)));
+    }
+
+    @Test
+    public void testStopsAfterTopLevelObject() {
+        List<FieldDelta> deltas = feedAll("{\"a\": \"1\", \"n\": 3}", " {\"b\": \"2\"}");
+        assertEquals(Map.of("a", "1"), completedFields(deltas));
+    }
+
+    @Test
+    public void testLeadingTextBeforeObjectIsIgnored() {
+        // 코드 블록 등 앞에 붙은 텍스트
+        List<FieldDelta> deltas = feedAll("```json\n", "{\"a\": \"값\"}\n```");
+        assertEquals(Map.of("a", "값"), completedFields(deltas));
+    }
+
+    @Test
+    public void testEscapedQuoteInKey() {
+        Map<String, String> fields = completedFields(feedAll("{\"a\\\"b\": \"값\"}"));
+        assertEquals(Map.of("a\"b", "값"), fields);
+    }
+
+    @Test
+    public void testIncompleteValueIsNotMarkedComplete() {
+        List<FieldDelta> deltas = feedAll("{\"summary\": \"작성 중");
+        assertFalse(deltas.isEmpty());
+        assertTrue(deltas.stream().noneMatch(FieldDelta::complete));
+        assertTrue(completedFields(deltas).isEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend;
+
+import com.example.backend.dto.account.ExpenseDTO;
+import com.example.backend.dto.pos.DailyIncomeDTO;
+import com.example.backend.dto.pos.MonthlyIncomeDTO;
+import com.example.backend.service.BUSINESS.ReportPromptBuilder;
+import com.example.backend.service.llm.TokenEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 프롬프트 데이터: 토큰 예산에 따라 일별 -> 주별 -> 요약, 지출 카테고리 전체 -> 상위 8 -> 상위 3 + 기타, 빈 입력 / null 처리
+public class ReportPromptBuilderTest {
+
+    private static final Map<String, Object> AVERAGE_INCOME = Map.of(
+            "averageMonthlyIncome", new BigDecimal("12000000.4"),
+            "averageMonthlyCardIncome", 9_000_000L,
+            "averageMonthlyCashIncome", 3_000_000.5,
+            "morningSales", 1_000_000,
+            "afternoonSales", 2_000_000,
+            "eveningSales", 3_000_000,
+            "peakSalesPeriod", "저녁");
+    private static final Map<String, Object> AVERAGE_EXPENSE = Map.of("averageExpense", new BigDecimal("7000000"));
+
+    private ReportPromptBuilder builder;
+
+    @BeforeEach
+    public void setUp() {
+        builder = new ReportPromptBuilder();
+        budget(100_000);
+    }
+
+    private void budget(int tokens) {
+        ReflectionTestUtils.setField(builder, "tokenBudget", tokens);
+    }
+
+    // 1일 ~ days 일 매출 (일 * 10,000원), 10일은 휴무(0원)
+    private static MonthlyIncomeDTO income(int days) {
+        List<DailyIncomeDTO> list = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            BigDecimal amount = day == 10 ? BigDecimal.ZERO : BigDecimal.valueOf(day * 10_000L);
+            list.add(new DailyIncomeDTO(LocalDate.of(2025, 1, day), amount, amount, BigDecimal.ZERO));
+        }
+        return new MonthlyIncomeDTO(BigDecimal.valueOf(5_000_000), BigDecimal.valueOf(4_000_000), BigDecimal.valueOf(1_000_000), list);
+    }
+
+    // 카테고리1 ~ 카테고리N, 번호가 클수록 금액이 큼
+    private static ExpenseDTO expense(int categories) {
+        Map<String, BigDecimal> byCategory = new LinkedHashMap<>();
+        for (int i = 1; i <= categories; i++) {
+            byCategory.put("카테고리" + i, BigDecimal.valueOf(i * 1_000L));
+        }
+        return new ExpenseDTO(BigDecimal.valueOf(3_000_000), BigDecimal.ZERO, byCategory);
+    }
+
+    private static String line(String prompt, String prefix) {
+        for (String line : prompt.split("\n")) {
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testDailyDetailWithinBudget() {
+        String prompt = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, income(12), expense(10));
+
+        assertEquals("업계평균: 매출=12000000, 카드=9000000, 현금=3000001, 지출=7000000", line(prompt, "업계평균:"));
+        assertEquals("업계시간대매출: 오전=1000000, 오후=2000000, 저녁=3000000, 피크=저녁", line(prompt, "업계시간대매출:"));
+        assertEquals("나: 매출=5000000, 카드=4000000, 현금=1000000, 지출=3000000", line(prompt, "나:"));
+        // 전체 카테고리 금액 큰 순, 기타 없음
+        assertEquals("나의지출카테고리: 카테고리10=10000, 카테고리9=9000, 카테고리8=8000, 카테고리7=7000, 카테고리6=6000, "
+                + "카테고리5=5000, 카테고리4=4000, 카테고리3=3000, 카테고리2=2000, 카테고리1=1000", line(prompt, "나의지출카테고리:"));
+        // 0원인 날(10일)은 생략
+        assertEquals("나의일별매출(일=금액, 없는 날 0): 1=10000, 2=20000, 3=30000, 4=40000, 5=50000, 6=60000, 7=70000, "
+                + "8=80000, 9=90000, 11=110000, 12=120000", line(prompt, "나의일별매출"));
+    }
+
+    @Test
+    public void testOverBudgetFallsBackToWeeklyAndTopEight() {
+        String daily = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, income(31), expense(10));
+        budget(TokenEstimator.estimate(daily) - 1);
+
+        String prompt = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, income(31), expense(10));
+        assertTrue(TokenEstimator.estimate(prompt) < TokenEstimator.estimate(daily));
+        assertEquals(null, line(prompt, "나의일별매출"));
+        // 1주 = 1~7일, 2주 = 8~14일(10일 휴무), ..., 5주 = 29~31일
+        assertEquals("나의주별매출: 1주=280000, 2주=670000, 3주=1260000, 4주=1750000, 5주=900000", line(prompt, "나의주별매출:"));
+        assertEquals("나의지출카테고리: 카테고리10=10000, 카테고리9=9000, 카테고리8=8000, 카테고리7=7000, 카테고리6=6000, "
+                + "카테고리5=5000, 카테고리4=4000, 카테고리3=3000, 기타=3000", line(prompt, "나의지출카테고리:"));
+    }
+
+    @Test
+    public void testTinyBudgetUsesSummaryAndTopThree() {
+        budget(1);
+
+        // 예산보다 커도 가장 짧은 요약본 반환
+        String prompt = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, income(31), expense(10));
+        assertEquals("나의지출카테고리: 카테고리10=10000, 카테고리9=9000, 카테고리8=8000, 기타=28000", line(prompt, "나의지출카테고리:"));
+        // 영업일 30일(10일 휴무), 평균 = (496 - 10) * 10,000 / 30 = 162,000
+        assertEquals("나의일매출: 평균=162000, 최고=310000(31일), 최저=0(10일), 영업일=30", line(prompt, "나의일매출:"));
+        assertTrue(line(prompt, "업계평균:") != null);
+    }
+
+    @Test
+    public void testFewCategoriesHaveNoOthers() {
+        budget(1);
+        String prompt = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, income(3), expense(3));
+        assertEquals("나의지출카테고리: 카테고리3=3000, 카테고리2=2000, 카테고리1=1000", line(prompt, "나의지출카테고리:"));
+    }
+
+    @Test
+    public void testNullAndEmptyInputs() {
+        String prompt = builder.industryComparisonData(null, Map.of(), null, null);
+        assertEquals("단위: 원\n"
+                + "업계평균: 매출=0, 카드=0, 현금=0, 지출=0\n"
+                + "업계시간대매출: 오전=0, 오후=0, 저녁=0, 피크=-\n"
+                + "나: 매출=0, 카드=0, 현금=0, 지출=0\n", prompt);
+
+        // 빈 목록 / 날짜 없는 행 / 금액 null
+        List<DailyIncomeDTO> days = new ArrayList<>();
+        days.add(new DailyIncomeDTO(null, BigDecimal.TEN, null, null));
+        MonthlyIncomeDTO noDates = new MonthlyIncomeDTO(null, null, null, days);
+        Map<String, BigDecimal> nullAmount = new LinkedHashMap<>();
+        nullAmount.put("식자재", null);
+        ExpenseDTO nullCategory = new ExpenseDTO(null, null, nullAmount);
+
+        String sparse = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE, noDates, nullCategory);
+        assertEquals("나: 매출=0, 카드=0, 현금=0, 지출=0", line(sparse, "나:"));
+        assertEquals("나의지출카테고리: 식자재=0", line(sparse, "나의지출카테고리:"));
+        assertFalse(sparse.contains("매출("));
+
+        String empty = builder.industryComparisonData(AVERAGE_INCOME, AVERAGE_EXPENSE,
+                new MonthlyIncomeDTO(null, null, null, List.of()), new ExpenseDTO(null, null, Map.of()));
+        assertEquals(null, line(empty, "나의지출카테고리:"));
+        assertEquals(null, line(empty, "나의일별매출"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend;
+
+import com.example.backend.scheduler.ScheduledJobGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스케줄 작업 가드: 실행 중이면 건너뛰고 skipped 집계, executor 로 넘긴 작업은 끝날 때까지 실행 중, 거절 / 예외 후에도 다음 실행 가능
+public class ScheduledJobGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledJobGuard guard;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ScheduledJobGuard(meterRegistry);
+    }
+
+    private double skipped(String job) {
+        return meterRegistry.counter("scheduler.job.skipped", "job", job).count();
+    }
+
+    @Test
+    public void testSubmitSkipsWhileRunningOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        try {
+            assertTrue(guard.submit("crawler", executor, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 실행 중에는 submit / run 모두 건너뜀
+            assertFalse(guard.submit("crawler", executor, runs::incrementAndGet));
+            assertFalse(guard.run("crawler", runs::incrementAndGet));
+            assertEquals(2.0, skipped("crawler"));
+            assertTrue(guard.isRunning("crawler"));
+
+            // 다른 작업은 영향 없음
+            assertTrue(guard.run("other", () -> {}));
+
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertFalse(guard.isRunning("crawler"));
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectedSubmitIsSkippedAndReleased() {
+        assertFalse(guard.submit("pregenerate", command -> {
+            throw new RejectedExecutionException("full");
+        }, () -> {}));
+        assertEquals(1.0, skipped("pregenerate"));
+        assertFalse(guard.isRunning("pregenerate"));
+
+        AtomicInteger runs = new AtomicInteger();
+        assertTrue(guard.submit("pregenerate", Runnable::run, runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void testFailureReleasesFlag() {
+        assertTrue(guard.run("sync", () -> {
+            throw new IllegalStateException("bank down");
+        }));
+        assertFalse(guard.isRunning("sync"));
+        assertTrue(guard.run("sync", () -> {}));
+        assertEquals(0.0, skipped("sync"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.backend;
+
+import com.example.backend.exception.base_exceptions.ServiceUnavailableException;
+import com.example.backend.service.RedisService;
+import com.example.backend.service.cache.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// single-flight: 락 소유자는 생성 후 해제, 대기자는 저장된 결과 사용, 만료된 락은 이어받고 대기는 wait-seconds 로 제한
+public class SingleFlightTest {
+
+    private static final String KEY = "report:1:2025-01-01:MARKET_REPORT";
+    private static final String LOCK_KEY = "lock:" + KEY;
+
+    // TTL 을 지키는 인메모리 Redis (SET NX / 값 일치 시 삭제만)
+    private static class FakeRedis extends RedisService {
+        private record Entry(String value, long expiresAt) {
+        }
+
+        private final Map<String, Entry> values = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean setIfAbsent(String key, String value, Duration ttl) {
+            long now = System.currentTimeMillis();
+            Entry entry = new Entry(value, now + ttl.toMillis());
+            return values.compute(key, (k, existing) -> existing == null || existing.expiresAt() <= now ? entry : existing) == entry;
+        }
+
+        @Override
+        public void deleteIfValue(String key, String value) {
+            values.computeIfPresent(key, (k, existing) -> existing.value().equals(value) ? null : existing);
+        }
+
+        boolean held(String key) {
+            Entry entry = values.get(key);
+            return entry != null && entry.expiresAt() > System.currentTimeMillis();
+        }
+    }
+
+    private final AtomicReference<String> stored = new AtomicReference<>();
+    private final AtomicInteger creates = new AtomicInteger();
+
+    private FakeRedis redis;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    public void setUp() {
+        redis = new FakeRedis();
+        singleFlight = new SingleFlight(redis);
+        ReflectionTestUtils.setField(singleFlight, "lockTtlSeconds", 120L);
+        ReflectionTestUtils.setField(singleFlight, "waitSeconds", 5L);
+        ReflectionTestUtils.setField(singleFlight, "initialPollMillis", 10L);
+        ReflectionTestUtils.setField(singleFlight, "pollMillis", 50L);
+    }
+
+    private String execute() {
+        return singleFlight.execute(KEY, () -> Optional.ofNullable(stored.get()), () -> {
+            creates.incrementAndGet();
+            stored.set("created");
+            return "created";
+        });
+    }
+
+    @Test
+    public void testOwnerCreatesAndReleasesLock() {
+        assertEquals("created", execute());
+        assertEquals(1, creates.get());
+        assertFalse(redis.held(LOCK_KEY));
+
+        // 이미 저장된 결과는 락 없이 조회만
+        assertEquals("created", execute());
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    public void testOwnerReleasesLockOnFailure() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(KEY, Optional::<String>empty, () -> {
+            throw new IllegalStateException("LLM 실패");
+        }));
+        assertFalse(redis.held(LOCK_KEY));
+    }
+
+    @Test
+    public void testWaiterUsesResultStoredByOwner() throws Exception {
+        // 다른 서버가 락을 잡고 생성 중
+        assertTrue(redis.setIfAbsent(LOCK_KEY, "other-node", Duration.ofSeconds(120)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> waiter = executor.submit(this::execute);
+            Thread.sleep(100);
+            assertFalse(waiter.isDone());
+
+            stored.set("from-other-node");
+            redis.deleteIfValue(LOCK_KEY, "other-node");
+
+            assertEquals("from-other-node", waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(0, creates.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExpiredLockIsTakenOver() {
+        // 락을 잡은 서버가 결과 없이 종료 -> TTL 이 지나면 대기자가 락을 잡고 생성
+        assertTrue(redis.setIfAbsent(LOCK_KEY, "dead-node", Duration.ofMillis(200)));
+
+        assertEquals("created", execute());
+        assertEquals(1, creates.get());
+        assertFalse(redis.held(LOCK_KEY));
+    }
+
+    @Test
+    public void testWaitIsBounded() {
+        ReflectionTestUtils.setField(singleFlight, "waitSeconds", 1L);
+        assertTrue(redis.setIfAbsent(LOCK_KEY, "other-node", Duration.ofSeconds(120)));
+
+        long started = System.currentTimeMillis();
+        assertThrows(ServiceUnavailableException.class, this::execute);
+        long waited = System.currentTimeMillis() - started;
+        assertTrue(waited >= 1_000 && waited < 3_000, "waited " + waited + "ms");
+        assertEquals(0, creates.get());
+    }
+
+    @Test
+    public void testConcurrentCallersInSameInstanceShareOneCreate() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(KEY, Optional::<String>empty, () -> {
+                creating.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                creates.incrementAndGet();
+                stored.set("created");
+                return "created";
+            })));
+            assertTrue(creating.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(this::execute));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("created", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, creates.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
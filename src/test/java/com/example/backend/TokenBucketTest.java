@@ -0,0 +1,92 @@
+package com.example.backend;
+
+import com.example.backend.util.ratelimit.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 토큰 버킷: capacity 만큼 몰아서 허용, 이후 분당 속도로 채워짐, acquire 는 토큰이 생길 때까지 대기
+public class TokenBucketTest {
+
+    @Test
+    public void testBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    public void testRefillsAtRate() throws Exception {
+        // 분당 6,000개 = 10ms 에 1개
+        TokenBucket bucket = new TokenBucket(1, 6_000);
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        Thread.sleep(30);
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    public void testRefillDoesNotExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(2, 60_000);
+        Thread.sleep(20); // 오래 쉬어도 capacity 까지만 쌓임
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    public void testAcquireWaitsForToken() throws Exception {
+        // 분당 600개 = 100ms 에 1개
+        TokenBucket bucket = new TokenBucket(1, 600);
+        bucket.acquire();
+
+        long started = System.nanoTime();
+        bucket.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertTrue(waitedMillis >= 80 && waitedMillis < 1_000, "waited " + waitedMillis + "ms");
+    }
+
+    @Test
+    public void testConcurrentAcquireIsLimitedByRate() throws Exception {
+        // capacity 2, 분당 1,200개(50ms 에 1개) -> 6개를 얻으려면 최소 4 * 50ms
+        TokenBucket bucket = new TokenBucket(2, 1_200);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        long started = System.nanoTime();
+        try {
+            Future<?>[] futures = new Future<?>[6];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    bucket.acquire();
+                    return acquired.incrementAndGet();
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertEquals(6, acquired.get());
+        assertTrue(elapsedMillis >= 180, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    public void testRejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, 0));
+    }
+}
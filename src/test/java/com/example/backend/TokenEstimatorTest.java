@@ -0,0 +1,41 @@
+package com.example.backend;
+
+import com.example.backend.service.llm.TokenEstimator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 토큰 추정: 영문 4글자 / 숫자 3자리당 1, 한글 / 기호는 글자당 1, 공백 0
+public class TokenEstimatorTest {
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, TokenEstimator.estimate(""));
+        assertEquals(0, TokenEstimator.estimate("   \n\t"));
+    }
+
+    @Test
+    public void testAsciiLettersAndDigits() {
+        assertEquals(1, TokenEstimator.estimate("abcd"));
+        assertEquals(2, TokenEstimator.estimate("abcde"));
+        assertEquals(1, TokenEstimator.estimate("123"));
+        assertEquals(2, TokenEstimator.estimate("1234"));
+        // 영문 -> 숫자 전환 시 각각 올림
+        assertEquals(2, TokenEstimator.estimate("a1"));
+        assertEquals(3, TokenEstimator.estimate("abc1234"));
+    }
+
+    @Test
+    public void testNonAsciiAndSymbols() {
+        assertEquals(2, TokenEstimator.estimate("한글"));
+        assertEquals(3, TokenEstimator.estimate("=,("));
+        // 매,출 + '=' + 1000 + ',' (공백 0)
+        assertEquals(6, TokenEstimator.estimate("매출=1000, "));
+    }
+
+    @Test
+    public void testPromptLine() {
+        // 나 (1) + ':' (1) + 매,출 (2) + '=' (1) + 5000000 (3) + ',' (1) + 카,드 (2) + '=' (1) + 4000000 (3)
+        assertEquals(15, TokenEstimator.estimate("나: 매출=5000000, 카드=4000000"));
+    }
+}